@@ -0,0 +1,83 @@
+package cz.svonavec.tennis.benchmark;
+
+import cz.svonavec.tennis.ReservationApplication;
+import cz.svonavec.tennis.models.entities.Court;
+import cz.svonavec.tennis.models.entities.Reservation;
+import cz.svonavec.tennis.models.entities.User;
+import cz.svonavec.tennis.repository.ReservationRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reservations inserted per second by ReservationRepository.createAll. With hibernate.jdbc.batch_size of 1
+ * every insert is a round trip to the database, with larger sizes inserts are sent in JDBC batches.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(InsertBenchmark.ROWS)
+public class InsertBenchmark {
+    static final int ROWS = 1000;
+
+    @Param({"1", "50"})
+    public int jdbcBatchSize;
+
+    private ConfigurableApplicationContext context;
+
+    private ReservationRepository reservationRepository;
+
+    private Court court;
+
+    private User user;
+
+    private LocalDateTime start = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ReservationApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run("--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize,
+                        "--logging.level.root=WARN");
+        reservationRepository = context.getBean(ReservationRepository.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        court = new Court();
+        court.setId(jdbcTemplate.queryForObject("SELECT MIN(id) FROM Court", Long.class));
+        user = new User();
+        user.setId(jdbcTemplate.queryForObject("SELECT MIN(id) FROM Users", Long.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Reservation> createAll() {
+        List<Reservation> reservations = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Reservation reservation = new Reservation();
+            reservation.setStartsAt(start);
+            reservation.setEndsAt(start.plusMinutes(60));
+            reservation.setCost(BigDecimal.valueOf(60));
+            reservation.setCourt(court);
+            reservation.setUser(user);
+            reservations.add(reservation);
+            start = start.plusMinutes(60);
+        }
+        return reservationRepository.createAll(reservations);
+    }
+}
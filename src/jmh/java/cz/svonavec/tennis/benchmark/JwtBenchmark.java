@@ -0,0 +1,86 @@
+package cz.svonavec.tennis.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import cz.svonavec.tennis.service.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares throughput of generating and validating tokens by JwtService with building the key and the parser for every
+ * call, as JwtService did before they were cached.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+    private static final String SECRET = "7a99b411eb69e9e0d8d1f9467ca853f3dd2c2ac930d5471b2b8b9c44edb9517e";
+    private static final String PHONE = "+420908123456";
+
+    private JwtService jwtService;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(JwtService.class)).setLevel(Level.WARN);
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 1800000L);
+        jwtService.init();
+        token = jwtService.generateTokenFromPhone(PHONE);
+    }
+
+    @Benchmark
+    public String generateCached() {
+        return jwtService.generateTokenFromPhone(PHONE);
+    }
+
+    @Benchmark
+    public boolean validateCached() {
+        return jwtService.validateTokenPhone(token, PHONE, "access");
+    }
+
+    @Benchmark
+    public String generateRebuilt() {
+        return Jwts.builder()
+                .setSubject(PHONE)
+                .claim("type", "access")
+                .setIssuedAt(new Date(System.currentTimeMillis()))
+                .setExpiration(new Date(System.currentTimeMillis() + 1800000L))
+                .signWith(rebuildKey())
+                .compact();
+    }
+
+    @Benchmark
+    public boolean validateRebuilt() {
+        // Token was parsed once for every checked claim
+        return PHONE.equals(rebuildAndParse().getSubject()) &&
+                rebuildAndParse().getExpiration().after(new Date()) &&
+                "access".equals(rebuildAndParse().get("type", String.class));
+    }
+
+    private Claims rebuildAndParse() {
+        return Jwts.parserBuilder()
+                .setSigningKey(rebuildKey())
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    private static SecretKey rebuildKey() {
+        return Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,154 @@
+package cz.svonavec.tennis.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import cz.svonavec.tennis.ReservationApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Load test comparing the application served by the Tomcat thread pool (platform) with virtual threads (virtual).
+ * For every mode the application is started on a random port with its own in-memory database and for every number of
+ * concurrent connections the clients repeatedly list courts, which goes through the security filter, a transactional
+ * facade and a JDBC query. Throughput and latency percentiles are printed and written to target/load-result.json.
+ *
+ * Arguments (all optional): modes=platform,virtual connections=1000,5000,10000 duration=20 (seconds per level)
+ */
+public class LoadTest {
+    private static final String PHONE = "+420111111111";
+    private static final String PASSWORD = "Password123";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] option = arg.split("=", 2);
+            options.put(option[0], option.length > 1 ? option[1] : "");
+        }
+        List<String> modes = Arrays.asList(options.getOrDefault("modes", "platform,virtual").split(","));
+        int[] connections = Arrays.stream(options.getOrDefault("connections", "1000,5000,10000").split(","))
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "20")));
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (String mode : modes) {
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(ReservationApplication.class)
+                    .logStartupInfo(false)
+                    .run("--server.port=0",
+                            "--spring.threads.virtual.enabled=" + "virtual".equals(mode),
+                            "--spring.datasource.url=jdbc:h2:mem:load-" + mode + ";DB_CLOSE_DELAY=-1",
+                            "--logging.level.root=WARN");
+            try {
+                String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                String token = login(baseUrl);
+                for (int level : connections) {
+                    Map<String, Object> result = run(baseUrl, token, level, duration);
+                    result.put("mode", mode);
+                    System.out.println(result);
+                    results.add(result);
+                }
+            } finally {
+                context.close();
+            }
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(new File("target/load-result.json"), results);
+    }
+
+    private static String login(String baseUrl) throws Exception {
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(
+                                    Map.of("phoneNumber", PHONE, "password", PASSWORD))))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            JsonNode body = objectMapper.readTree(response.body());
+            return body.get("accessToken").asText();
+        }
+    }
+
+    private static Map<String, Object> run(String baseUrl, String token, int connections, Duration duration)
+            throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/courts"))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<long[]>> workers = new ArrayList<>();
+        long errors = 0;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder().executor(executor).build()) {
+            for (int i = 0; i < connections; i++) {
+                workers.add(executor.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        long latency;
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            // Failed requests are counted as errors, not as latencies
+                            latency = response.statusCode() == 200 ? System.nanoTime() - start : -1;
+                        } catch (IOException e) {
+                            latency = -1;
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = latency;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+            List<long[]> collected = new ArrayList<>();
+            for (Future<long[]> worker : workers) {
+                try {
+                    collected.add(worker.get());
+                } catch (Exception e) {
+                    errors++;
+                }
+            }
+            long[] all = collected.stream().flatMapToLong(Arrays::stream).filter(latency -> latency >= 0).sorted()
+                    .toArray();
+            errors += collected.stream().flatMapToLong(Arrays::stream).filter(latency -> latency < 0).count();
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("connections", connections);
+            result.put("requests", all.length);
+            result.put("errors", errors);
+            result.put("throughput", all.length / (double) duration.toSeconds());
+            result.put("p50Ms", percentile(all, 0.5));
+            result.put("p99Ms", percentile(all, 0.99));
+            result.put("p999Ms", percentile(all, 0.999));
+            return result;
+        }
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
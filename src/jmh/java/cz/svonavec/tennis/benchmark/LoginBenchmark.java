@@ -0,0 +1,45 @@
+package cz.svonavec.tennis.benchmark;
+
+import cz.svonavec.tennis.config.CryptoConfig;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures authentication of a user by phone number and password with the same password encoder as the application
+ * uses. Loading of the user is served from memory, so the result is dominated by BCrypt.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoginBenchmark {
+    private static final String PHONE = "+420908123456";
+    private static final String PASSWORD = "Password123";
+
+    private DaoAuthenticationProvider authenticationProvider;
+
+    @Setup
+    public void setUp() {
+        PasswordEncoder passwordEncoder = new CryptoConfig().passwordEncoder();
+        String hash = passwordEncoder.encode(PASSWORD);
+        authenticationProvider = new DaoAuthenticationProvider();
+        authenticationProvider.setPasswordEncoder(passwordEncoder);
+        authenticationProvider.setUserDetailsService(phone -> User.withUsername(phone)
+                .password(hash)
+                .roles("USER")
+                .build());
+    }
+
+    @Benchmark
+    public Authentication login() {
+        return authenticationProvider.authenticate(new UsernamePasswordAuthenticationToken(PHONE, PASSWORD));
+    }
+}
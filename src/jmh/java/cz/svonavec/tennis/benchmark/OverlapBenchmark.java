@@ -0,0 +1,104 @@
+package cz.svonavec.tennis.benchmark;
+
+import cz.svonavec.tennis.ReservationApplication;
+import cz.svonavec.tennis.service.ReservationService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overlap check of a new reservation against a court that already has given number of reservations.
+ * Reservations are one hour long with half an hour gaps, so a probe either falls into a gap or into a reservation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OverlapBenchmark {
+    private static final LocalDateTime FIRST_START = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final int SLOT_MINUTES = 90;
+    private static final int BATCH_SIZE = 10_000;
+    private static final int PROBES = 1024;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int reservations;
+
+    private ConfigurableApplicationContext context;
+
+    private ReservationService reservationService;
+
+    private long courtId;
+
+    private LocalDateTime[] probes;
+
+    private int probe;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ReservationApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run("--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--logging.level.root=WARN");
+        reservationService = context.getBean(ReservationService.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        courtId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM Court", Long.class);
+        long userId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM Users", Long.class);
+        insertReservations(jdbcTemplate, userId);
+
+        probes = new LocalDateTime[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = slotStart((int) ((long) i * reservations / PROBES));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean freeSlot() {
+        LocalDateTime start = nextProbe().plusMinutes(60);
+        return reservationService.isOverlapping(start, start.plusMinutes(30), courtId, 0);
+    }
+
+    @Benchmark
+    public boolean conflictingSlot() {
+        LocalDateTime start = nextProbe().plusMinutes(15);
+        return reservationService.isOverlapping(start, start.plusMinutes(30), courtId, 0);
+    }
+
+    private LocalDateTime nextProbe() {
+        probe = (probe + 1) % PROBES;
+        return probes[probe];
+    }
+
+    private void insertReservations(JdbcTemplate jdbcTemplate, long userId) {
+        Timestamp createdAt = Timestamp.valueOf(FIRST_START);
+        for (int from = 0; from < reservations; from += BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>();
+            for (int i = from; i < Math.min(from + BATCH_SIZE, reservations); i++) {
+                LocalDateTime start = slotStart(i);
+                batch.add(new Object[]{false, Timestamp.valueOf(start), Timestamp.valueOf(start.plusMinutes(60)),
+                        60, courtId, userId, createdAt});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO Reservation (doubles, starts_at, ends_at, cost, court_id, user_id, " +
+                    "created_at) VALUES (?, ?, ?, ?, ?, ?, ?)", batch);
+        }
+    }
+
+    private static LocalDateTime slotStart(int index) {
+        return FIRST_START.plusMinutes((long) SLOT_MINUTES * index);
+    }
+}
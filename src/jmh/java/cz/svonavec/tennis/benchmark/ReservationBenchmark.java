@@ -0,0 +1,101 @@
+package cz.svonavec.tennis.benchmark;
+
+import cz.svonavec.tennis.mapper.CourtMapper;
+import cz.svonavec.tennis.mapper.ReservationMapper;
+import cz.svonavec.tennis.mapper.SurfaceTypeMapper;
+import cz.svonavec.tennis.models.dtos.ReservationDTO;
+import cz.svonavec.tennis.models.entities.Court;
+import cz.svonavec.tennis.models.entities.Reservation;
+import cz.svonavec.tennis.models.entities.SurfaceType;
+import cz.svonavec.tennis.models.entities.User;
+import cz.svonavec.tennis.models.pricing.PriceTable;
+import cz.svonavec.tennis.service.PricingService;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures calculation of the cost of a reservation, by the entity with BigDecimals and by PricingService from the
+ * compiled price table of the court, and mapping of a listing of reservations to DTOs, which is done for every
+ * reservation returned by the API.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReservationBenchmark {
+    @Param({"100", "10000"})
+    public int listSize;
+
+    private ReservationMapper reservationMapper;
+
+    private PricingService pricingService;
+
+    private PriceTable table;
+
+    private Reservation reservation;
+
+    private List<Reservation> reservations;
+
+    @Setup
+    public void setUp() {
+        reservationMapper = new ReservationMapper(new CourtMapper(new SurfaceTypeMapper()));
+
+        SurfaceType surface = new SurfaceType();
+        surface.setId(1);
+        surface.setName("Clay");
+        surface.setCostPerMinute(new BigDecimal("1.25"));
+        Court court = new Court();
+        court.setId(1);
+        court.setDescription("Outdoor court");
+        court.setSurface(surface);
+        User user = new User();
+        user.setId(1);
+
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 8, 0);
+        reservations = new ArrayList<>();
+        for (int i = 0; i < listSize; i++) {
+            Reservation item = new Reservation();
+            item.setId(i + 1);
+            item.setDoubles(i % 2 == 0);
+            item.setStartsAt(start.plusMinutes(90L * i));
+            item.setEndsAt(start.plusMinutes(90L * i + 75));
+            item.setCreatedAt(start);
+            item.setCourt(court);
+            item.setUser(user);
+            item.calculateCost();
+            reservations.add(item);
+        }
+        reservation = reservations.getFirst();
+        pricingService = new PricingService();
+        table = pricingService.table(court);
+    }
+
+    @Benchmark
+    public BigDecimal calculateCost() {
+        reservation.calculateCost();
+        return reservation.getCost();
+    }
+
+    @Benchmark
+    public BigDecimal pricingServiceCost() {
+        return pricingService.cost(reservation.getCourt(), reservation.isDoubles(), reservation.getStartsAt(),
+                reservation.getEndsAt());
+    }
+
+    @Benchmark
+    public BigDecimal tableCost() {
+        return table.cost(reservation.isDoubles(), reservation.getStartsAt(), 75);
+    }
+
+    @Benchmark
+    public List<ReservationDTO> mapToDTOList() {
+        return reservationMapper.mapToDTOList(reservations);
+    }
+}
@@ -3,11 +3,13 @@ package cz.svonavec.tennis;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 @Slf4j
 @SpringBootApplication
 @EnableTransactionManagement
+@EnableScheduling
 public class ReservationApplication {
 
     public static void main(String[] args) {
@@ -1,24 +1,37 @@
 package cz.svonavec.tennis.facade;
 
+import cz.svonavec.tennis.mapper.AvailabilityMapper;
 import cz.svonavec.tennis.mapper.CourtMapper;
+import cz.svonavec.tennis.models.dtos.CourtAvailabilityDTO;
 import cz.svonavec.tennis.models.dtos.CourtCreateDTO;
 import cz.svonavec.tennis.models.dtos.CourtDTO;
+import cz.svonavec.tennis.service.AvailabilityService;
 import cz.svonavec.tennis.service.CourtService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @Service
+@Timed("tennis.facade")
 public class CourtFacade {
     CourtMapper courtMapper;
     CourtService courtService;
+    AvailabilityMapper availabilityMapper;
+    AvailabilityService availabilityService;
 
     @Autowired
-    public CourtFacade(CourtMapper courtMapper, CourtService courtService) {
+    public CourtFacade(CourtMapper courtMapper, CourtService courtService,
+                       AvailabilityMapper availabilityMapper, AvailabilityService availabilityService) {
         this.courtMapper = courtMapper;
         this.courtService = courtService;
+        this.availabilityMapper = availabilityMapper;
+        this.availabilityService = availabilityService;
     }
 
     @Transactional(readOnly = true)
@@ -31,6 +44,19 @@ public class CourtFacade {
         return courtMapper.mapToDTOList(courtService.findAll());
     }
 
+    @Transactional(readOnly = true)
+    public CourtAvailabilityDTO findAvailability(long id, LocalDateTime from, LocalDateTime to, long minDuration) {
+        return availabilityMapper.mapToDTO(id, from, to,
+                availabilityService.findFreeSlots(id, from, to, Duration.ofMinutes(minDuration)));
+    }
+
+    @Transactional(readOnly = true)
+    public List<CourtAvailabilityDTO> findAvailability(Set<Long> ids, LocalDateTime from, LocalDateTime to,
+                                                       long minDuration) {
+        return availabilityMapper.mapToDTOList(
+                availabilityService.findFreeSlots(ids, from, to, Duration.ofMinutes(minDuration)), from, to);
+    }
+
     @Transactional
     public CourtDTO create(CourtCreateDTO dto) {
         return courtMapper.mapToDTO(courtService.create(courtMapper.mapToEntity(dto), dto.getSurfaceId()));
@@ -0,0 +1,53 @@
+package cz.svonavec.tennis.facade;
+
+import cz.svonavec.tennis.mapper.PricingRuleMapper;
+import cz.svonavec.tennis.models.dtos.PricingRuleCreateDTO;
+import cz.svonavec.tennis.models.dtos.PricingRuleDTO;
+import cz.svonavec.tennis.service.PricingRuleService;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@Timed("tennis.facade")
+public class PricingRuleFacade {
+    private final PricingRuleMapper pricingRuleMapper;
+
+    private final PricingRuleService pricingRuleService;
+
+    @Autowired
+    public PricingRuleFacade(PricingRuleMapper pricingRuleMapper, PricingRuleService pricingRuleService) {
+        this.pricingRuleMapper = pricingRuleMapper;
+        this.pricingRuleService = pricingRuleService;
+    }
+
+    @Transactional(readOnly = true)
+    public PricingRuleDTO findById(long id) {
+        return pricingRuleMapper.mapToDTO(pricingRuleService.findById(id));
+    }
+
+    @Transactional(readOnly = true)
+    public List<PricingRuleDTO> findAll() {
+        return pricingRuleMapper.mapToDTOList(pricingRuleService.findAll());
+    }
+
+    @Transactional
+    public PricingRuleDTO create(PricingRuleCreateDTO dto) {
+        return pricingRuleMapper.mapToDTO(pricingRuleService.create(pricingRuleMapper.mapToEntity(dto),
+                dto.getCourtId(), dto.getSurfaceId()));
+    }
+
+    @Transactional
+    public PricingRuleDTO update(long id, PricingRuleCreateDTO dto) {
+        return pricingRuleMapper.mapToDTO(pricingRuleService.update(id, pricingRuleMapper.mapToEntity(dto),
+                dto.getCourtId(), dto.getSurfaceId()));
+    }
+
+    @Transactional
+    public PricingRuleDTO delete(long id) {
+        return pricingRuleMapper.mapToDTO(pricingRuleService.delete(id));
+    }
+}
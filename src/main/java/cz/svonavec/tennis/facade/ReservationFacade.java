@@ -1,18 +1,27 @@
 package cz.svonavec.tennis.facade;
 
 import cz.svonavec.tennis.mapper.ReservationMapper;
+import cz.svonavec.tennis.models.dtos.ReservationBatchResultDTO;
 import cz.svonavec.tennis.models.dtos.ReservationCreateDTO;
 import cz.svonavec.tennis.models.dtos.ReservationDTO;
+import cz.svonavec.tennis.models.dtos.ReservationPageDTO;
+import cz.svonavec.tennis.models.dtos.ReservationQuoteDTO;
+import cz.svonavec.tennis.models.dtos.ReservationQuoteItemDTO;
 import cz.svonavec.tennis.models.dtos.ReservationUpdateDTO;
+import cz.svonavec.tennis.models.paging.ReservationCursor;
 import cz.svonavec.tennis.service.ReservationService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
+@Timed("tennis.facade")
 public class ReservationFacade {
     private final ReservationMapper reservationMapper;
 
@@ -30,18 +39,34 @@ public class ReservationFacade {
     }
 
     @Transactional(readOnly = true)
-    public List<ReservationDTO> findAll() {
-        return reservationMapper.mapToDTOList(reservationService.findAll());
+    public ReservationPageDTO findAll(String after, int limit) {
+        return reservationMapper.mapToPageDTO(
+                reservationService.findAllPage(ReservationCursor.decode(after), limit), limit);
     }
 
     @Transactional(readOnly = true)
-    public List<ReservationDTO> findByCourt(long courtId) {
-        return reservationMapper.mapToDTOList(reservationService.findByCourt(courtId));
+    public ReservationPageDTO findByCourt(long courtId, String after, int limit) {
+        return reservationMapper.mapToPageDTO(
+                reservationService.findByCourtPage(courtId, ReservationCursor.decode(after), limit), limit);
     }
 
     @Transactional(readOnly = true)
-    public List<ReservationDTO> findByPhone(String phoneNumber, boolean futureOnly) {
-        return reservationMapper.mapToDTOList(reservationService.findByPhone(phoneNumber, futureOnly));
+    public ReservationPageDTO findByPhone(String phoneNumber, boolean futureOnly, String after, int limit) {
+        return reservationMapper.mapToPageDTO(
+                reservationService.findByPhonePage(phoneNumber, futureOnly, ReservationCursor.decode(after), limit), limit);
+    }
+
+    @Transactional(readOnly = true)
+    public ReservationPageDTO findStartingBetween(List<Long> courtIds, LocalDateTime from, LocalDateTime to,
+                                                  String after, int limit) {
+        return reservationMapper.mapToStartPageDTO(
+                reservationService.findStartingBetweenPage(courtIds, from, to, ReservationCursor.decode(after), limit),
+                limit);
+    }
+
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<ReservationDTO> consumer) {
+        reservationService.exportAll(reservation -> consumer.accept(reservationMapper.mapToDTO(reservation)));
     }
 
     @Transactional
@@ -49,6 +74,16 @@ public class ReservationFacade {
         return reservationService.create(reservationMapper.mapToEntity(dto), dto.getPhoneNumber(), dto.getCourtId());
     }
 
+    @Transactional
+    public ReservationBatchResultDTO createBatch(List<ReservationCreateDTO> dtos) {
+        return reservationMapper.mapToBatchResultDTO(reservationService.createBatch(reservationMapper.mapToBatchItems(dtos)));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ReservationQuoteItemDTO> quote(List<ReservationQuoteDTO> dtos) {
+        return reservationMapper.mapToQuoteItemDTOList(reservationService.quote(reservationMapper.mapToQuoteItems(dtos)));
+    }
+
     @Transactional
     public ReservationDTO update(ReservationUpdateDTO dto) {
         return reservationMapper.mapToDTO(reservationService.update(dto.getId(), dto.getStartsAt(), dto.getEndsAt(), dto.getDoubles(), dto.getCost()));
@@ -0,0 +1,56 @@
+package cz.svonavec.tennis.facade;
+
+import cz.svonavec.tennis.mapper.ReservationSeriesMapper;
+import cz.svonavec.tennis.models.dtos.ReservationOccurrenceDTO;
+import cz.svonavec.tennis.models.dtos.ReservationSeriesCreateDTO;
+import cz.svonavec.tennis.models.dtos.ReservationSeriesDTO;
+import cz.svonavec.tennis.service.ReservationSeriesService;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@Timed("tennis.facade")
+public class ReservationSeriesFacade {
+    private final ReservationSeriesMapper reservationSeriesMapper;
+
+    private final ReservationSeriesService reservationSeriesService;
+
+    @Autowired
+    public ReservationSeriesFacade(ReservationSeriesMapper reservationSeriesMapper,
+                                   ReservationSeriesService reservationSeriesService) {
+        this.reservationSeriesMapper = reservationSeriesMapper;
+        this.reservationSeriesService = reservationSeriesService;
+    }
+
+    @Transactional(readOnly = true)
+    public ReservationSeriesDTO findById(long id) {
+        return reservationSeriesMapper.mapToDTO(reservationSeriesService.findById(id));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ReservationOccurrenceDTO> findOccurrences(long id, LocalDateTime from, LocalDateTime to) {
+        return reservationSeriesMapper.mapToOccurrenceDTOList(reservationSeriesService.findOccurrences(id, from, to));
+    }
+
+    @Transactional
+    public ReservationSeriesDTO create(ReservationSeriesCreateDTO dto) {
+        return reservationSeriesMapper.mapToDTO(reservationSeriesService.create(
+                reservationSeriesMapper.mapToEntity(dto), dto.getPhoneNumber(), dto.getCourtId()));
+    }
+
+    @Transactional
+    public ReservationSeriesDTO addException(long id, LocalDate date) {
+        return reservationSeriesMapper.mapToDTO(reservationSeriesService.addException(id, date));
+    }
+
+    @Transactional
+    public ReservationSeriesDTO delete(long id) {
+        return reservationSeriesMapper.mapToDTO(reservationSeriesService.delete(id));
+    }
+}
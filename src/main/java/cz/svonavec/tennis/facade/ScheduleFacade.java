@@ -0,0 +1,29 @@
+package cz.svonavec.tennis.facade;
+
+import cz.svonavec.tennis.mapper.ScheduleMapper;
+import cz.svonavec.tennis.models.dtos.ScheduleDTO;
+import cz.svonavec.tennis.service.ScheduleService;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+@Service
+@Timed("tennis.facade")
+public class ScheduleFacade {
+    private final ScheduleMapper scheduleMapper;
+
+    private final ScheduleService scheduleService;
+
+    @Autowired
+    public ScheduleFacade(ScheduleMapper scheduleMapper, ScheduleService scheduleService) {
+        this.scheduleMapper = scheduleMapper;
+        this.scheduleService = scheduleService;
+    }
+
+    // Not transactional, schedules of loaded days are served from memory without taking a database connection
+    public ScheduleDTO findDay(LocalDate date) {
+        return scheduleMapper.mapToDTO(scheduleService.findDay(date));
+    }
+}
@@ -4,6 +4,7 @@ import cz.svonavec.tennis.mapper.SurfaceTypeMapper;
 import cz.svonavec.tennis.models.dtos.SurfaceTypeCreateDTO;
 import cz.svonavec.tennis.models.dtos.SurfaceTypeDTO;
 import cz.svonavec.tennis.service.SurfaceTypeService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,6 +13,7 @@ import java.math.BigDecimal;
 import java.util.List;
 
 @Service
+@Timed("tennis.facade")
 public class SurfaceTypeFacade {
     SurfaceTypeMapper surfaceTypeMapper;
     SurfaceTypeService surfaceTypeService;
@@ -5,6 +5,7 @@ import cz.svonavec.tennis.models.dtos.UserDTO;
 import cz.svonavec.tennis.models.dtos.UserRegisterDTO;
 import cz.svonavec.tennis.models.dtos.UserUpdateDTO;
 import cz.svonavec.tennis.service.UserService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
 @Service
+@Timed("tennis.facade")
 public class UserFacade {
     private final UserMapper userMapper;
 
@@ -0,0 +1,48 @@
+package cz.svonavec.tennis.mapper;
+
+import cz.svonavec.tennis.models.availability.FreeSlot;
+import cz.svonavec.tennis.models.dtos.CourtAvailabilityDTO;
+import cz.svonavec.tennis.models.dtos.FreeSlotDTO;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class AvailabilityMapper {
+
+    public FreeSlotDTO mapToDTO(FreeSlot slot) {
+        FreeSlotDTO dto = new FreeSlotDTO();
+
+        dto.setStart(slot.getStart());
+        dto.setEnd(slot.getEnd());
+
+        return dto;
+    }
+
+    public CourtAvailabilityDTO mapToDTO(long courtId, LocalDateTime from, LocalDateTime to, List<FreeSlot> slots) {
+        CourtAvailabilityDTO dto = new CourtAvailabilityDTO();
+
+        dto.setCourtId(courtId);
+        dto.setFrom(from);
+        dto.setTo(to);
+        List<FreeSlotDTO> freeSlots = new ArrayList<>();
+        for (FreeSlot slot : slots) {
+            freeSlots.add(mapToDTO(slot));
+        }
+        dto.setFreeSlots(freeSlots);
+
+        return dto;
+    }
+
+    public List<CourtAvailabilityDTO> mapToDTOList(Map<Long, List<FreeSlot>> slotsByCourt, LocalDateTime from,
+                                                   LocalDateTime to) {
+        List<CourtAvailabilityDTO> DTOs = new ArrayList<>();
+        for (Map.Entry<Long, List<FreeSlot>> entry : slotsByCourt.entrySet()) {
+            DTOs.add(mapToDTO(entry.getKey(), from, to, entry.getValue()));
+        }
+        return DTOs;
+    }
+}
@@ -0,0 +1,54 @@
+package cz.svonavec.tennis.mapper;
+
+import cz.svonavec.tennis.models.dtos.PricingRuleCreateDTO;
+import cz.svonavec.tennis.models.dtos.PricingRuleDTO;
+import cz.svonavec.tennis.models.entities.PricingRule;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class PricingRuleMapper {
+
+    public PricingRule mapToEntity(PricingRuleCreateDTO dto) {
+        PricingRule rule = new PricingRule();
+
+        rule.setFromDay(dto.getFromDay());
+        rule.setToDay(dto.getToDay());
+        rule.setStartTime(dto.getStartTime());
+        rule.setEndTime(dto.getEndTime());
+        rule.setMultiplier(dto.getMultiplier());
+        rule.setPriority(dto.getPriority());
+        rule.setId(0);
+
+        return rule;
+    }
+
+    public PricingRuleDTO mapToDTO(PricingRule rule) {
+        PricingRuleDTO dto = new PricingRuleDTO();
+
+        dto.setId(rule.getId());
+        dto.setDeletedAt(rule.getDeletedAt());
+        dto.setCreatedAt(rule.getCreatedAt());
+        // Only ids are read, so lazy court and surface are not loaded
+        dto.setSurfaceId(rule.getSurface() == null ? null : rule.getSurface().getId());
+        dto.setCourtId(rule.getCourt() == null ? null : rule.getCourt().getId());
+        dto.setFromDay(rule.getFromDay());
+        dto.setToDay(rule.getToDay());
+        dto.setStartTime(rule.getStartTime());
+        dto.setEndTime(rule.getEndTime());
+        dto.setMultiplier(rule.getMultiplier());
+        dto.setPriority(rule.getPriority());
+
+        return dto;
+    }
+
+    public List<PricingRuleDTO> mapToDTOList(List<PricingRule> rules) {
+        List<PricingRuleDTO> DTOs = new ArrayList<>();
+        for (PricingRule rule : rules) {
+            DTOs.add(mapToDTO(rule));
+        }
+        return DTOs;
+    }
+}
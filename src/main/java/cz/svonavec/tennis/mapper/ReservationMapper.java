@@ -1,13 +1,27 @@
 package cz.svonavec.tennis.mapper;
 
+import cz.svonavec.tennis.models.batch.BatchItem;
+import cz.svonavec.tennis.models.dtos.CourtDTO;
+import cz.svonavec.tennis.models.dtos.ReservationBatchItemDTO;
+import cz.svonavec.tennis.models.dtos.ReservationBatchResultDTO;
+import cz.svonavec.tennis.models.dtos.ReservationChangeDTO;
 import cz.svonavec.tennis.models.dtos.ReservationCreateDTO;
 import cz.svonavec.tennis.models.dtos.ReservationDTO;
+import cz.svonavec.tennis.models.dtos.ReservationPageDTO;
+import cz.svonavec.tennis.models.dtos.ReservationQuoteDTO;
+import cz.svonavec.tennis.models.dtos.ReservationQuoteItemDTO;
+import cz.svonavec.tennis.models.dtos.SurfaceTypeDTO;
 import cz.svonavec.tennis.models.entities.Reservation;
+import cz.svonavec.tennis.models.events.ReservationChangedEvent;
+import cz.svonavec.tennis.models.paging.ReservationCursor;
+import cz.svonavec.tennis.models.projections.ReservationView;
+import cz.svonavec.tennis.models.quote.QuoteItem;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 @Service
 public class ReservationMapper {
@@ -46,6 +60,32 @@ public class ReservationMapper {
         return dto;
     }
 
+    /**
+     * Maps a read-only view straight to the DTO, court and surface are built from its columns
+     */
+    public ReservationDTO mapToDTO(ReservationView view) {
+        SurfaceTypeDTO surface = new SurfaceTypeDTO(view.getSurfaceId(), view.getSurfaceDeletedAt(),
+                view.getSurfaceCreatedAt(), view.getSurfaceName(), view.getSurfaceCostPerMinute());
+        CourtDTO court = new CourtDTO(view.getCourtId(), view.getCourtDeletedAt(), view.getCourtCreatedAt(),
+                view.getCourtDescription(), surface);
+        return new ReservationDTO(view.getId(), view.getDeletedAt(), view.getCreatedAt(), view.isDoubles(),
+                view.getStartsAt(), view.getEndsAt(), view.getCost(), court, view.getUserId());
+    }
+
+    public ReservationChangeDTO mapToChangeDTO(ReservationChangedEvent event) {
+        ReservationChangeDTO dto = new ReservationChangeDTO();
+
+        dto.setChange(event.getChange().name());
+        dto.setReservationId(event.getReservationId());
+        dto.setCourtId(event.getCourtId());
+        dto.setDoubles(event.isDoubles());
+        dto.setStartsAt(event.getStartsAt());
+        dto.setEndsAt(event.getEndsAt());
+        dto.setCost(event.getCost());
+
+        return dto;
+    }
+
     public List<ReservationDTO> mapToDTOList(List<Reservation> reservations) {
         List<ReservationDTO> DTOs = new ArrayList<>();
         for (Reservation reservation : reservations) {
@@ -53,4 +93,83 @@ public class ReservationMapper {
         }
         return DTOs;
     }
+
+    /**
+     * Maps reservations fetched for one page. Reservation over the limit only signals that there is a next page and
+     * is not part of this one.
+     *
+     * @param reservations at most limit + 1 reservations
+     * @param limit size of the page
+     * @return page with cursor of the next page
+     */
+    public ReservationPageDTO mapToPageDTO(List<ReservationView> reservations, int limit) {
+        return mapToPageDTO(reservations, limit, ReservationCursor::after);
+    }
+
+    /**
+     * Maps reservations fetched for one page of a listing ordered by start
+     *
+     * @param reservations at most limit + 1 reservations
+     * @param limit size of the page
+     * @return page with cursor of the next page
+     */
+    public ReservationPageDTO mapToStartPageDTO(List<ReservationView> reservations, int limit) {
+        return mapToPageDTO(reservations, limit, ReservationCursor::afterStart);
+    }
+
+    private ReservationPageDTO mapToPageDTO(List<ReservationView> reservations, int limit,
+                                            Function<ReservationView, ReservationCursor> cursor) {
+        ReservationPageDTO dto = new ReservationPageDTO();
+        List<ReservationView> page = reservations.size() > limit ? reservations.subList(0, limit) : reservations;
+        List<ReservationDTO> DTOs = new ArrayList<>(page.size());
+        for (ReservationView reservation : page) {
+            DTOs.add(mapToDTO(reservation));
+        }
+        dto.setItems(DTOs);
+        if (reservations.size() > limit) {
+            dto.setNextCursor(cursor.apply(page.getLast()).encode());
+        }
+        return dto;
+    }
+
+    public List<BatchItem> mapToBatchItems(List<ReservationCreateDTO> dtos) {
+        List<BatchItem> items = new ArrayList<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            ReservationCreateDTO dto = dtos.get(i);
+            items.add(new BatchItem(i, mapToEntity(dto), dto.getPhoneNumber(), dto.getCourtId()));
+        }
+        return items;
+    }
+
+    public ReservationBatchResultDTO mapToBatchResultDTO(List<BatchItem> items) {
+        List<ReservationBatchItemDTO> DTOs = new ArrayList<>();
+        int created = 0;
+        for (BatchItem item : items) {
+            if (item.isRejected()) {
+                DTOs.add(new ReservationBatchItemDTO(item.getIndex(), false, null, null, item.getError()));
+            } else {
+                created++;
+                DTOs.add(new ReservationBatchItemDTO(item.getIndex(), true, item.getReservation().getId(),
+                        item.getReservation().getCost(), null));
+            }
+        }
+        return new ReservationBatchResultDTO(created, items.size() - created, DTOs);
+    }
+
+    public List<QuoteItem> mapToQuoteItems(List<ReservationQuoteDTO> dtos) {
+        List<QuoteItem> items = new ArrayList<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            ReservationQuoteDTO dto = dtos.get(i);
+            items.add(new QuoteItem(i, dto.getCourtId(), dto.getStartsAt(), dto.getEndsAt(), dto.isDoubles()));
+        }
+        return items;
+    }
+
+    public List<ReservationQuoteItemDTO> mapToQuoteItemDTOList(List<QuoteItem> items) {
+        List<ReservationQuoteItemDTO> DTOs = new ArrayList<>();
+        for (QuoteItem item : items) {
+            DTOs.add(new ReservationQuoteItemDTO(item.getIndex(), item.isAvailable(), item.getCost(), item.getError()));
+        }
+        return DTOs;
+    }
 }
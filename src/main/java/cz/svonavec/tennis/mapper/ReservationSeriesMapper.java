@@ -0,0 +1,71 @@
+package cz.svonavec.tennis.mapper;
+
+import cz.svonavec.tennis.models.dtos.ReservationOccurrenceDTO;
+import cz.svonavec.tennis.models.dtos.ReservationSeriesCreateDTO;
+import cz.svonavec.tennis.models.dtos.ReservationSeriesDTO;
+import cz.svonavec.tennis.models.entities.Reservation;
+import cz.svonavec.tennis.models.entities.ReservationSeries;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+@Service
+public class ReservationSeriesMapper {
+
+    private final CourtMapper courtMapper;
+
+    @Autowired
+    public ReservationSeriesMapper(CourtMapper courtMapper) {
+        this.courtMapper = courtMapper;
+    }
+
+    public ReservationSeries mapToEntity(ReservationSeriesCreateDTO dto) {
+        ReservationSeries series = new ReservationSeries();
+
+        series.setStartsAt(dto.getStartsAt());
+        series.setEndsAt(dto.getEndsAt());
+        series.setDoubles(dto.isDoubles());
+        series.setIntervalWeeks(dto.getIntervalWeeks());
+        series.setUntil(dto.getUntil());
+        if (dto.getExceptions() != null) {
+            series.setExceptions(new HashSet<>(dto.getExceptions()));
+        }
+        series.setId(0);
+
+        return series;
+    }
+
+    public ReservationSeriesDTO mapToDTO(ReservationSeries series) {
+        ReservationSeriesDTO dto = new ReservationSeriesDTO();
+
+        dto.setId(series.getId());
+        dto.setDoubles(series.isDoubles());
+        dto.setCost(series.getCost());
+        dto.setStartsAt(series.getStartsAt());
+        dto.setEndsAt(series.getEndsAt());
+        dto.setIntervalWeeks(series.getIntervalWeeks());
+        dto.setUntil(series.getUntil());
+        dto.setExceptions(series.getExceptions().stream().sorted().toList());
+        dto.setDeletedAt(series.getDeletedAt());
+        dto.setCreatedAt(series.getCreatedAt());
+        dto.setCourt(courtMapper.mapToDTO(series.getCourt()));
+        dto.setUserId(series.getUser().getId());
+
+        return dto;
+    }
+
+    public ReservationOccurrenceDTO mapToOccurrenceDTO(Reservation occurrence) {
+        return new ReservationOccurrenceDTO(occurrence.getStartsAt(), occurrence.getEndsAt(), occurrence.getCost());
+    }
+
+    public List<ReservationOccurrenceDTO> mapToOccurrenceDTOList(List<Reservation> occurrences) {
+        List<ReservationOccurrenceDTO> DTOs = new ArrayList<>();
+        for (Reservation occurrence : occurrences) {
+            DTOs.add(mapToOccurrenceDTO(occurrence));
+        }
+        return DTOs;
+    }
+}
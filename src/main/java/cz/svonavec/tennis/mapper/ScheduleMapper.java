@@ -0,0 +1,44 @@
+package cz.svonavec.tennis.mapper;
+
+import cz.svonavec.tennis.models.dtos.CourtScheduleDTO;
+import cz.svonavec.tennis.models.dtos.ScheduleDTO;
+import cz.svonavec.tennis.models.dtos.ScheduleEntryDTO;
+import cz.svonavec.tennis.models.schedule.DaySchedule;
+import cz.svonavec.tennis.models.schedule.ScheduleEntry;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class ScheduleMapper {
+
+    public ScheduleEntryDTO mapToDTO(ScheduleEntry entry) {
+        ScheduleEntryDTO dto = new ScheduleEntryDTO();
+
+        dto.setReservationId(entry.getReservationId());
+        dto.setStartsAt(entry.getStartsAt());
+        dto.setEndsAt(entry.getEndsAt());
+        dto.setDoubles(entry.isDoubles());
+
+        return dto;
+    }
+
+    public ScheduleDTO mapToDTO(DaySchedule schedule) {
+        ScheduleDTO dto = new ScheduleDTO();
+
+        dto.setDate(schedule.getDate());
+        List<CourtScheduleDTO> courts = new ArrayList<>();
+        for (Map.Entry<Long, List<ScheduleEntry>> court : schedule.getCourts().entrySet()) {
+            List<ScheduleEntryDTO> reservations = new ArrayList<>();
+            for (ScheduleEntry entry : court.getValue()) {
+                reservations.add(mapToDTO(entry));
+            }
+            courts.add(new CourtScheduleDTO(court.getKey(), reservations));
+        }
+        dto.setCourts(courts);
+
+        return dto;
+    }
+}
@@ -0,0 +1,26 @@
+package cz.svonavec.tennis.models.availability;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Time interval [start, end) in which a court is not reserved
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@EqualsAndHashCode
+public class FreeSlot {
+    private final LocalDateTime start;
+
+    private final LocalDateTime end;
+
+    public Duration getDuration() {
+        return Duration.between(start, end);
+    }
+}
@@ -0,0 +1,42 @@
+package cz.svonavec.tennis.models.batch;
+
+import cz.svonavec.tennis.models.entities.Reservation;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * One reservation of a batch together with the outcome of its creation. Item is created unless it is rejected.
+ */
+@Getter
+@ToString
+public class BatchItem {
+    private final int index;
+
+    private final Reservation reservation;
+
+    private final String phoneNumber;
+
+    private final Long courtId;
+
+    private String error;
+
+    public BatchItem(int index, Reservation reservation, String phoneNumber, Long courtId) {
+        this.index = index;
+        this.reservation = reservation;
+        this.phoneNumber = phoneNumber;
+        this.courtId = courtId;
+    }
+
+    /**
+     * Marks the item as rejected, so it is not created
+     *
+     * @param error reason of the rejection
+     */
+    public void reject(String error) {
+        this.error = error;
+    }
+
+    public boolean isRejected() {
+        return error != null;
+    }
+}
@@ -0,0 +1,28 @@
+package cz.svonavec.tennis.models.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Setter
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Schema(description = "Free time intervals of one court in the requested window")
+public class CourtAvailabilityDTO {
+    @Schema(description = "Id of the court", example = "1")
+    private long courtId;
+
+    @Schema(description = "Start of the searched window")
+    private LocalDateTime from;
+
+    @Schema(description = "End of the searched window")
+    private LocalDateTime to;
+
+    @Schema(description = "Free intervals ordered by start, each at least as long as the requested minimal duration")
+    private List<FreeSlotDTO> freeSlots;
+}
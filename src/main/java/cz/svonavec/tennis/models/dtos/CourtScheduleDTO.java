@@ -0,0 +1,21 @@
+package cz.svonavec.tennis.models.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Setter
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Schema(description = "Reservations of one court on a day")
+public class CourtScheduleDTO {
+    @Schema(description = "Unique identifier of the court", example = "1")
+    private long courtId;
+
+    @Schema(description = "Reservations of the court starting on the day ordered by start")
+    private List<ScheduleEntryDTO> reservations;
+}
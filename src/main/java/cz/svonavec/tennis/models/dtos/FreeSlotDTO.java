@@ -0,0 +1,21 @@
+package cz.svonavec.tennis.models.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Setter
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Schema(description = "Time interval in which the court is free")
+public class FreeSlotDTO {
+    @Schema(description = "Start of the free interval", example = "2025-04-01T10:00:00")
+    private LocalDateTime start;
+
+    @Schema(description = "End of the free interval", example = "2025-04-01T12:00:00")
+    private LocalDateTime end;
+}
@@ -0,0 +1,50 @@
+package cz.svonavec.tennis.models.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+@Setter
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class PricingRuleDTO {
+    @Schema(description = "Unique id of a pricing rule", accessMode = Schema.AccessMode.READ_ONLY, example = "1")
+    private long id;
+
+    @Schema(description = "Time of soft deletion of the rule", nullable = true, accessMode = Schema.AccessMode.READ_ONLY)
+    private LocalDateTime deletedAt;
+
+    @Schema(description = "Time of creation of the rule", nullable = true, accessMode = Schema.AccessMode.READ_ONLY)
+    private LocalDateTime createdAt;
+
+    @Schema(description = "Id of surface whose courts the rule applies to", nullable = true, example = "1")
+    private Long surfaceId;
+
+    @Schema(description = "Id of court the rule applies to", nullable = true)
+    private Long courtId;
+
+    @Schema(description = "First day of the week on which the rule applies", example = "SATURDAY")
+    private DayOfWeek fromDay;
+
+    @Schema(description = "Last day of the week on which the rule applies", example = "SUNDAY")
+    private DayOfWeek toDay;
+
+    @Schema(description = "Start of the window of a day", type = "string", example = "17:00")
+    private LocalTime startTime;
+
+    @Schema(description = "End of the window of a day, 00:00 means end of the day", type = "string", example = "21:00")
+    private LocalTime endTime;
+
+    @Schema(description = "Multiplier of the cost per minute of the surface in the window", example = "1.25")
+    private BigDecimal multiplier;
+
+    @Schema(description = "Priority of the rule, rule with higher priority wins when rules overlap", example = "0")
+    private int priority;
+}
@@ -0,0 +1,30 @@
+package cz.svonavec.tennis.models.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Setter
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Schema(description = "Result of creation of one reservation of a batch")
+public class ReservationBatchItemDTO {
+    @Schema(description = "Position of the reservation in the request", example = "0")
+    private int index;
+
+    @Schema(description = "Was the reservation created?")
+    private boolean created;
+
+    @Schema(description = "Id of the created reservation", nullable = true, example = "1")
+    private Long id;
+
+    @Schema(description = "Cost in czech crowns of the created reservation", nullable = true, example = "60.00")
+    private BigDecimal cost;
+
+    @Schema(description = "Reason why the reservation was not created", nullable = true)
+    private String error;
+}
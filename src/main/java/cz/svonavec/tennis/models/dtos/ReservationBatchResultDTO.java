@@ -0,0 +1,24 @@
+package cz.svonavec.tennis.models.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Setter
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Schema(description = "Results of creation of a batch of reservations")
+public class ReservationBatchResultDTO {
+    @Schema(description = "Number of created reservations", example = "10")
+    private int created;
+
+    @Schema(description = "Number of rejected reservations", example = "0")
+    private int rejected;
+
+    @Schema(description = "Results of all reservations in the order of the request")
+    private List<ReservationBatchItemDTO> items;
+}
@@ -0,0 +1,37 @@
+package cz.svonavec.tennis.models.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Setter
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Schema(description = "Change of a reservation of a court pushed to subscribers of the court")
+public class ReservationChangeDTO {
+    @Schema(description = "Kind of the change", example = "CREATED")
+    private String change;
+
+    @Schema(description = "Unique identifier of the reservation", example = "1")
+    private long reservationId;
+
+    @Schema(description = "Unique identifier of the court", example = "1")
+    private long courtId;
+
+    @Schema(description = "Is the reservation for doubles", example = "false")
+    private boolean doubles;
+
+    @Schema(description = "Time of start of the reservation")
+    private LocalDateTime startsAt;
+
+    @Schema(description = "Time of end of the reservation")
+    private LocalDateTime endsAt;
+
+    @Schema(description = "Cost in czech crowns for the reservation", example = "1")
+    private BigDecimal cost;
+}
@@ -0,0 +1,25 @@
+package cz.svonavec.tennis.models.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Setter
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Schema(description = "One occurrence of a reservation series")
+public class ReservationOccurrenceDTO {
+    @Schema(description = "Time of start of the occurrence")
+    private LocalDateTime startsAt;
+
+    @Schema(description = "Time of end of the occurrence")
+    private LocalDateTime endsAt;
+
+    @Schema(description = "Cost in czech crowns for the occurrence", example = "1")
+    private BigDecimal cost;
+}
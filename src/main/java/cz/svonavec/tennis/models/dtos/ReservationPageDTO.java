@@ -0,0 +1,22 @@
+package cz.svonavec.tennis.models.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Setter
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Schema(description = "One page of reservations ordered by time of creation")
+public class ReservationPageDTO {
+    @Schema(description = "Reservations on this page")
+    private List<ReservationDTO> items;
+
+    @Schema(description = "Cursor of the next page to be sent as the after parameter, null if this is the last page",
+            nullable = true)
+    private String nextCursor;
+}
@@ -0,0 +1,27 @@
+package cz.svonavec.tennis.models.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Setter
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Schema(description = "Candidate reservation to be priced")
+public class ReservationQuoteDTO {
+    @Schema(description = "Id of court of the reservation", example = "1")
+    private Long courtId;
+
+    @Schema(description = "Time of start of the game")
+    private LocalDateTime startsAt;
+
+    @Schema(description = "Time of end of the game")
+    private LocalDateTime endsAt;
+
+    @Schema(description = "Is the game doubles game?")
+    private boolean doubles;
+}
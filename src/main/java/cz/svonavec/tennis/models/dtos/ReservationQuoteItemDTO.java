@@ -0,0 +1,28 @@
+package cz.svonavec.tennis.models.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Setter
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Schema(description = "Cost and availability of one candidate reservation")
+public class ReservationQuoteItemDTO {
+    @Schema(description = "Position of the reservation in the request", example = "0")
+    private int index;
+
+    @Schema(description = "Is the court free for the whole reservation?")
+    private boolean available;
+
+    @Schema(description = "Cost in czech crowns the reservation would have if it was created now", nullable = true,
+            example = "60.00")
+    private BigDecimal cost;
+
+    @Schema(description = "Reason why the reservation cannot be quoted", nullable = true)
+    private String error;
+}
@@ -0,0 +1,41 @@
+package cz.svonavec.tennis.models.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+@Setter
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = {"courtId", "startsAt"})
+public class ReservationSeriesCreateDTO {
+    @Schema(description = "Is the game doubles game?")
+    private boolean doubles;
+
+    @Schema(description = "Time of start of the first occurrence")
+    private LocalDateTime startsAt;
+
+    @Schema(description = "Time of end of the first occurrence, occurrence can be at most one day long")
+    private LocalDateTime endsAt;
+
+    @Schema(description = "Number of weeks between two occurrences", example = "1")
+    private int intervalWeeks = 1;
+
+    @Schema(description = "Last day on which an occurrence can start")
+    private LocalDate until;
+
+    @Schema(description = "Days of occurrences that are skipped", nullable = true)
+    private Set<LocalDate> exceptions = new HashSet<>();
+
+    @Schema(description = "Id of court that is reserved")
+    private Long courtId;
+
+    @Schema(description = "Phone number of user that is reserving the court")
+    private String phoneNumber;
+}
@@ -0,0 +1,54 @@
+package cz.svonavec.tennis.models.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Setter
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class ReservationSeriesDTO {
+    @Schema(description = "Unique id of a reservation series", accessMode = Schema.AccessMode.READ_ONLY,
+            example = "1")
+    private long id;
+
+    @Schema(description = "Time of soft deletion of the series", nullable = true, accessMode = Schema.AccessMode.READ_ONLY)
+    private LocalDateTime deletedAt;
+
+    @Schema(description = "Time of creation of the series", nullable = true, accessMode = Schema.AccessMode.READ_ONLY)
+    private LocalDateTime createdAt;
+
+    @Schema(description = "Is the game doubles game?")
+    private boolean doubles;
+
+    @Schema(description = "Time of start of the first occurrence")
+    private LocalDateTime startsAt;
+
+    @Schema(description = "Time of end of the first occurrence")
+    private LocalDateTime endsAt;
+
+    @Schema(description = "Number of weeks between two occurrences", example = "1")
+    private int intervalWeeks;
+
+    @Schema(description = "Last day on which an occurrence can start")
+    private LocalDate until;
+
+    @Schema(description = "Days of occurrences that are skipped, ordered")
+    private List<LocalDate> exceptions;
+
+    @Schema(description = "Cost in czech crowns for one occurrence", example = "1")
+    private BigDecimal cost;
+
+    @Schema(description = "Court that is reserved", accessMode = Schema.AccessMode.READ_ONLY)
+    private CourtDTO court;
+
+    @Schema(description = "ID of the user that is reserving the court", accessMode = Schema.AccessMode.READ_ONLY)
+    private long userId;
+}
@@ -0,0 +1,22 @@
+package cz.svonavec.tennis.models.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Setter
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Schema(description = "Schedule of a day across all courts")
+public class ScheduleDTO {
+    @Schema(description = "Day of the schedule", example = "2025-04-01")
+    private LocalDate date;
+
+    @Schema(description = "Courts with a reservation on the day ordered by id")
+    private List<CourtScheduleDTO> courts;
+}
@@ -0,0 +1,27 @@
+package cz.svonavec.tennis.models.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Setter
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Schema(description = "Reservation on a day schedule of a court")
+public class ScheduleEntryDTO {
+    @Schema(description = "Unique identifier of the reservation", example = "1")
+    private long reservationId;
+
+    @Schema(description = "Time of start of the reservation")
+    private LocalDateTime startsAt;
+
+    @Schema(description = "Time of end of the reservation")
+    private LocalDateTime endsAt;
+
+    @Schema(description = "Is the reservation for doubles", example = "false")
+    private boolean doubles;
+}
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.io.Serializable;
@@ -11,13 +13,16 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Setter
 @Getter
 @ToString
 @Table(name = "Court")
 public class Court implements Serializable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "courtSequence")
+    @SequenceGenerator(name = "courtSequence", sequenceName = "court_seq", allocationSize = 50)
     private long id;
 
     @Column(name = "deleted_at")
@@ -0,0 +1,94 @@
+package cz.svonavec.tennis.models.entities;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Objects;
+
+/**
+ * Rule changing price of games starting in a time window of the week, for example peak hours or weekends. Price of a
+ * minute in the window is the cost per minute of the surface multiplied by the multiplier of the rule.
+ *
+ * Rule applies either to all courts with the surface or to one court. Window repeats on every day from fromDay to
+ * toDay (both inclusive, it can wrap over the end of the week), from startTime to endTime, end time 00:00 means end
+ * of the day. When rules overlap, the one with the higher priority wins, rule of the court wins over rule of the
+ * surface with the same priority.
+ */
+@Entity
+@Setter
+@Getter
+@ToString
+@Table(name = "pricing_rule")
+public class PricingRule implements Serializable {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pricingRuleSequence")
+    @SequenceGenerator(name = "pricingRuleSequence", sequenceName = "pricing_rule_seq", allocationSize = 50)
+    private long id;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    @Column(name = "created_at", updatable = false)
+    @Temporal(TemporalType.TIMESTAMP)
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "surface_id")
+    private SurfaceType surface;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "court_id")
+    private Court court;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_day")
+    private DayOfWeek fromDay;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_day")
+    private DayOfWeek toDay;
+
+    @NotNull
+    @Column(name = "start_time")
+    private LocalTime startTime;
+
+    @NotNull
+    @Column(name = "end_time")
+    private LocalTime endTime;
+
+    @NotNull
+    @Column(name = "multiplier")
+    private BigDecimal multiplier;
+
+    @NotNull
+    @Column(name = "priority")
+    private int priority;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PricingRule rule)) {
+            return false;
+        }
+        return Objects.equals(getFromDay(), rule.getFromDay()) && Objects.equals(getToDay(), rule.getToDay()) && Objects.equals(getStartTime(), rule.getStartTime()) && Objects.equals(getEndTime(), rule.getEndTime()) && Objects.equals(getMultiplier(), rule.getMultiplier()) && getPriority() == rule.getPriority();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getFromDay(), getToDay(), getStartTime(), getEndTime(), getMultiplier(), getPriority());
+    }
+}
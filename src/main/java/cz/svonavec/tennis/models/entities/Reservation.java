@@ -20,7 +20,8 @@ import java.util.Objects;
 @Table(name = "Reservation")
 public class Reservation implements Serializable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservationSequence")
+    @SequenceGenerator(name = "reservationSequence", sequenceName = "reservation_seq", allocationSize = 50)
     private long id;
 
     @NotNull
@@ -65,6 +66,9 @@ public class Reservation implements Serializable {
      * Cost is calculated from cost per minute for surface type multiplied by whole minutes in reservation.
      * If the reservation is less than minute long, customer still pays for 1 minute. This cost is then multiplied by
      * DOUBLES_MULTIPLIER if the game is doubles game.
+     *
+     * Services calculate the cost by PricingService from precomputed prices of surfaces, which has to give the same
+     * result as this method.
      */
     public void calculateCost() {
         if (court == null || court.getSurface() == null || getStartsAt() == null || getEndsAt() == null) {
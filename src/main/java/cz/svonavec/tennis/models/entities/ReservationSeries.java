@@ -0,0 +1,163 @@
+package cz.svonavec.tennis.models.entities;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Reservation of a court repeating every intervalWeeks weeks until the given date. The series is stored as one row,
+ * its occurrences are computed only for the time window in which they are needed. Occurrences on dates in exceptions
+ * are skipped.
+ */
+@Entity
+@Setter
+@Getter
+@ToString
+@Table(name = "reservation_series")
+public class ReservationSeries implements Serializable {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservationSeriesSequence")
+    @SequenceGenerator(name = "reservationSeriesSequence", sequenceName = "reservation_series_seq", allocationSize = 50)
+    private long id;
+
+    @NotNull
+    @Column(name = "doubles")
+    private boolean doubles;
+
+    // Start and end of the first occurrence
+    @NotNull
+    @Column(name = "starts_at")
+    private LocalDateTime startsAt;
+
+    @NotNull
+    @Column(name = "ends_at")
+    private LocalDateTime endsAt;
+
+    @NotNull
+    @Column(name = "interval_weeks")
+    private int intervalWeeks = 1;
+
+    // Last day on which an occurrence can start
+    @NotNull
+    @Column(name = "until_date")
+    private LocalDate until;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "reservation_series_exception", joinColumns = @JoinColumn(name = "series_id"))
+    @Column(name = "occurrence_date")
+    private Set<LocalDate> exceptions = new HashSet<>();
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    @Column(name = "created_at", updatable = false)
+    @Temporal(TemporalType.TIMESTAMP)
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    // Cost of one occurrence
+    @NotNull
+    @Column(name = "cost")
+    private BigDecimal cost;
+
+    @ManyToOne(fetch=FetchType.LAZY)
+    @JoinColumn(name="court_id")
+    private Court court;
+
+    @ManyToOne(fetch=FetchType.LAZY)
+    @JoinColumn(name="user_id")
+    private User user;
+
+    /**
+     * Returns occurrences of the series overlapping with the time window [from, to) ordered by start. Occurrences are
+     * not stored, they are returned as reservations without id.
+     *
+     * Only occurrences that can reach into the window are computed, so the cost does not depend on the length of the
+     * series.
+     *
+     * @param from start of the window
+     * @param to end of the window
+     * @return occurrences in the window
+     */
+    public List<Reservation> occurrencesBetween(LocalDateTime from, LocalDateTime to) {
+        List<Reservation> occurrences = new ArrayList<>();
+        long periodMinutes = Duration.ofDays(7L * intervalWeeks).toMinutes();
+        long minutesAfterFirstEnd = Duration.between(endsAt, from).toMinutes();
+        long index = minutesAfterFirstEnd > 0 ? minutesAfterFirstEnd / periodMinutes : 0;
+        for (LocalDateTime start = occurrenceStart(index);
+             start.isBefore(to) && !start.toLocalDate().isAfter(until);
+             start = occurrenceStart(++index)) {
+            LocalDateTime end = start.plus(Duration.between(startsAt, endsAt));
+            if (end.isAfter(from) && !exceptions.contains(start.toLocalDate())) {
+                occurrences.add(occurrence(start, end));
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * Checks whether an occurrence of the series starts on the given date, regardless of exceptions
+     *
+     * @param date date of the occurrence
+     * @return true, if the series has an occurrence on the date
+     */
+    public boolean hasOccurrenceOn(LocalDate date) {
+        long days = Duration.between(startsAt.toLocalDate().atStartOfDay(), date.atStartOfDay()).toDays();
+        return days >= 0 && days % (7L * intervalWeeks) == 0 && !date.isAfter(until);
+    }
+
+    /**
+     * Returns number of occurrences of the series, regardless of exceptions
+     *
+     * @return number of occurrences
+     */
+    public long countOccurrences() {
+        long days = Duration.between(startsAt.toLocalDate().atStartOfDay(), until.atStartOfDay()).toDays();
+        return days < 0 ? 0 : days / (7L * intervalWeeks) + 1;
+    }
+
+    private LocalDateTime occurrenceStart(long index) {
+        return startsAt.plusWeeks(index * intervalWeeks);
+    }
+
+    private Reservation occurrence(LocalDateTime start, LocalDateTime end) {
+        Reservation occurrence = new Reservation();
+        occurrence.setStartsAt(start);
+        occurrence.setEndsAt(end);
+        occurrence.setDoubles(doubles);
+        occurrence.setCost(cost);
+        occurrence.setCourt(court);
+        occurrence.setUser(user);
+        return occurrence;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ReservationSeries series)) {
+            return false;
+        }
+        return Objects.equals(getStartsAt(), series.getStartsAt()) && Objects.equals(getEndsAt(), series.getEndsAt()) && Objects.equals(getUntil(), series.getUntil()) && Objects.equals(getCourt(), series.getCourt());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getStartsAt(), getEndsAt(), getUntil(), getCourt());
+    }
+}
@@ -5,6 +5,8 @@ import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.io.Serializable;
@@ -13,13 +15,16 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Setter
 @Getter
 @ToString
 @Table(name = "Surface")
 public class SurfaceType implements Serializable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "surfaceSequence")
+    @SequenceGenerator(name = "surfaceSequence", sequenceName = "surface_seq", allocationSize = 50)
     private long id;
 
     @Column(name = "deleted_at")
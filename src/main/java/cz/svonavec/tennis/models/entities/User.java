@@ -26,7 +26,8 @@ import java.util.stream.Collectors;
 @Table(name = "Users")
 public class User implements Serializable, UserDetails {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "userSequence")
+    @SequenceGenerator(name = "userSequence", sequenceName = "users_seq", allocationSize = 50)
     private long id;
 
     @Column(name = "deleted_at")
@@ -58,6 +59,9 @@ public class User implements Serializable, UserDetails {
     @Column(name = "role")
     private List<Role> roles = new ArrayList<>();
 
+    @Column(name = "token_version")
+    private int tokenVersion;
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return getRoles()
@@ -0,0 +1,49 @@
+package cz.svonavec.tennis.models.events;
+
+import cz.svonavec.tennis.models.entities.Reservation;
+import cz.svonavec.tennis.models.projections.ReservationView;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Reservation of a court was created, updated or deleted. Holds a copy of the reservation data, so that listeners
+ * running after the transaction do not touch the entity.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ReservationChangedEvent {
+    public enum Change {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Change change;
+
+    private final long reservationId;
+
+    private final long courtId;
+
+    private final boolean doubles;
+
+    private final LocalDateTime startsAt;
+
+    private final LocalDateTime endsAt;
+
+    private final BigDecimal cost;
+
+    public static ReservationChangedEvent of(Change change, Reservation reservation) {
+        return new ReservationChangedEvent(change, reservation.getId(), reservation.getCourt().getId(),
+                reservation.isDoubles(), reservation.getStartsAt(), reservation.getEndsAt(), reservation.getCost());
+    }
+
+    public static ReservationChangedEvent of(Change change, ReservationView reservation) {
+        return new ReservationChangedEvent(change, reservation.getId(), reservation.getCourtId(),
+                reservation.isDoubles(), reservation.getStartsAt(), reservation.getEndsAt(), reservation.getCost());
+    }
+}
@@ -0,0 +1,85 @@
+package cz.svonavec.tennis.models.paging;
+
+import cz.svonavec.tennis.exception.BadRequestException;
+import cz.svonavec.tennis.models.entities.Reservation;
+import cz.svonavec.tennis.models.projections.ReservationView;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a listing of reservations ordered by a time (of creation, or of start for time range listings) and id.
+ * Clients receive it as an opaque string and send it back to get the following page.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ReservationCursor {
+    private static final String SEPARATOR = "_";
+
+    private final LocalDateTime time;
+
+    private final long id;
+
+    /**
+     * Creates cursor pointing right after given reservation
+     *
+     * @param reservation last reservation of the page
+     * @return cursor of the next page
+     */
+    public static ReservationCursor after(Reservation reservation) {
+        return new ReservationCursor(reservation.getCreatedAt(), reservation.getId());
+    }
+
+    /**
+     * Creates cursor pointing right after given reservation view
+     *
+     * @param reservation last reservation of the page
+     * @return cursor of the next page
+     */
+    public static ReservationCursor after(ReservationView reservation) {
+        return new ReservationCursor(reservation.getCreatedAt(), reservation.getId());
+    }
+
+    /**
+     * Creates cursor pointing right after given reservation view in a listing ordered by start
+     *
+     * @param reservation last reservation of the page
+     * @return cursor of the next page
+     */
+    public static ReservationCursor afterStart(ReservationView reservation) {
+        return new ReservationCursor(reservation.getStartsAt(), reservation.getId());
+    }
+
+    /**
+     * Decodes cursor previously sent to the client
+     *
+     * @param value encoded cursor, or null for the first page
+     * @return decoded cursor, or null for the first page
+     */
+    public static ReservationCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            return new ReservationCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid page cursor.");
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((time + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
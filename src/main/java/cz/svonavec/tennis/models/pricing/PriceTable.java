@@ -0,0 +1,247 @@
+package cz.svonavec.tennis.models.pricing;
+
+import cz.svonavec.tennis.models.entities.SurfaceType;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+import static cz.svonavec.tennis.models.pricing.RateRule.MINUTES_PER_DAY;
+import static cz.svonavec.tennis.models.pricing.RateRule.MINUTES_PER_WEEK;
+
+/**
+ * Prices of a minute on a court compiled from the cost per minute of its surface and the pricing rules of the court
+ * and the surface. The week is split into segments with a constant price, ordered by their start, so a game spanning
+ * several rate bands is priced by walking the segments it overlaps instead of minute by minute.
+ *
+ * Prices of all segments are whole numbers over one common denominator, so the exact cost of a game in hundredths of
+ * CZK is a sum of longs and is rounded half up once at the end, in the same way as Reservation.calculateCost. Without
+ * any rules the table has one segment and gives the same costs as Reservation.calculateCost. Prices with too many
+ * decimal places, or games so long that the sum would overflow, are summed with BigDecimal instead.
+ *
+ * Charged minutes start at the minute in which the game starts.
+ */
+@Getter
+@ToString
+public class PriceTable {
+    private static final BigDecimal DOUBLES_MULTIPLIER = BigDecimal.valueOf(1.5);
+
+    private final long courtId;
+
+    private final long surfaceId;
+
+    // Cost per minute of the surface the table was compiled from, the table is stale once the cost changes
+    private final BigDecimal surfaceCost;
+
+    // Rules the table was compiled from, the table is stale once the rules are replaced
+    @ToString.Exclude
+    private final List<RateRule> rules;
+
+    // Start minute of the week of every segment, the first segment starts at 0
+    private final int[] starts;
+
+    // Cost of a singles minute in every segment
+    private final BigDecimal[] minuteCosts;
+
+    // Cost of a singles minute in every segment in hundredths of CZK times the denominator
+    private final long[] numerators;
+
+    private final long denominator;
+
+    // Sum of the numerators over all minutes of the week
+    private final long weekNumerator;
+
+    // False if the costs have to be summed with BigDecimal
+    private final boolean exact;
+
+    private PriceTable(long courtId, long surfaceId, BigDecimal surfaceCost, List<RateRule> rules, int[] starts,
+                       BigDecimal[] minuteCosts) {
+        this.courtId = courtId;
+        this.surfaceId = surfaceId;
+        this.surfaceCost = surfaceCost;
+        this.rules = rules;
+        this.starts = starts;
+        this.minuteCosts = minuteCosts;
+        int scale = 2;
+        for (BigDecimal cost : minuteCosts) {
+            scale = Math.max(scale, cost.scale());
+        }
+        long[] numerators = new long[minuteCosts.length];
+        long denominator = 0;
+        long weekNumerator = 0;
+        boolean exact = scale - 2 <= 18;
+        if (exact) {
+            try {
+                denominator = BigDecimal.ONE.movePointRight(scale - 2).longValueExact();
+                for (int i = 0; i < minuteCosts.length; i++) {
+                    numerators[i] = minuteCosts[i].movePointRight(scale).longValueExact();
+                    weekNumerator = Math.addExact(weekNumerator,
+                            Math.multiplyExact(numerators[i], (long) segmentEnd(i) - starts[i]));
+                }
+            } catch (ArithmeticException e) {
+                exact = false;
+            }
+        }
+        this.numerators = numerators;
+        this.denominator = denominator;
+        this.weekNumerator = weekNumerator;
+        this.exact = exact;
+    }
+
+    /**
+     * Compiles prices of the court from the rules that apply to it
+     *
+     * @param courtId id of the court
+     * @param surface surface of the court with its cost per minute
+     * @param rules all pricing rules
+     * @return compiled table of the court
+     */
+    public static PriceTable compile(long courtId, SurfaceType surface, List<RateRule> rules) {
+        List<RateRule> applicable = new ArrayList<>();
+        TreeSet<Integer> boundaries = new TreeSet<>(List.of(0, MINUTES_PER_WEEK));
+        for (RateRule rule : rules) {
+            if (rule.appliesTo(courtId, surface.getId())) {
+                applicable.add(rule);
+                for (int i = 0; i < rule.getWindowStarts().length; i++) {
+                    boundaries.add(rule.getWindowStarts()[i]);
+                    boundaries.add(rule.getWindowEnds()[i]);
+                }
+            }
+        }
+        applicable.sort(RateRule.PRECEDENCE.reversed());
+
+        List<Integer> starts = new ArrayList<>();
+        List<BigDecimal> costs = new ArrayList<>();
+        for (int start : boundaries.headSet(MINUTES_PER_WEEK)) {
+            BigDecimal cost = surface.getCostPerMinute();
+            for (RateRule rule : applicable) {
+                if (rule.covers(start)) {
+                    cost = cost.multiply(rule.getMultiplier());
+                    break;
+                }
+            }
+            // Neighbouring segments with the same price are merged
+            if (costs.isEmpty() || costs.getLast().compareTo(cost) != 0) {
+                starts.add(start);
+                costs.add(cost);
+            }
+        }
+        return new PriceTable(courtId, surface.getId(), surface.getCostPerMinute(), rules,
+                starts.stream().mapToInt(Integer::intValue).toArray(), costs.toArray(BigDecimal[]::new));
+    }
+
+    /**
+     * Calculates cost of a game on the court
+     *
+     * @param doubles whether the game is doubles
+     * @param startsAt start of the game
+     * @param minutes whole minutes of the game, game shorter than a minute is paid as 1 minute
+     * @return cost in CZK with scale 2
+     */
+    public BigDecimal cost(boolean doubles, LocalDateTime startsAt, long minutes) {
+        long charged = minutes != 0 ? minutes : 1;
+        int start = minuteOfWeek(startsAt);
+        long length = Math.abs(charged);
+        if (exact) {
+            try {
+                long total = sum(start, length);
+                long totalDenominator = denominator;
+                if (doubles) {
+                    total = Math.multiplyExact(total, 3);
+                    totalDenominator = Math.multiplyExact(totalDenominator, 2);
+                }
+                // Half up rounds halves away from zero, so the magnitude is rounded and the sign applied afterwards
+                long rounded = Math.addExact(Math.multiplyExact(Math.absExact(total), 2), totalDenominator) /
+                        Math.multiplyExact(totalDenominator, 2);
+                return BigDecimal.valueOf((total < 0) != (charged < 0) ? -rounded : rounded, 2);
+            } catch (ArithmeticException e) {
+                // Summed below with BigDecimal
+            }
+        }
+        BigDecimal total = exactSum(start, length);
+        if (doubles) {
+            total = total.multiply(DOUBLES_MULTIPLIER);
+        }
+        return (charged < 0 ? total.negate() : total).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Returns whether the table was compiled from the surface with its current cost and from the rules
+     *
+     * @param surface surface of the court
+     * @param rules current pricing rules
+     * @return true if the table can be used for the surface and the rules
+     */
+    public boolean isCompiledFrom(SurfaceType surface, List<RateRule> rules) {
+        return surfaceId == surface.getId() && this.rules == rules
+                && surfaceCost.compareTo(surface.getCostPerMinute()) == 0;
+    }
+
+    public static int minuteOfWeek(LocalDateTime time) {
+        return (time.getDayOfWeek().getValue() - 1) * MINUTES_PER_DAY + time.getHour() * 60 + time.getMinute();
+    }
+
+    /**
+     * Sums numerators of length minutes from the start minute, whole weeks at once and the rest segment by segment
+     */
+    private long sum(int start, long length) {
+        long total = Math.multiplyExact(length / MINUTES_PER_WEEK, weekNumerator);
+        long rest = length % MINUTES_PER_WEEK;
+        int segment = segmentAt(start);
+        int position = start;
+        while (rest > 0) {
+            long taken = Math.min(rest, segmentEnd(segment) - position);
+            total = Math.addExact(total, Math.multiplyExact(numerators[segment], taken));
+            rest -= taken;
+            position += (int) taken;
+            segment++;
+            if (position == MINUTES_PER_WEEK) {
+                position = 0;
+                segment = 0;
+            }
+        }
+        return total;
+    }
+
+    private BigDecimal exactSum(int start, long length) {
+        BigDecimal total = BigDecimal.ZERO;
+        long weeks = length / MINUTES_PER_WEEK;
+        if (weeks > 0) {
+            BigDecimal week = BigDecimal.ZERO;
+            for (int i = 0; i < minuteCosts.length; i++) {
+                week = week.add(minuteCosts[i].multiply(BigDecimal.valueOf(segmentEnd(i) - starts[i])));
+            }
+            total = week.multiply(BigDecimal.valueOf(weeks));
+        }
+        long rest = length % MINUTES_PER_WEEK;
+        int segment = segmentAt(start);
+        int position = start;
+        while (rest > 0) {
+            long taken = Math.min(rest, segmentEnd(segment) - position);
+            total = total.add(minuteCosts[segment].multiply(BigDecimal.valueOf(taken)));
+            rest -= taken;
+            position += (int) taken;
+            segment++;
+            if (position == MINUTES_PER_WEEK) {
+                position = 0;
+                segment = 0;
+            }
+        }
+        return total;
+    }
+
+    private int segmentAt(int minuteOfWeek) {
+        int index = Arrays.binarySearch(starts, minuteOfWeek);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private int segmentEnd(int segment) {
+        return segment + 1 < starts.length ? starts[segment + 1] : MINUTES_PER_WEEK;
+    }
+}
@@ -0,0 +1,104 @@
+package cz.svonavec.tennis.models.pricing;
+
+import cz.svonavec.tennis.models.entities.PricingRule;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Comparator;
+
+/**
+ * Immutable copy of a pricing rule with its windows converted to minutes of the week, kept in memory for compiling
+ * price tables. Minute 0 of the week is Monday 00:00.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class RateRule {
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    /**
+     * Order in which overlapping rules win, the last one wins
+     */
+    public static final Comparator<RateRule> PRECEDENCE = Comparator.comparingInt(RateRule::getPriority)
+            .thenComparing(rule -> rule.getCourtId() != null)
+            .thenComparingLong(RateRule::getId);
+
+    private final long id;
+
+    // Exactly one of court and surface is set
+    private final Long courtId;
+
+    private final Long surfaceId;
+
+    private final BigDecimal multiplier;
+
+    private final int priority;
+
+    // Windows of the rule as [start, end) minutes of the week, one per day
+    private final int[] windowStarts;
+
+    private final int[] windowEnds;
+
+    public RateRule(long id, Long courtId, Long surfaceId, DayOfWeek fromDay, DayOfWeek toDay,
+                    LocalTime startTime, LocalTime endTime, BigDecimal multiplier, int priority) {
+        this.id = id;
+        this.courtId = courtId;
+        this.surfaceId = surfaceId;
+        this.multiplier = multiplier;
+        this.priority = priority;
+        int days = Math.floorMod(toDay.getValue() - fromDay.getValue(), 7) + 1;
+        int start = minuteOfDay(startTime);
+        int end = endTime.equals(LocalTime.MIDNIGHT) ? MINUTES_PER_DAY : minuteOfDay(endTime);
+        this.windowStarts = new int[days];
+        this.windowEnds = new int[days];
+        for (int i = 0; i < days; i++) {
+            int day = (fromDay.getValue() - 1 + i) % 7;
+            windowStarts[i] = day * MINUTES_PER_DAY + start;
+            windowEnds[i] = day * MINUTES_PER_DAY + end;
+        }
+    }
+
+    public static RateRule of(PricingRule rule) {
+        // Only ids of the court and the surface are read, so their proxies are not initialized
+        return new RateRule(rule.getId(),
+                rule.getCourt() == null ? null : rule.getCourt().getId(),
+                rule.getSurface() == null ? null : rule.getSurface().getId(),
+                rule.getFromDay(), rule.getToDay(), rule.getStartTime(), rule.getEndTime(),
+                rule.getMultiplier(), rule.getPriority());
+    }
+
+    /**
+     * Returns whether the rule applies to the court
+     *
+     * @param courtId id of the court
+     * @param surfaceId id of the surface of the court
+     * @return true if the rule is a rule of the court or of its surface
+     */
+    public boolean appliesTo(long courtId, long surfaceId) {
+        return this.courtId != null ? this.courtId == courtId : this.surfaceId != null && this.surfaceId == surfaceId;
+    }
+
+    /**
+     * Returns whether a minute of the week is in one of the windows of the rule
+     *
+     * @param minuteOfWeek minute of the week
+     * @return true if the rule prices the minute
+     */
+    public boolean covers(int minuteOfWeek) {
+        for (int i = 0; i < windowStarts.length; i++) {
+            if (windowStarts[i] <= minuteOfWeek && minuteOfWeek < windowEnds[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+}
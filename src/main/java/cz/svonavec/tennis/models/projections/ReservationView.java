@@ -0,0 +1,64 @@
+package cz.svonavec.tennis.models.projections;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only row of a reservation with its court and surface, selected by a JPQL constructor expression. Unlike
+ * entities it has no proxies, no snapshot for dirty checking and holds only the id of the user instead of the whole
+ * user row.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class ReservationView {
+    /**
+     * Select clause of the constructor expression, columns are in the order of the constructor parameters
+     */
+    public static final String SELECT = "SELECT new cz.svonavec.tennis.models.projections.ReservationView(" +
+            "reservation.id, reservation.deletedAt, reservation.createdAt, reservation.doubles, " +
+            "reservation.startsAt, reservation.endsAt, reservation.cost, " +
+            "c.id, c.deletedAt, c.createdAt, c.description, " +
+            "s.id, s.deletedAt, s.createdAt, s.name, s.costPerMinute, " +
+            "reservation.user.id) ";
+
+    private final long id;
+
+    private final LocalDateTime deletedAt;
+
+    private final LocalDateTime createdAt;
+
+    private final boolean doubles;
+
+    private final LocalDateTime startsAt;
+
+    private final LocalDateTime endsAt;
+
+    private final BigDecimal cost;
+
+    private final long courtId;
+
+    private final LocalDateTime courtDeletedAt;
+
+    private final LocalDateTime courtCreatedAt;
+
+    private final String courtDescription;
+
+    private final long surfaceId;
+
+    private final LocalDateTime surfaceDeletedAt;
+
+    private final LocalDateTime surfaceCreatedAt;
+
+    private final String surfaceName;
+
+    private final BigDecimal surfaceCostPerMinute;
+
+    private final long userId;
+}
@@ -0,0 +1,62 @@
+package cz.svonavec.tennis.models.quote;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One candidate reservation of a quote together with its cost and availability. Nothing is created from the item.
+ */
+@Getter
+@ToString
+public class QuoteItem {
+    private final int index;
+
+    private final Long courtId;
+
+    private final LocalDateTime startsAt;
+
+    private final LocalDateTime endsAt;
+
+    private final boolean doubles;
+
+    private BigDecimal cost;
+
+    private boolean available;
+
+    private String error;
+
+    public QuoteItem(int index, Long courtId, LocalDateTime startsAt, LocalDateTime endsAt, boolean doubles) {
+        this.index = index;
+        this.courtId = courtId;
+        this.startsAt = startsAt;
+        this.endsAt = endsAt;
+        this.doubles = doubles;
+    }
+
+    /**
+     * Sets the outcome of the quote
+     *
+     * @param cost cost of the reservation if it was created now
+     * @param available true, if the court is free for the whole reservation
+     */
+    public void quote(BigDecimal cost, boolean available) {
+        this.cost = cost;
+        this.available = available;
+    }
+
+    /**
+     * Marks the item as invalid, so it has no cost
+     *
+     * @param error reason why the item cannot be quoted
+     */
+    public void reject(String error) {
+        this.error = error;
+    }
+
+    public boolean isRejected() {
+        return error != null;
+    }
+}
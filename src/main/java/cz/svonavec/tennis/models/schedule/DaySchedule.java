@@ -0,0 +1,97 @@
+package cz.svonavec.tennis.models.schedule;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable schedule of one day, reservations of every court with a reservation on the day ordered by start. Changes
+ * create a new schedule, so readers never see a schedule being modified.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class DaySchedule {
+    private static final Comparator<ScheduleEntry> BY_START = Comparator.comparing(ScheduleEntry::getStartsAt)
+            .thenComparing(ScheduleEntry::getReservationId);
+
+    private final LocalDate date;
+
+    // Court id to its reservations ordered by start
+    private final SortedMap<Long, List<ScheduleEntry>> courts;
+
+    private DaySchedule(LocalDate date, SortedMap<Long, List<ScheduleEntry>> courts) {
+        this.date = date;
+        this.courts = Collections.unmodifiableSortedMap(courts);
+    }
+
+    public static DaySchedule empty(LocalDate date) {
+        return new DaySchedule(date, new TreeMap<>());
+    }
+
+    /**
+     * Creates schedule of the day from reservations grouped by court, reservations do not have to be ordered
+     *
+     * @param date day of the schedule
+     * @param courts court id to its reservations
+     * @return schedule of the day
+     */
+    public static DaySchedule of(LocalDate date, Map<Long, List<ScheduleEntry>> courts) {
+        TreeMap<Long, List<ScheduleEntry>> sorted = new TreeMap<>();
+        courts.forEach((courtId, entries) -> {
+            if (!entries.isEmpty()) {
+                sorted.put(courtId, entries.stream().sorted(BY_START).toList());
+            }
+        });
+        return new DaySchedule(date, sorted);
+    }
+
+    /**
+     * Returns copy of the schedule with the reservation added, or replacing reservation with the same id
+     *
+     * @param entry reservation starting on the day
+     * @return changed schedule
+     */
+    public DaySchedule with(ScheduleEntry entry) {
+        List<ScheduleEntry> entries = courts.getOrDefault(entry.getCourtId(), List.of()).stream()
+                .filter(existing -> existing.getReservationId() != entry.getReservationId())
+                .collect(Collectors.toList());
+        entries.add(entry);
+        entries.sort(BY_START);
+        TreeMap<Long, List<ScheduleEntry>> changed = new TreeMap<>(courts);
+        changed.put(entry.getCourtId(), List.copyOf(entries));
+        return new DaySchedule(date, changed);
+    }
+
+    /**
+     * Returns copy of the schedule without the reservation
+     *
+     * @param entry reservation starting on the day
+     * @return changed schedule
+     */
+    public DaySchedule without(ScheduleEntry entry) {
+        List<ScheduleEntry> entries = courts.getOrDefault(entry.getCourtId(), List.of()).stream()
+                .filter(existing -> existing.getReservationId() != entry.getReservationId())
+                .toList();
+        TreeMap<Long, List<ScheduleEntry>> changed = new TreeMap<>(courts);
+        if (entries.isEmpty()) {
+            changed.remove(entry.getCourtId());
+        } else {
+            changed.put(entry.getCourtId(), entries);
+        }
+        return new DaySchedule(date, changed);
+    }
+
+    public boolean isEmpty() {
+        return courts.isEmpty();
+    }
+}
@@ -0,0 +1,44 @@
+package cz.svonavec.tennis.models.schedule;
+
+import cz.svonavec.tennis.models.events.ReservationChangedEvent;
+import cz.svonavec.tennis.models.projections.ReservationView;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Reservation on a day schedule of a court. Reservation belongs to the day on which it starts.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ScheduleEntry {
+    private final long reservationId;
+
+    private final long courtId;
+
+    private final LocalDateTime startsAt;
+
+    private final LocalDateTime endsAt;
+
+    private final boolean doubles;
+
+    public static ScheduleEntry of(ReservationView reservation) {
+        return new ScheduleEntry(reservation.getId(), reservation.getCourtId(), reservation.getStartsAt(),
+                reservation.getEndsAt(), reservation.isDoubles());
+    }
+
+    public static ScheduleEntry of(ReservationChangedEvent event) {
+        return new ScheduleEntry(event.getReservationId(), event.getCourtId(), event.getStartsAt(),
+                event.getEndsAt(), event.isDoubles());
+    }
+
+    public LocalDate getDate() {
+        return startsAt.toLocalDate();
+    }
+}
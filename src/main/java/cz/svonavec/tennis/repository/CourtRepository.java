@@ -2,6 +2,7 @@ package cz.svonavec.tennis.repository;
 
 import cz.svonavec.tennis.models.entities.Court;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CourtRepository {
@@ -13,6 +14,24 @@ public interface CourtRepository {
      */
     Court find(long id);
 
+    /**
+     * Finds court with corresponding id and locks its row in the database until the end of the transaction
+     * (SELECT ... FOR UPDATE). Used to serialize bookings of the court.
+     *
+     * @param id id of the court
+     * @return found court
+     */
+    Court lock(long id);
+
+    /**
+     * Finds courts with corresponding ids and locks their rows in the database until the end of the transaction.
+     * Rows are locked in order of ids, so two transactions locking several courts cannot deadlock.
+     *
+     * @param ids ids of the courts
+     * @return found courts ordered by id
+     */
+    List<Court> lockAll(Collection<Long> ids);
+
     /**
      * Finds and returns all courts in the database (undeleted)
      *
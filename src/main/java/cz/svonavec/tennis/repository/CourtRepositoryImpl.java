@@ -1,15 +1,20 @@
 package cz.svonavec.tennis.repository;
 
 import cz.svonavec.tennis.models.entities.Court;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
+@Timed("tennis.repository")
 public class CourtRepositoryImpl implements CourtRepository{
     @PersistenceContext
     private EntityManager entityManager;
@@ -24,11 +29,36 @@ public class CourtRepositoryImpl implements CourtRepository{
         return court;
     }
 
+    @Override
+    @Transactional
+    public Court lock(long id) {
+        Court court = entityManager.find(Court.class, id, LockModeType.PESSIMISTIC_WRITE);
+        if (court != null) {
+            entityManager.detach(court);
+        }
+        return court;
+    }
+
+    @Override
+    @Transactional
+    public List<Court> lockAll(Collection<Long> ids) {
+        List<Court> courts = entityManager.createQuery("SELECT court FROM Court court " +
+                        "WHERE court.id IN :ids ORDER BY court.id ASC", Court.class)
+                .setParameter("ids", ids)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+        for (Court court : courts) {
+            entityManager.detach(court);
+        }
+        return courts;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Court> findAll() {
         return entityManager.createQuery("SELECT court FROM Court court " +
                         "JOIN FETCH court.surface s WHERE court.deletedAt IS NULL", Court.class)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
                 .getResultList();
     }
 
@@ -55,6 +85,11 @@ public class CourtRepositoryImpl implements CourtRepository{
         entityManager.createQuery("UPDATE Reservation reservation " +
                         "SET reservation.deletedAt = :dateTime WHERE reservation.court.id = :id AND reservation.deletedAt IS NULL")
                 .setParameter("id", court.getId()).setParameter("dateTime", dateTime).executeUpdate();
+        entityManager.createQuery("UPDATE ReservationSeries series " +
+                        "SET series.deletedAt = :dateTime WHERE series.court.id = :id AND series.deletedAt IS NULL")
+                .setParameter("id", court.getId()).setParameter("dateTime", dateTime).executeUpdate();
+        // Bulk updates invalidate only cached queries over reservations, the cached court is evicted explicitly
+        entityManager.getEntityManagerFactory().getCache().evict(Court.class, court.getId());
         court.setDeletedAt(dateTime);
         return entityManager.merge(court);
     }
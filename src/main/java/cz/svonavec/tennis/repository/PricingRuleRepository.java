@@ -0,0 +1,46 @@
+package cz.svonavec.tennis.repository;
+
+import cz.svonavec.tennis.models.entities.PricingRule;
+
+import java.util.List;
+
+public interface PricingRuleRepository {
+    /**
+     * Finds and returns pricing rule from the database with corresponding id
+     *
+     * @param id id of the rule
+     * @return found rule
+     */
+    PricingRule find(long id);
+
+    /**
+     * Finds and returns all pricing rules in the database (undeleted)
+     *
+     * @return all rules
+     */
+    List<PricingRule> findAll();
+
+    /**
+     * Creates and saves pricing rule from given data
+     *
+     * @param rule rule data
+     * @return created rule with id
+     */
+    PricingRule create(PricingRule rule);
+
+    /**
+     * Updates the pricing rule with given data (changes information in rule with the same id) in the database
+     *
+     * @param rule rule data
+     * @return updated rule
+     */
+    PricingRule update(PricingRule rule);
+
+    /**
+     * Deletes pricing rule from the database. Performed as SOFT delete by assigning deletedAt field
+     *
+     * @param rule rule to be deleted
+     * @return deleted rule
+     */
+    PricingRule delete(PricingRule rule);
+}
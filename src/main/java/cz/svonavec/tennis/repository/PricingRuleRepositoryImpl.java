@@ -0,0 +1,59 @@
+package cz.svonavec.tennis.repository;
+
+import cz.svonavec.tennis.models.entities.PricingRule;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@Timed("tennis.repository")
+public class PricingRuleRepositoryImpl implements PricingRuleRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public PricingRule find(long id) {
+        PricingRule rule = entityManager.find(PricingRule.class, id);
+        if (rule != null) {
+            entityManager.detach(rule);
+        }
+        return rule;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PricingRule> findAll() {
+        return entityManager.createQuery("SELECT rule FROM PricingRule rule WHERE rule.deletedAt IS NULL " +
+                        "ORDER BY rule.id ASC", PricingRule.class)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional
+    public PricingRule create(PricingRule rule) {
+        if (rule.getId() == 0) {
+            entityManager.persist(rule);
+            return rule;
+        }
+        return entityManager.merge(rule);
+    }
+
+    @Override
+    @Transactional
+    public PricingRule update(PricingRule rule) {
+        return entityManager.merge(rule);
+    }
+
+    @Override
+    @Transactional
+    public PricingRule delete(PricingRule rule) {
+        rule.setDeletedAt(LocalDateTime.now());
+        return entityManager.merge(rule);
+    }
+}
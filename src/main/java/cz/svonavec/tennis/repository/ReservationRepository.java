@@ -1,8 +1,13 @@
 package cz.svonavec.tennis.repository;
 
 import cz.svonavec.tennis.models.entities.Reservation;
+import cz.svonavec.tennis.models.paging.ReservationCursor;
+import cz.svonavec.tennis.models.projections.ReservationView;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ReservationRepository {
     /**
@@ -28,6 +33,24 @@ public interface ReservationRepository {
      */
     List<Reservation> findByCourt(long courtId);
 
+    /**
+     * Finds all live reservations of the court as read-only views, used to announce reservations that are deleted
+     * together with the court by a bulk update
+     *
+     * @param courtId id of the court
+     * @return live reservations of the court
+     */
+    List<ReservationView> findViewsByCourt(long courtId);
+
+    /**
+     * Finds all live reservations of the user as read-only views, used to announce reservations that are deleted
+     * together with the user by a bulk update
+     *
+     * @param userId id of the user
+     * @return live reservations of the user
+     */
+    List<ReservationView> findViewsByUser(long userId);
+
     /**
      * Finds and returns all reservations from the database for given user identified by unique phone number
      *
@@ -37,6 +60,110 @@ public interface ReservationRepository {
      */
     List<Reservation> findByPhone(String phoneNumber, boolean futureOnly);
 
+    /**
+     * Finds one page of reservations in the database (undeleted) ordered by time of creation and id. One row more
+     * than the limit is returned if there is a next page. Rows are selected directly into views, no entities are
+     * loaded.
+     *
+     * @param after cursor of the last reservation of the previous page, null for the first page
+     * @param limit maximal number of reservations on the page
+     * @return at most limit + 1 reservations following the cursor as read-only views
+     */
+    List<ReservationView> findAllPage(ReservationCursor after, int limit);
+
+    /**
+     * Finds one page of reservations for given court ordered by time of creation and id. One row more than the limit
+     * is returned if there is a next page.
+     *
+     * @param courtId id of the court
+     * @param after cursor of the last reservation of the previous page, null for the first page
+     * @param limit maximal number of reservations on the page
+     * @return at most limit + 1 reservations following the cursor as read-only views
+     */
+    List<ReservationView> findByCourtPage(long courtId, ReservationCursor after, int limit);
+
+    /**
+     * Finds one page of reservations for given user ordered by time of creation and id. One row more than the limit
+     * is returned if there is a next page.
+     *
+     * @param phoneNumber unique phone number of the user
+     * @param futureOnly true, if only reservations starting in future are requested
+     * @param after cursor of the last reservation of the previous page, null for the first page
+     * @param limit maximal number of reservations on the page
+     * @return at most limit + 1 reservations following the cursor as read-only views
+     */
+    List<ReservationView> findByPhonePage(String phoneNumber, boolean futureOnly, ReservationCursor after, int limit);
+
+    /**
+     * Finds one page of reservations (undeleted) starting in the time window [from, to) ordered by start and id. One
+     * row more than the limit is returned if there is a next page. Only rows of the window are read, so the cost does
+     * not depend on the length of the history.
+     *
+     * @param courtIds ids of the courts, null or empty for all courts
+     * @param from start of the window
+     * @param to end of the window
+     * @param after cursor of the last reservation of the previous page, null for the first page
+     * @param limit maximal number of reservations on the page
+     * @return at most limit + 1 reservations following the cursor as read-only views
+     */
+    List<ReservationView> findStartingBetweenPage(Collection<Long> courtIds, LocalDateTime from, LocalDateTime to,
+                                                  ReservationCursor after, int limit);
+
+    /**
+     * Passes all reservations (undeleted) of all courts starting in the time window [from, to) ordered by start to the
+     * consumer one by one as read-only views. The window is read by one range scan and rows are not kept by the
+     * persistence context. Must be called inside of a transaction.
+     *
+     * @param from start of the window
+     * @param to end of the window
+     * @param consumer consumer of the reservations
+     */
+    void scrollStartingBetween(LocalDateTime from, LocalDateTime to, Consumer<ReservationView> consumer);
+
+    /**
+     * Passes all reservations in the database (undeleted) ordered by id to the consumer one by one as read-only views.
+     * Rows are read from the database in batches and no entities are kept by the persistence context, so the whole
+     * table is never held in memory. Must be called inside of a transaction that stays open until the scrolling is
+     * finished.
+     *
+     * @param consumer consumer of the reservations
+     */
+    void scrollAll(Consumer<ReservationView> consumer);
+
+    /**
+     * Finds live reservations of given courts starting in the time window [from, to) ordered by court and start.
+     * Only the window is read from the index, never the whole history of the courts.
+     *
+     * @param courtIds ids of the courts
+     * @param from start of the window
+     * @param to end of the window
+     * @return reservations starting in the window
+     */
+    List<Reservation> findStartingBetween(Collection<Long> courtIds, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Finds live reservations of given courts running at given time, which started before it and end after it.
+     * Reservations of one court do not overlap, so there is at most one for every court. All courts are read by one
+     * query over the overlap index.
+     *
+     * @param courtIds ids of the courts
+     * @param time time at which the reservations are running
+     * @return reservations running at the time
+     */
+    List<Reservation> findRunningAt(Collection<Long> courtIds, LocalDateTime time);
+
+    /**
+     * Checks if there is a live reservation on the court overlapping with given time interval. Reservations can
+     * overlap in one point (one can start when another ends). Only one row is probed in the database.
+     *
+     * @param courtId id of the court
+     * @param start start of the interval
+     * @param end end of the interval
+     * @param excludeId id of the reservation that is not taken into account (0 if none)
+     * @return true, if there is an overlapping reservation
+     */
+    boolean existsOverlapping(long courtId, LocalDateTime start, LocalDateTime end, long excludeId);
+
     /**
      * Updates the reservation with given data (changes information in reservation with the same id) in the database
      *
@@ -53,6 +180,16 @@ public interface ReservationRepository {
      */
     Reservation create(Reservation reservation);
 
+    /**
+     * Creates and saves all given reservations, inserts are sent in JDBC batches of hibernate.jdbc.batch_size. Ids and
+     * time of creation are assigned to the given reservations. Reservations of every sent batch are detached, other
+     * entities managed in the current transaction (for example locked courts and users) stay managed.
+     *
+     * @param reservations reservations data with court and user
+     * @return created reservations
+     */
+    List<Reservation> createAll(List<Reservation> reservations);
+
     /**
      * Deletes reservation from the database. Performed as SOFT delete by assigning deletedAt field
      *
@@ -1,19 +1,36 @@
 package cz.svonavec.tennis.repository;
 
 import cz.svonavec.tennis.models.entities.Reservation;
+import cz.svonavec.tennis.models.paging.ReservationCursor;
+import cz.svonavec.tennis.models.projections.ReservationView;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Repository
+@Timed("tennis.repository")
 public class ReservationRepositoryImpl implements ReservationRepository {
     @PersistenceContext
     private EntityManager entityManager;
 
+    @Value("${application.reservation.export-fetch-size:500}")
+    private int exportFetchSize;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int jdbcBatchSize;
+
     @Override
     @Transactional(readOnly = true)
     public Reservation find(long id) {
@@ -46,6 +63,26 @@ public class ReservationRepositoryImpl implements ReservationRepository {
                 .getResultList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReservationView> findViewsByCourt(long courtId) {
+        return entityManager.createQuery(ReservationView.SELECT +
+                        "FROM Reservation reservation JOIN reservation.court c JOIN c.surface s " +
+                        "WHERE reservation.deletedAt IS NULL AND c.id = :id", ReservationView.class)
+                .setParameter("id", courtId)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReservationView> findViewsByUser(long userId) {
+        return entityManager.createQuery(ReservationView.SELECT +
+                        "FROM Reservation reservation JOIN reservation.court c JOIN c.surface s " +
+                        "WHERE reservation.deletedAt IS NULL AND reservation.user.id = :id", ReservationView.class)
+                .setParameter("id", userId)
+                .getResultList();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Reservation> findByPhone(String phoneNumber, boolean futureOnly) {
@@ -67,6 +104,158 @@ public class ReservationRepositoryImpl implements ReservationRepository {
                 .getResultList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReservationView> findAllPage(ReservationCursor after, int limit) {
+        return pageQuery("reservation.deletedAt IS NULL", after, limit)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReservationView> findByCourtPage(long courtId, ReservationCursor after, int limit) {
+        return pageQuery("reservation.deletedAt IS NULL AND reservation.court.id = :id", after, limit)
+                .setParameter("id", courtId)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReservationView> findByPhonePage(String phoneNumber, boolean futureOnly, ReservationCursor after, int limit) {
+        if (futureOnly) {
+            return pageQuery("reservation.deletedAt IS NULL AND reservation.user.phoneNumber = :phoneNumber AND " +
+                            "reservation.startsAt > :time", after, limit)
+                    .setParameter("phoneNumber", phoneNumber)
+                    .setParameter("time", LocalDateTime.now())
+                    .getResultList();
+        }
+        return pageQuery("reservation.deletedAt IS NULL AND reservation.user.phoneNumber = :phoneNumber", after, limit)
+                .setParameter("phoneNumber", phoneNumber)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReservationView> findStartingBetweenPage(Collection<Long> courtIds, LocalDateTime from,
+                                                         LocalDateTime to, ReservationCursor after, int limit) {
+        String courts = courtIds == null || courtIds.isEmpty() ? "" : "AND reservation.court.id IN :courtIds ";
+        // Seeks in the (starts_at, court_id) index from the cursor, or from the start of the window on the first page
+        String keyset = after == null ? "" : "AND (reservation.startsAt > :afterStartsAt OR " +
+                "(reservation.startsAt = :afterStartsAt AND reservation.id > :afterId)) ";
+        TypedQuery<ReservationView> query = entityManager.createQuery(ReservationView.SELECT +
+                        "FROM Reservation reservation JOIN reservation.court c JOIN c.surface s " +
+                        "WHERE reservation.deletedAt IS NULL " +
+                        "AND reservation.startsAt >= :from AND reservation.startsAt < :to " + courts + keyset +
+                        "ORDER BY reservation.startsAt ASC, reservation.id ASC", ReservationView.class)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .setMaxResults(limit + 1);
+        if (!courts.isEmpty()) {
+            query.setParameter("courtIds", courtIds);
+        }
+        if (after != null) {
+            query.setParameter("afterStartsAt", after.getTime())
+                    .setParameter("afterId", after.getId());
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void scrollStartingBetween(LocalDateTime from, LocalDateTime to, Consumer<ReservationView> consumer) {
+        Session session = entityManager.unwrap(Session.class);
+        try (ScrollableResults<ReservationView> results = session.createSelectionQuery(ReservationView.SELECT +
+                        "FROM Reservation reservation JOIN reservation.court c JOIN c.surface s " +
+                        "WHERE reservation.deletedAt IS NULL " +
+                        "AND reservation.startsAt >= :from AND reservation.startsAt < :to " +
+                        "ORDER BY reservation.startsAt ASC, reservation.id ASC", ReservationView.class)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .setFetchSize(exportFetchSize)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                consumer.accept(results.get());
+            }
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void scrollAll(Consumer<ReservationView> consumer) {
+        Session session = entityManager.unwrap(Session.class);
+        // Views are not managed by the session, so nothing accumulates in it while scrolling
+        try (ScrollableResults<ReservationView> results = session.createSelectionQuery(ReservationView.SELECT +
+                        "FROM Reservation reservation JOIN reservation.court c JOIN c.surface s " +
+                        "WHERE reservation.deletedAt IS NULL ORDER BY reservation.id ASC", ReservationView.class)
+                .setFetchSize(exportFetchSize)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                consumer.accept(results.get());
+            }
+        }
+    }
+
+    /**
+     * Creates query seeking directly to the cursor instead of skipping rows of the previous pages, so every page
+     * costs the same no matter how deep in the listing it is. Rows are selected into views, the user is not joined.
+     */
+    private TypedQuery<ReservationView> pageQuery(String condition, ReservationCursor after, int limit) {
+        String keyset = after == null ? "" : "AND (reservation.createdAt > :afterCreatedAt OR " +
+                "(reservation.createdAt = :afterCreatedAt AND reservation.id > :afterId)) ";
+        TypedQuery<ReservationView> query = entityManager.createQuery(ReservationView.SELECT +
+                        "FROM Reservation reservation JOIN reservation.court c JOIN c.surface s " +
+                        "WHERE " + condition + " " + keyset +
+                        "ORDER BY reservation.createdAt ASC, reservation.id ASC", ReservationView.class)
+                .setMaxResults(limit + 1);
+        if (after != null) {
+            query.setParameter("afterCreatedAt", after.getTime())
+                    .setParameter("afterId", after.getId());
+        }
+        return query;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Reservation> findStartingBetween(Collection<Long> courtIds, LocalDateTime from, LocalDateTime to) {
+        return entityManager.createQuery("SELECT reservation FROM Reservation reservation " +
+                        "WHERE reservation.court.id IN :courtIds AND reservation.deletedAt IS NULL " +
+                        "AND reservation.startsAt >= :from AND reservation.startsAt < :to " +
+                        "ORDER BY reservation.court.id ASC, reservation.startsAt ASC", Reservation.class)
+                .setParameter("courtIds", courtIds)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Reservation> findRunningAt(Collection<Long> courtIds, LocalDateTime time) {
+        return entityManager.createQuery("SELECT reservation FROM Reservation reservation " +
+                        "WHERE reservation.court.id IN :courtIds AND reservation.deletedAt IS NULL " +
+                        "AND reservation.startsAt < :time AND reservation.endsAt > :time", Reservation.class)
+                .setParameter("courtIds", courtIds)
+                .setParameter("time", time)
+                .getResultList();
+    }
+
+    @Override
+    @Timed("tennis.reservation.overlap")
+    @Transactional(readOnly = true)
+    public boolean existsOverlapping(long courtId, LocalDateTime start, LocalDateTime end, long excludeId) {
+        // Reservation can begin at the same time another one ends
+        return !entityManager.createQuery("SELECT reservation.id FROM Reservation reservation " +
+                        "WHERE reservation.court.id = :courtId AND reservation.deletedAt IS NULL " +
+                        "AND reservation.startsAt < :end AND reservation.endsAt > :start " +
+                        "AND reservation.id <> :excludeId", Long.class)
+                .setParameter("courtId", courtId)
+                .setParameter("start", start)
+                .setParameter("end", end)
+                .setParameter("excludeId", excludeId)
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
+    }
+
     @Override
     @Transactional
     public Reservation create(Reservation reservation) {
@@ -77,6 +266,26 @@ public class ReservationRepositoryImpl implements ReservationRepository {
         return entityManager.merge(reservation);
     }
 
+    @Override
+    @Transactional
+    public List<Reservation> createAll(List<Reservation> reservations) {
+        int blockStart = 0;
+        for (int i = 0; i < reservations.size(); i++) {
+            entityManager.persist(reservations.get(i));
+            if ((i + 1) % jdbcBatchSize == 0) {
+                // Inserts of the block are sent as one JDBC batch and persisted reservations are no longer needed,
+                // courts and users locked by the caller stay managed
+                entityManager.flush();
+                for (Reservation reservation : reservations.subList(blockStart, i + 1)) {
+                    entityManager.detach(reservation);
+                }
+                blockStart = i + 1;
+            }
+        }
+        entityManager.flush();
+        return reservations;
+    }
+
     @Override
     @Transactional
     public Reservation update(Reservation reservation) {
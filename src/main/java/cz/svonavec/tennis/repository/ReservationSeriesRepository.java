@@ -0,0 +1,54 @@
+package cz.svonavec.tennis.repository;
+
+import cz.svonavec.tennis.models.entities.ReservationSeries;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ReservationSeriesRepository {
+    /**
+     * Finds and returns reservation series from the database with corresponding id
+     *
+     * @param id id of the series
+     * @return found series
+     */
+    ReservationSeries find(long id);
+
+    /**
+     * Finds live series of given courts that can have an occurrence on or after the given date, that is series
+     * starting before the end of a window and lasting at least until its start. Occurrences themselves are computed
+     * by the caller.
+     *
+     * @param courtIds ids of the courts
+     * @param from first day of the window
+     * @param to end of the window (exclusive)
+     * @return series ordered by court
+     */
+    List<ReservationSeries> findActive(Collection<Long> courtIds, LocalDate from, LocalDateTime to);
+
+    /**
+     * Creates and saves new series in the database
+     *
+     * @param series series data with court and user
+     * @return created series
+     */
+    ReservationSeries create(ReservationSeries series);
+
+    /**
+     * Updates existing series in the database
+     *
+     * @param series updated series
+     * @return updated series
+     */
+    ReservationSeries update(ReservationSeries series);
+
+    /**
+     * Soft deletes series in the database, its occurrences are freed
+     *
+     * @param series series to delete
+     * @return deleted series
+     */
+    ReservationSeries delete(ReservationSeries series);
+}
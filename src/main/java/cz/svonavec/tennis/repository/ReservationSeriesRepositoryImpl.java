@@ -0,0 +1,67 @@
+package cz.svonavec.tennis.repository;
+
+import cz.svonavec.tennis.models.entities.ReservationSeries;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@Timed("tennis.repository")
+public class ReservationSeriesRepositoryImpl implements ReservationSeriesRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public ReservationSeries find(long id) {
+        ReservationSeries series = entityManager.find(ReservationSeries.class, id);
+        if (series != null) {
+            entityManager.detach(series);
+        }
+        return series;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReservationSeries> findActive(Collection<Long> courtIds, LocalDate from, LocalDateTime to) {
+        return entityManager.createQuery("SELECT DISTINCT series FROM ReservationSeries series " +
+                        "LEFT JOIN FETCH series.exceptions " +
+                        "WHERE series.court.id IN :courtIds AND series.deletedAt IS NULL " +
+                        "AND series.until >= :from AND series.startsAt < :to " +
+                        "ORDER BY series.court.id ASC", ReservationSeries.class)
+                .setParameter("courtIds", courtIds)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional
+    public ReservationSeries create(ReservationSeries series) {
+        if (series.getId() == 0) {
+            entityManager.persist(series);
+            return series;
+        }
+        return entityManager.merge(series);
+    }
+
+    @Override
+    @Transactional
+    public ReservationSeries update(ReservationSeries series) {
+        return entityManager.merge(series);
+    }
+
+    @Override
+    @Transactional
+    public ReservationSeries delete(ReservationSeries series) {
+        series.setDeletedAt(LocalDateTime.now());
+        return entityManager.merge(series);
+    }
+}
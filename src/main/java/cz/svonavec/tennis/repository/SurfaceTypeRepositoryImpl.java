@@ -1,8 +1,10 @@
 package cz.svonavec.tennis.repository;
 
 import cz.svonavec.tennis.models.entities.SurfaceType;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,6 +12,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
+@Timed("tennis.repository")
 public class SurfaceTypeRepositoryImpl implements SurfaceTypeRepository{
     @PersistenceContext
     private EntityManager entityManager;
@@ -28,6 +31,7 @@ public class SurfaceTypeRepositoryImpl implements SurfaceTypeRepository{
     @Transactional(readOnly = true)
     public List<SurfaceType> findAll() {
         return entityManager.createQuery("SELECT surfaceType FROM SurfaceType surfaceType WHERE surfaceType.deletedAt IS NULL", SurfaceType.class)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
                 .getResultList();
     }
 
@@ -2,6 +2,7 @@ package cz.svonavec.tennis.repository;
 
 import cz.svonavec.tennis.models.entities.User;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface UserRepository {
@@ -21,6 +22,22 @@ public interface UserRepository {
      */
     User findByPhoneNumber(String phoneNumber);
 
+    /**
+     * Finds and returns users from the database with corresponding unique phone numbers in one query
+     *
+     * @param phoneNumbers unique phone numbers of the users
+     * @return found users
+     */
+    List<User> findByPhoneNumbers(Collection<String> phoneNumbers);
+
+    /**
+     * Finds version of tokens of the user without loading the whole user
+     *
+     * @param id id of the user
+     * @return current token version, or null if the user does not exist or is deleted
+     */
+    Integer findTokenVersion(long id);
+
     /**
      * Finds and returns all surfaces in the database (undeleted)
      *
@@ -1,6 +1,7 @@
 package cz.svonavec.tennis.repository;
 
 import cz.svonavec.tennis.models.entities.User;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
@@ -8,9 +9,11 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
+@Timed("tennis.repository")
 public class UserRepositoryImpl implements UserRepository{
     @PersistenceContext
     private EntityManager entityManager;
@@ -43,6 +46,29 @@ public class UserRepositoryImpl implements UserRepository{
         return user;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<User> findByPhoneNumbers(Collection<String> phoneNumbers) {
+        List<User> users = entityManager.createQuery("SELECT user FROM User user LEFT JOIN FETCH user.roles " +
+                        "WHERE user.phoneNumber IN :phoneNumbers", User.class)
+                .setParameter("phoneNumbers", phoneNumbers)
+                .getResultList();
+        for (User user : users) {
+            entityManager.detach(user);
+        }
+        return users;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Integer findTokenVersion(long id) {
+        List<Integer> versions = entityManager.createQuery("SELECT user.tokenVersion FROM User user " +
+                        "WHERE user.id = :id AND user.deletedAt IS NULL", Integer.class)
+                .setParameter("id", id)
+                .getResultList();
+        return versions.isEmpty() ? null : versions.get(0);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<User> findAll() {
@@ -73,6 +99,9 @@ public class UserRepositoryImpl implements UserRepository{
         entityManager.createQuery("UPDATE Reservation reservation " +
                         "SET reservation.deletedAt = :dateTime WHERE reservation.user.id = :id AND reservation.deletedAt IS NULL")
                 .setParameter("id", user.getId()).setParameter("dateTime", dateTime).executeUpdate();
+        entityManager.createQuery("UPDATE ReservationSeries series " +
+                        "SET series.deletedAt = :dateTime WHERE series.user.id = :id AND series.deletedAt IS NULL")
+                .setParameter("id", user.getId()).setParameter("dateTime", dateTime).executeUpdate();
         user.setDeletedAt(dateTime);
         return entityManager.merge(user);
     }
@@ -7,7 +7,11 @@ import cz.svonavec.tennis.models.dtos.LoginUserDTO;
 import cz.svonavec.tennis.models.dtos.UserDTO;
 import cz.svonavec.tennis.models.dtos.UserRegisterDTO;
 import cz.svonavec.tennis.models.entities.User;
+import cz.svonavec.tennis.exception.ResourceNotFoundException;
 import cz.svonavec.tennis.service.JwtService;
+import cz.svonavec.tennis.service.UserService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,6 +20,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -34,10 +39,14 @@ public class AuthRestController {
 
     private final JwtService jwtService;
 
-    public AuthRestController(UserFacade userFacade, AuthenticationManager authenticationManager, JwtService jwtService) {
+    private final UserService userService;
+
+    public AuthRestController(UserFacade userFacade, AuthenticationManager authenticationManager, JwtService jwtService,
+                              UserService userService) {
         this.userFacade = userFacade;
         this.authenticationManager = authenticationManager;
         this.jwtService = jwtService;
+        this.userService = userService;
     }
 
     @PostMapping("/login")
@@ -84,12 +93,38 @@ public class AuthRestController {
     })
     public ResponseEntity<RefreshResponse> refresh(
             @Parameter(description = "Refresh token", required = true) @RequestParam String refreshToken) {
-        String phone = jwtService.extractUsername(refreshToken);
-        if (jwtService.validateTokenPhone(refreshToken, phone, "refresh")) {
-            String accessToken = jwtService.generateTokenFromPhone(phone);
-            return ResponseEntity.ok(new RefreshResponse(accessToken, refreshToken, phone));
+        try {
+            Claims claims = jwtService.extractTokenClaims(refreshToken);
+            String phone = claims.getSubject();
+            if (jwtService.validateClaims(claims, phone, "refresh")) {
+                // Access token carries current roles of the user, refresh tokens issued before revocation or without
+                // a version are refused
+                User user = userService.findPrincipal(phone);
+                Integer version = claims.get(JwtService.VERSION_CLAIM, Integer.class);
+                if (version != null && version == user.getTokenVersion()) {
+                    String accessToken = jwtService.generateTokenForUser(user, "access");
+                    return ResponseEntity.ok(new RefreshResponse(accessToken, refreshToken, phone));
+                }
+            }
+        } catch (JwtException | ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
     }
+
+    @PostMapping("/keys/rotate")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Rotate signing key", description = "Reloads signing keys from the keys file. Tokens are " +
+            "signed by the first key of the file, tokens signed by keys that are no longer in the file are refused.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Signing key rotated"),
+            @ApiResponse(responseCode = "400", description = "Signing keys are not read from a keys file"),
+            @ApiResponse(responseCode = "401", description = "Authentication failed."),
+            @ApiResponse(responseCode = "403", description = "Only admin can rotate the signing key")
+    })
+    public ResponseEntity<Void> rotateKeys() {
+        jwtService.reloadKeys();
+        return ResponseEntity.noContent().build();
+    }
 }
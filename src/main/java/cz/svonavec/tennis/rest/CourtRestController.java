@@ -1,8 +1,10 @@
 package cz.svonavec.tennis.rest;
 
 import cz.svonavec.tennis.facade.CourtFacade;
+import cz.svonavec.tennis.models.dtos.CourtAvailabilityDTO;
 import cz.svonavec.tennis.models.dtos.CourtCreateDTO;
 import cz.svonavec.tennis.models.dtos.CourtDTO;
+import cz.svonavec.tennis.service.TableVersions;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -11,12 +13,18 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/courts")
@@ -24,9 +32,17 @@ import java.util.List;
 public class CourtRestController {
     private final CourtFacade courtFacade;
 
+    private final ListingResponses listingResponses;
+
+    private final ReservationStreamHub reservationStreamHub;
+
     @Autowired
-    public CourtRestController(CourtFacade courtFacade) {
+    public CourtRestController(CourtFacade courtFacade,
+                               ListingResponses listingResponses,
+                               ReservationStreamHub reservationStreamHub) {
         this.courtFacade = courtFacade;
+        this.listingResponses = listingResponses;
+        this.reservationStreamHub = reservationStreamHub;
     }
 
     @GetMapping("/{id}")
@@ -46,14 +62,81 @@ public class CourtRestController {
     }
 
     @GetMapping
-    @Operation(summary = "Find all courts", description = "Returns all courts",
+    @Operation(summary = "Find all courts", description = "Returns all courts. Response carries ETag, request with matching " +
+                    "If-None-Match gets 304 without body.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Courts found"),
+            @ApiResponse(responseCode = "304", description = "Courts not modified")
+    })
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<List<CourtDTO>> findAll(WebRequest request) {
+        return listingResponses.conditional(request, courtFacade::findAll, TableVersions.COURTS, TableVersions.SURFACES);
+    }
+
+    @GetMapping("/{id}/availability")
+    @Operation(summary = "Find free time of a court",
+            description = "Returns free intervals of a court in the time window that are at least minDuration minutes long",
             security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Courts found")
+            @ApiResponse(responseCode = "200", description = "Free intervals found"),
+            @ApiResponse(responseCode = "404", description = "Court not found"),
+            @ApiResponse(responseCode = "400", description = "Invalid time window or duration")
     })
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
-    public ResponseEntity<List<CourtDTO>> findAll(){
-        return ResponseEntity.ok(courtFacade.findAll());
+    public ResponseEntity<CourtAvailabilityDTO> findAvailability(
+            @Parameter(description = "ID of the court", required = true, example = "1")
+            @PathVariable long id,
+            @Parameter(description = "Start of the window", required = true, example = "2025-04-01T08:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the window, at most 31 days after the start", required = true,
+                    example = "2025-04-01T20:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Minimal length of a free interval in minutes", example = "60")
+            @RequestParam(defaultValue = "0") long minDuration) {
+        return ResponseEntity.ok(courtFacade.findAvailability(id, from, to, minDuration));
+    }
+
+    @GetMapping("/availability")
+    @Operation(summary = "Find free time of several courts",
+            description = "Returns free intervals of the courts in the time window that are at least minDuration " +
+                    "minutes long. All courts are searched if no ids are given.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Free intervals found"),
+            @ApiResponse(responseCode = "404", description = "Court not found"),
+            @ApiResponse(responseCode = "400", description = "Invalid time window, duration or too many courts")
+    })
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<List<CourtAvailabilityDTO>> findAvailability(
+            @Parameter(description = "IDs of the courts, all courts if empty", example = "1,2")
+            @RequestParam(required = false) Set<Long> courtIds,
+            @Parameter(description = "Start of the window", required = true, example = "2025-04-01T08:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the window, at most 31 days after the start", required = true,
+                    example = "2025-04-01T20:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Minimal length of a free interval in minutes", example = "60")
+            @RequestParam(defaultValue = "0") long minDuration) {
+        return ResponseEntity.ok(courtFacade.findAvailability(courtIds, from, to, minDuration));
+    }
+
+    @GetMapping(value = "/{id}/reservations/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream changes of reservations of the court",
+            description = "Opens Server-Sent Events stream pushing every committed creation, update and deletion of " +
+                    "a reservation of the court as a reservation event. Client that does not keep up with the changes " +
+                    "is disconnected and has to reconnect.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened"),
+            @ApiResponse(responseCode = "404", description = "Court not found")
+    })
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public SseEmitter streamReservations(
+            @Parameter(description = "ID of the court", required = true, example = "1")
+            @PathVariable long id) {
+        courtFacade.findById(id);
+        return reservationStreamHub.subscribe(id);
     }
 
     @PostMapping
@@ -0,0 +1,48 @@
+package cz.svonavec.tennis.rest;
+
+import cz.svonavec.tennis.service.TableVersions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Builds conditional responses of listings of rarely changing tables. ETag of the listing is derived from version
+ * counters of the tables, so request with matching If-None-Match is answered with 304 before the listing is loaded.
+ */
+@Component
+public class ListingResponses {
+    private final TableVersions tableVersions;
+
+    private final CacheControl cacheControl;
+
+    @Autowired
+    public ListingResponses(TableVersions tableVersions,
+                            @Value("${application.listing.max-age:0s}") Duration maxAge) {
+        this.tableVersions = tableVersions;
+        // Listings depend on the user, so they are cached only by the client and revalidated once they get stale
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePrivate().mustRevalidate();
+    }
+
+    /**
+     * Returns 304 if the client already has current version of the listing, otherwise loads the listing
+     *
+     * @param request current request
+     * @param body loads the listing
+     * @param tables names of the tables the listing is built from
+     * @return response with ETag and Cache-Control headers
+     */
+    public <T> ResponseEntity<T> conditional(WebRequest request, Supplier<T> body, String... tables) {
+        String etag = tableVersions.etag(tables);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(body.get());
+    }
+}
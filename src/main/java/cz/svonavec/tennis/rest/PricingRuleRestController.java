@@ -0,0 +1,104 @@
+package cz.svonavec.tennis.rest;
+
+import cz.svonavec.tennis.facade.PricingRuleFacade;
+import cz.svonavec.tennis.models.dtos.PricingRuleCreateDTO;
+import cz.svonavec.tennis.models.dtos.PricingRuleDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/pricing-rules")
+@Tag(name = "Pricing rules", description = "Management of peak and off-peak prices of courts")
+public class PricingRuleRestController {
+    private final PricingRuleFacade pricingRuleFacade;
+
+    @Autowired
+    public PricingRuleRestController(PricingRuleFacade pricingRuleFacade) {
+        this.pricingRuleFacade = pricingRuleFacade;
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Find pricing rule by ID", description = "Returns a pricing rule with corresponding ID",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Pricing rule found"),
+            @ApiResponse(responseCode = "404", description = "Pricing rule not found")
+    })
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<PricingRuleDTO> findById(
+            @Parameter(description = "ID of the pricing rule to be retrieved", required = true, example = "1")
+            @PathVariable long id) {
+        return ResponseEntity.ok(pricingRuleFacade.findById(id));
+    }
+
+    @GetMapping
+    @Operation(summary = "Find all pricing rules", description = "Returns all pricing rules",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Pricing rules found")
+    })
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<List<PricingRuleDTO>> findAll() {
+        return ResponseEntity.ok(pricingRuleFacade.findAll());
+    }
+
+    @PostMapping
+    @Operation(summary = "Create a new pricing rule",
+            description = "Creates a new pricing rule of a court or a surface and returns it. Reservations created " +
+                    "after the rule is created are priced by it, existing reservations keep their cost.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Pricing rule created successfully"),
+            @ApiResponse(responseCode = "404", description = "Court or surface not found"),
+            @ApiResponse(responseCode = "400", description = "Bad request")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PricingRuleDTO> create(
+            @Parameter(description = "Pricing rule data to create", required = true)
+            @Valid @RequestBody PricingRuleCreateDTO pricingRuleCreateDTO) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(pricingRuleFacade.create(pricingRuleCreateDTO));
+    }
+
+    @PutMapping("/{id}")
+    @Operation(summary = "Update pricing rule by ID", description = "Replaces all data of the pricing rule and returns it",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Pricing rule found and updated"),
+            @ApiResponse(responseCode = "404", description = "Pricing rule, court or surface not found"),
+            @ApiResponse(responseCode = "400", description = "Bad request")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PricingRuleDTO> update(
+            @Parameter(description = "ID of the pricing rule to be updated", required = true, example = "1")
+            @PathVariable long id,
+            @Parameter(description = "New data of the pricing rule", required = true)
+            @Valid @RequestBody PricingRuleCreateDTO pricingRuleCreateDTO) {
+        return ResponseEntity.ok(pricingRuleFacade.update(id, pricingRuleCreateDTO));
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete pricing rule by ID", description = "Deletes a pricing rule with corresponding ID",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Pricing rule found and deleted"),
+            @ApiResponse(responseCode = "404", description = "Pricing rule not found")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PricingRuleDTO> delete(
+            @Parameter(description = "ID of the pricing rule to be deleted", required = true, example = "1")
+            @PathVariable long id) {
+        return ResponseEntity.ok(pricingRuleFacade.delete(id));
+    }
+}
@@ -1,5 +1,7 @@
 package cz.svonavec.tennis.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import cz.svonavec.tennis.facade.ReservationFacade;
 import cz.svonavec.tennis.models.dtos.*;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,23 +12,34 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/reservations")
 @Tag(name = "Reservations", description = "Reservation management service")
 public class ReservationRestController {
+    private static final String NDJSON = "application/x-ndjson";
+
     private final ReservationFacade reservationFacade;
 
+    private final ObjectWriter reservationWriter;
+
     @Autowired
-    public ReservationRestController(ReservationFacade reservationFacade) {
+    public ReservationRestController(ReservationFacade reservationFacade, ObjectMapper objectMapper) {
         this.reservationFacade = reservationFacade;
+        this.reservationWriter = objectMapper.writerFor(ReservationDTO.class);
     }
 
     @GetMapping("/{id}")
@@ -45,46 +58,107 @@ public class ReservationRestController {
     }
 
     @GetMapping
-    @Operation(summary = "Find all reservations", description = "Returns all reservations",
+    @Operation(summary = "Find all reservations",
+            description = "Returns one page of all reservations ordered by date of creation",
             security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Reservations found")
+            @ApiResponse(responseCode = "200", description = "Reservations found"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
     })
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
-    public ResponseEntity<List<ReservationDTO>> findAll(){
-        return ResponseEntity.ok(reservationFacade.findAll());
+    public ResponseEntity<ReservationPageDTO> findAll(
+            @Parameter(description = "Cursor of the next page returned with the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Maximal number of reservations on the page (at most 500)", example = "50")
+            @RequestParam(defaultValue = "50") int limit){
+        return ResponseEntity.ok(reservationFacade.findAll(after, limit));
+    }
+
+    @GetMapping(params = {"from", "to"})
+    @Operation(summary = "Find reservations in time window",
+            description = "Returns one page of reservations starting in the time window [from, to) ordered by start, " +
+                    "optionally only for the given courts",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Reservations found"),
+            @ApiResponse(responseCode = "400", description = "Invalid time window, cursor or page size")
+    })
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<ReservationPageDTO> findStartingBetween(
+            @Parameter(description = "Start of the window", required = true, example = "2025-04-01T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the window", required = true, example = "2025-04-02T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "IDs of the courts, all courts if not given", example = "1,2")
+            @RequestParam(required = false) List<Long> courtIds,
+            @Parameter(description = "Cursor of the next page returned with the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Maximal number of reservations on the page (at most 500)", example = "50")
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(reservationFacade.findStartingBetween(courtIds, from, to, after, limit));
+    }
+
+    @GetMapping(value = "/export", produces = NDJSON)
+    @Operation(summary = "Export all reservations",
+            description = "Streams all reservations ordered by ID as newline delimited JSON, one reservation per line",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Reservations exported")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> export() {
+        StreamingResponseBody body = outputStream -> reservationFacade.exportAll(reservation -> {
+            try {
+                outputStream.write(reservationWriter.writeValueAsBytes(reservation));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
     }
 
     @GetMapping("/court/{id}")
     @Operation(summary = "Find all reservations for the court",
-            description = "Returns all reservations for the given court ordered by date of creation",
+            description = "Returns one page of reservations for the given court ordered by date of creation",
             security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Reservations found")
+            @ApiResponse(responseCode = "200", description = "Reservations found"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
     })
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
-    public ResponseEntity<List<ReservationDTO>> findByCourt(
+    public ResponseEntity<ReservationPageDTO> findByCourt(
             @Parameter(description = "ID of the court", required = true,
                     example = "1")
-            @PathVariable long id){
-        return ResponseEntity.ok(reservationFacade.findByCourt(id));
+            @PathVariable long id,
+            @Parameter(description = "Cursor of the next page returned with the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Maximal number of reservations on the page (at most 500)", example = "50")
+            @RequestParam(defaultValue = "50") int limit){
+        return ResponseEntity.ok(reservationFacade.findByCourt(id, after, limit));
     }
 
     @GetMapping("/user")
     @Operation(summary = "Find all reservations for the user",
-            description = "Returns all reservations for the given user and optionally only those starting in future",
+            description = "Returns one page of reservations for the given user ordered by date of creation and " +
+                    "optionally only those starting in future",
             security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Reservations found")
+            @ApiResponse(responseCode = "200", description = "Reservations found"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
     })
     @PreAuthorize("(hasRole('USER') and authentication.name == #phoneNumber) or hasRole('ADMIN')")
-    public ResponseEntity<List<ReservationDTO>> findByPhone(
+    public ResponseEntity<ReservationPageDTO> findByPhone(
             @Parameter(description = "Phone number of the user", required = true,
                     example = "+420907123456")
             @RequestParam String phoneNumber,
             @Parameter(description = "Find only reservations in the future")
-            @RequestParam(defaultValue = "false") boolean futureOnly) {
-        return ResponseEntity.ok(reservationFacade.findByPhone(phoneNumber, futureOnly));
+            @RequestParam(defaultValue = "false") boolean futureOnly,
+            @Parameter(description = "Cursor of the next page returned with the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Maximal number of reservations on the page (at most 500)", example = "50")
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(reservationFacade.findByPhone(phoneNumber, futureOnly, after, limit));
     }
 
     @PostMapping
@@ -102,6 +176,40 @@ public class ReservationRestController {
         return ResponseEntity.status(HttpStatus.CREATED).body(reservationFacade.create(reservationCreateDTO));
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Create a batch of reservations",
+            description = "Creates all valid reservations of the batch in one transaction and returns result of every " +
+                    "reservation. Reservations overlapping with existing ones or with earlier reservations of the batch " +
+                    "are rejected, the others are created.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed, see results of the reservations"),
+            @ApiResponse(responseCode = "400", description = "Empty or too large batch")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ReservationBatchResultDTO> createBatch(
+            @Parameter(description = "Reservations to create, at most 1000", required = true)
+            @RequestBody List<ReservationCreateDTO> reservationCreateDTOs) {
+        return ResponseEntity.ok(reservationFacade.createBatch(reservationCreateDTOs));
+    }
+
+    @PostMapping("/quote")
+    @Operation(summary = "Quote prices of candidate reservations",
+            description = "Returns cost and availability of every candidate reservation without creating any of them. " +
+                    "Cost is the one the reservation would get if it was created now, reservation is available if " +
+                    "it does not overlap with existing reservations. Candidates can overlap each other.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Quote calculated, see results of the reservations"),
+            @ApiResponse(responseCode = "400", description = "Empty or too large quote or too long time window")
+    })
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<List<ReservationQuoteItemDTO>> quote(
+            @Parameter(description = "Candidate reservations, at most 100 within 31 days", required = true)
+            @RequestBody List<ReservationQuoteDTO> reservationQuoteDTOs) {
+        return ResponseEntity.ok(reservationFacade.quote(reservationQuoteDTOs));
+    }
+
     @PutMapping
     @Operation(summary = "Update reservation", description = "Returns a updated reservation with corresponding ID",
             security = @SecurityRequirement(name = "bearerAuth"))
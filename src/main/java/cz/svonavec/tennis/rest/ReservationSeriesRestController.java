@@ -0,0 +1,120 @@
+package cz.svonavec.tennis.rest;
+
+import cz.svonavec.tennis.facade.ReservationSeriesFacade;
+import cz.svonavec.tennis.models.dtos.ReservationOccurrenceDTO;
+import cz.svonavec.tennis.models.dtos.ReservationSeriesCreateDTO;
+import cz.svonavec.tennis.models.dtos.ReservationSeriesDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/reservation-series")
+@Tag(name = "Reservation series", description = "Recurring reservation management service")
+public class ReservationSeriesRestController {
+    private final ReservationSeriesFacade reservationSeriesFacade;
+
+    @Autowired
+    public ReservationSeriesRestController(ReservationSeriesFacade reservationSeriesFacade) {
+        this.reservationSeriesFacade = reservationSeriesFacade;
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Find reservation series by ID", description = "Returns a reservation series with corresponding ID",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Reservation series found"),
+            @ApiResponse(responseCode = "404", description = "Reservation series not found")
+    })
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<ReservationSeriesDTO> findById(
+            @Parameter(description = "ID of the reservation series to be retrieved", required = true,
+                    example = "1")
+            @PathVariable long id) {
+        return ResponseEntity.ok(reservationSeriesFacade.findById(id));
+    }
+
+    @GetMapping("/{id}/occurrences")
+    @Operation(summary = "Find occurrences of reservation series",
+            description = "Returns occurrences of the series overlapping with the time window ordered by start",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Occurrences found"),
+            @ApiResponse(responseCode = "404", description = "Reservation series not found"),
+            @ApiResponse(responseCode = "400", description = "Invalid time window")
+    })
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<List<ReservationOccurrenceDTO>> findOccurrences(
+            @Parameter(description = "ID of the reservation series", required = true, example = "1")
+            @PathVariable long id,
+            @Parameter(description = "Start of the window", required = true, example = "2025-04-01T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the window", required = true, example = "2025-05-01T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(reservationSeriesFacade.findOccurrences(id, from, to));
+    }
+
+    @PostMapping
+    @Operation(summary = "Create a new reservation series",
+            description = "Creates a reservation repeating every intervalWeeks weeks until the given day. None of its " +
+                    "occurrences can overlap with existing reservations of the court.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Reservation series created successfully"),
+            @ApiResponse(responseCode = "400", description = "Bad request")
+    })
+    @PreAuthorize("(hasRole('USER') and authentication.name == #reservationSeriesCreateDTO.phoneNumber) or hasRole('ADMIN')")
+    public ResponseEntity<ReservationSeriesDTO> create(
+            @Parameter(description = "Reservation series data to create", required = true)
+            @Valid @RequestBody ReservationSeriesCreateDTO reservationSeriesCreateDTO) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(reservationSeriesFacade.create(reservationSeriesCreateDTO));
+    }
+
+    @PostMapping("/{id}/exceptions")
+    @Operation(summary = "Cancel one occurrence of reservation series",
+            description = "Skips the occurrence of the series on the given day, the court is free at that time",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Occurrence cancelled"),
+            @ApiResponse(responseCode = "404", description = "Reservation series not found"),
+            @ApiResponse(responseCode = "400", description = "Series has no occurrence on the day")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ReservationSeriesDTO> addException(
+            @Parameter(description = "ID of the reservation series", required = true, example = "1")
+            @PathVariable long id,
+            @Parameter(description = "Day of the cancelled occurrence", required = true, example = "2025-04-08")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(reservationSeriesFacade.addException(id, date));
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete reservation series by ID",
+            description = "Deletes a reservation series with corresponding ID together with all its occurrences",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Reservation series found and deleted"),
+            @ApiResponse(responseCode = "404", description = "Reservation series not found")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ReservationSeriesDTO> delete(
+            @Parameter(description = "ID of the reservation series to be deleted", required = true,
+                    example = "1")
+            @PathVariable long id) {
+        return ResponseEntity.ok(reservationSeriesFacade.delete(id));
+    }
+}
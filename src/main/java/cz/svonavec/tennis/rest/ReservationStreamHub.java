@@ -0,0 +1,180 @@
+package cz.svonavec.tennis.rest;
+
+import cz.svonavec.tennis.mapper.ReservationMapper;
+import cz.svonavec.tennis.models.dtos.ReservationChangeDTO;
+import cz.svonavec.tennis.models.events.ReservationChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fan-out of committed reservation changes to Server-Sent Events subscribers of the court. Publishing only offers the
+ * change to bounded buffers of the subscribers, changes are written to the clients by short-lived virtual threads, so
+ * a slow client never holds up the transaction that made the change or the other subscribers. Subscriber whose buffer
+ * is full is evicted and has to reconnect.
+ *
+ * Idle subscriber holds only its emitter and an empty buffer, no thread and no database polling. Subscription ends
+ * after the configured timeout, clients reconnect on their own.
+ */
+@Component
+public class ReservationStreamHub {
+    private final ReservationMapper reservationMapper;
+
+    private final int bufferSize;
+
+    private final long timeoutMillis;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Counter evictions;
+
+    @Autowired
+    public ReservationStreamHub(ReservationMapper reservationMapper,
+                                @Value("${application.reservation.stream.buffer-size:64}") int bufferSize,
+                                @Value("${application.reservation.stream.timeout:30m}") Duration timeout,
+                                MeterRegistry meterRegistry) {
+        this.reservationMapper = reservationMapper;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+        Gauge.builder("tennis.reservation.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Number of open reservation streams")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("tennis.reservation.stream.evictions")
+                .description("Number of subscribers evicted because they did not keep up with changes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens stream of changes of reservations of the court
+     *
+     * @param courtId id of the court
+     * @return emitter of the stream
+     */
+    public SseEmitter subscribe(long courtId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(courtId, emitter, new LinkedBlockingQueue<>(bufferSize));
+        subscribers.compute(courtId, (id, courtSubscribers) -> {
+            Set<Subscriber> updated = courtSubscribers == null ? ConcurrentHashMap.newKeySet() : courtSubscribers;
+            updated.add(subscriber);
+            return updated;
+        });
+        subscriberCount.incrementAndGet();
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        return emitter;
+    }
+
+    /**
+     * Passes committed change to all subscribers of the court
+     *
+     * @param event change of the reservation
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        Set<Subscriber> courtSubscribers = subscribers.get(event.getCourtId());
+        if (courtSubscribers == null || courtSubscribers.isEmpty()) {
+            return;
+        }
+        ReservationChangeDTO change = reservationMapper.mapToChangeDTO(event);
+        for (Subscriber subscriber : courtSubscribers) {
+            if (!subscriber.buffer.offer(change)) {
+                evictions.increment();
+                remove(subscriber);
+                subscriber.emitter.complete();
+            } else if (subscriber.sending.compareAndSet(false, true)) {
+                senders.execute(() -> drain(subscriber));
+            }
+        }
+    }
+
+    /**
+     * Returns number of open streams of the court
+     *
+     * @param courtId id of the court
+     * @return number of subscribers
+     */
+    public int subscriberCount(long courtId) {
+        Set<Subscriber> courtSubscribers = subscribers.get(courtId);
+        return courtSubscribers == null ? 0 : courtSubscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+    }
+
+    /**
+     * Writes buffered changes to the client. Only one drain of a subscriber runs at a time, so changes are written in
+     * order of their commits.
+     */
+    private void drain(Subscriber subscriber) {
+        do {
+            ReservationChangeDTO change;
+            while ((change = subscriber.buffer.poll()) != null) {
+                try {
+                    subscriber.emitter.send(SseEmitter.event()
+                            .name("reservation")
+                            .id(Long.toString(change.getReservationId()))
+                            .data(change));
+                } catch (IOException | IllegalStateException e) {
+                    // Client went away, the emitter is already completed
+                    remove(subscriber);
+                    subscriber.buffer.clear();
+                    return;
+                }
+            }
+            subscriber.sending.set(false);
+            // Change offered after the buffer was emptied but before the flag was cleared would be left behind
+        } while (!subscriber.buffer.isEmpty() && subscriber.sending.compareAndSet(false, true));
+    }
+
+    private void remove(Subscriber subscriber) {
+        // Set of the court is dropped together with its last subscriber, atomically with subscribing to the court
+        subscribers.computeIfPresent(subscriber.courtId, (id, courtSubscribers) -> {
+            if (courtSubscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return courtSubscribers.isEmpty() ? null : courtSubscribers;
+        });
+    }
+
+    private static class Subscriber {
+        private final long courtId;
+
+        private final SseEmitter emitter;
+
+        private final BlockingQueue<ReservationChangeDTO> buffer;
+
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        private Subscriber(long courtId, SseEmitter emitter, BlockingQueue<ReservationChangeDTO> buffer) {
+            this.courtId = courtId;
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+    }
+}
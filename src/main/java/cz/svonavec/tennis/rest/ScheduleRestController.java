@@ -0,0 +1,45 @@
+package cz.svonavec.tennis.rest;
+
+import cz.svonavec.tennis.facade.ScheduleFacade;
+import cz.svonavec.tennis.models.dtos.ScheduleDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/schedule")
+@Tag(name = "Schedule", description = "Day schedules of all courts")
+public class ScheduleRestController {
+    private final ScheduleFacade scheduleFacade;
+
+    @Autowired
+    public ScheduleRestController(ScheduleFacade scheduleFacade) {
+        this.scheduleFacade = scheduleFacade;
+    }
+
+    @GetMapping("/{date}")
+    @Operation(summary = "Find schedule of a day",
+            description = "Returns reservations starting on the day grouped by court and ordered by start. Days " +
+                    "around today are served from memory.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Schedule found"),
+            @ApiResponse(responseCode = "400", description = "Invalid date")
+    })
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<ScheduleDTO> findDay(
+            @Parameter(description = "Day of the schedule", required = true, example = "2025-04-01")
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(scheduleFacade.findDay(date));
+    }
+}
@@ -3,6 +3,7 @@ package cz.svonavec.tennis.rest;
 import cz.svonavec.tennis.facade.SurfaceTypeFacade;
 import cz.svonavec.tennis.models.dtos.SurfaceTypeCreateDTO;
 import cz.svonavec.tennis.models.dtos.SurfaceTypeDTO;
+import cz.svonavec.tennis.service.TableVersions;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -15,6 +16,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -25,9 +27,13 @@ import java.util.List;
 public class SurfaceTypeRestController {
     private final SurfaceTypeFacade surfaceTypeFacade;
 
+    private final ListingResponses listingResponses;
+
     @Autowired
-    public SurfaceTypeRestController(SurfaceTypeFacade surfaceTypeFacade) {
+    public SurfaceTypeRestController(SurfaceTypeFacade surfaceTypeFacade,
+                                     ListingResponses listingResponses) {
         this.surfaceTypeFacade = surfaceTypeFacade;
+        this.listingResponses = listingResponses;
     }
 
     @GetMapping("/{id}")
@@ -46,14 +52,16 @@ public class SurfaceTypeRestController {
     }
 
     @GetMapping
-    @Operation(summary = "Find all surfaces", description = "Returns all surfaces",
+    @Operation(summary = "Find all surfaces", description = "Returns all surfaces. Response carries ETag, request with matching " +
+                    "If-None-Match gets 304 without body.",
             security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Surfaces found")
+            @ApiResponse(responseCode = "200", description = "Surfaces found"),
+            @ApiResponse(responseCode = "304", description = "Surfaces not modified")
     })
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
-    public ResponseEntity<List<SurfaceTypeDTO>> findAll(){
-        return ResponseEntity.ok(surfaceTypeFacade.findAll());
+    public ResponseEntity<List<SurfaceTypeDTO>> findAll(WebRequest request) {
+        return listingResponses.conditional(request, surfaceTypeFacade::findAll, TableVersions.SURFACES);
     }
 
     @PostMapping
@@ -1,7 +1,9 @@
 package cz.svonavec.tennis.security;
 
+import cz.svonavec.tennis.models.entities.Role;
 import cz.svonavec.tennis.service.JwtService;
 import cz.svonavec.tennis.service.UserService;
+import io.jsonwebtoken.Claims;
 import io.micrometer.common.lang.NonNull;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -9,7 +11,9 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -18,9 +22,13 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
- * Token filter that checks validity of a bearer token and sets up security context.
+ * Token filter that checks validity of a bearer token and sets up security context. By default the authenticated user
+ * is loaded (from the principal cache), with application.jwt.stateless-auth the authentication is built only from the
+ * claims of the token.
  */
 @Slf4j
 @Component
@@ -30,15 +38,22 @@ public class AuthTokenFilter extends OncePerRequestFilter {
 
     private final UserService userService;
 
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    @Value("${application.jwt.stateless-auth:false}")
+    private boolean statelessAuth;
+
     @Autowired
-    public AuthTokenFilter(JwtService jwtService, UserService userService) {
+    public AuthTokenFilter(JwtService jwtService, UserService userService, VerifiedTokenCache verifiedTokenCache) {
         this.jwtService = jwtService;
         this.userService = userService;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     /**
      * Internal filter that checks if the request has Bearer token in authentication header, validates it and sets up
-     * security context.
+     * security context. Claims of the token are parsed only once and tokens with already verified signature are taken
+     * from the cache.
      *
      * @param request servlet request
      * @param response servlet response
@@ -52,13 +67,15 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         try {
             String token = parseJwt(request);
             if (token != null) {
-                String phoneNumber = jwtService.extractUsername(token);
+                Claims claims = verifiedTokenCache.verify(token);
+                String phoneNumber = claims.getSubject();
 
                 if (phoneNumber != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UserDetails userDetails = userService.findByPhoneNumber(phoneNumber);
-                    if (jwtService.validateToken(token, userDetails, jwtService.extractType(token))) {
-                        UsernamePasswordAuthenticationToken authToken =
-                                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                    UsernamePasswordAuthenticationToken authToken =
+                            statelessAuth && claims.containsKey(JwtService.ROLES_CLAIM)
+                                    ? authenticateFromClaims(claims, phoneNumber)
+                                    : authenticateUser(claims, phoneNumber);
+                    if (authToken != null) {
                         authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                         SecurityContextHolder.getContext().setAuthentication(authToken);
@@ -72,6 +89,46 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Authenticates the user loaded by the phone number from the token
+     *
+     * @param claims verified claims of the token
+     * @param phoneNumber phone number from the token
+     * @return authentication, or null if the claims are not valid
+     */
+    private UsernamePasswordAuthenticationToken authenticateUser(Claims claims, String phoneNumber) {
+        UserDetails userDetails = userService.findPrincipal(phoneNumber);
+        if (userDetails != null && jwtService.validateClaims(claims, userDetails.getUsername(),
+                claims.get("type", String.class))) {
+            return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        }
+        return null;
+    }
+
+    /**
+     * Authenticates the user only from roles in the token. Principal of the authentication is the phone number.
+     * Token is accepted only if it was issued with the current token version of the user, so that tokens issued before
+     * change of roles or deletion of the user are revoked.
+     *
+     * @param claims verified claims of the token
+     * @param phoneNumber phone number from the token
+     * @return authentication, or null if the claims are not valid or the token was revoked
+     */
+    private UsernamePasswordAuthenticationToken authenticateFromClaims(Claims claims, String phoneNumber) {
+        Long userId = claims.get(JwtService.USER_ID_CLAIM, Long.class);
+        Integer version = claims.get(JwtService.VERSION_CLAIM, Integer.class);
+        if (userId == null || version == null ||
+                !jwtService.validateClaims(claims, phoneNumber, claims.get("type", String.class)) ||
+                !userService.isTokenVersionCurrent(userId, version)) {
+            return null;
+        }
+        List<SimpleGrantedAuthority> authorities = new ArrayList<>();
+        for (Object role : claims.get(JwtService.ROLES_CLAIM, List.class)) {
+            authorities.add(new SimpleGrantedAuthority(Role.valueOf(role.toString()).toString()));
+        }
+        return new UsernamePasswordAuthenticationToken(phoneNumber, null, authorities);
+    }
+
     /**
      * Checks if Authorization header exists and correctly begins with Bearer.
      *
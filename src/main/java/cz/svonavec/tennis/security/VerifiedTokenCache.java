@@ -0,0 +1,133 @@
+package cz.svonavec.tennis.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import cz.svonavec.tennis.service.JwtService;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of claims of bearer tokens whose signature was already verified. Clients send the same token with every
+ * request until it expires, so the signature of a token is verified only once and following requests are served from
+ * the cache. Tokens are kept only as SHA-256 digests and every entry expires together with its token.
+ *
+ * The cache is emptied whenever the signing key is rotated, so that tokens signed by a retired key are refused even
+ * if they were verified before.
+ *
+ * Hit ratio of the cache is published as verifiedTokens cache metrics and time of signature verification as
+ * tennis.jwt.verify timer.
+ */
+@Component
+public class VerifiedTokenCache {
+    private final JwtService jwtService;
+
+    private final Cache<String, Claims> cache;
+
+    private final Timer verifyTimer;
+
+    // Incremented by every invalidation, claims verified while an invalidation ran are not kept in the cache
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public VerifiedTokenCache(JwtService jwtService,
+                              @Value("${application.jwt.cache.max-size:10000}") long maxSize,
+                              MeterRegistry meterRegistry) {
+        this.jwtService = jwtService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        this.verifyTimer = Timer.builder("tennis.jwt.verify")
+                .description("Time of verification of the signature of a token not found in the cache")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "verifiedTokens");
+        jwtService.addRotationListener(this::invalidateAll);
+    }
+
+    /**
+     * Returns claims of the token. Signature of the token is verified only if the token is not cached yet.
+     *
+     * @param token JWT token
+     * @return claims of the token
+     * @throws io.jsonwebtoken.JwtException if the token is invalid or expired
+     */
+    public Claims verify(String token) {
+        String digest = digest(token);
+        Claims claims = cache.getIfPresent(digest);
+        if (claims == null) {
+            long verifiedIn = generation.get();
+            claims = verifyTimer.record(() -> jwtService.extractTokenClaims(token));
+            cache.put(digest, claims);
+            if (generation.get() != verifiedIn) {
+                // Keys were rotated during the verification, the token could be signed by a key that is retired now
+                cache.invalidate(digest);
+            }
+        }
+        return claims;
+    }
+
+    /**
+     * Removes all verified tokens, so that all tokens are verified again
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Returns statistics of the cache (hits, misses, evictions)
+     *
+     * @return cache statistics
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported.", e);
+        }
+    }
+
+    /**
+     * Entry expires at the same time as the token itself
+     */
+    private static class TokenExpiry implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            if (claims.getExpiration() == null) {
+                return 0;
+            }
+            long remaining = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remaining, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
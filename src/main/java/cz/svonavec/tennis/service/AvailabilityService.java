@@ -0,0 +1,138 @@
+package cz.svonavec.tennis.service;
+
+import cz.svonavec.tennis.exception.BadRequestException;
+import cz.svonavec.tennis.exception.ResourceNotFoundException;
+import cz.svonavec.tennis.models.availability.FreeSlot;
+import cz.svonavec.tennis.models.entities.Court;
+import cz.svonavec.tennis.models.entities.Reservation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class AvailabilityService {
+    public static final int MAX_WINDOW_DAYS = 31;
+    public static final int MAX_COURTS = 50;
+
+    public final ReservationService reservationService;
+
+    public final CourtService courtService;
+
+    @Autowired
+    public AvailabilityService(ReservationService reservationService, CourtService courtService) {
+        this.reservationService = reservationService;
+        this.courtService = courtService;
+    }
+
+    /**
+     * Finds free intervals of the court in the window [from, to) that are at least minDuration long.
+     *
+     * @param courtId id of the court
+     * @param from start of the window
+     * @param to end of the window, at most {@value MAX_WINDOW_DAYS} days after from
+     * @param minDuration minimal length of a free interval
+     * @return free intervals ordered by start
+     */
+    @Transactional(readOnly = true)
+    public List<FreeSlot> findFreeSlots(long courtId, LocalDateTime from, LocalDateTime to, Duration minDuration) {
+        validateWindow(from, to, minDuration);
+        courtService.findById(courtId);
+        return collectFreeSlots(List.of(courtId), from, to, minDuration).get(courtId);
+    }
+
+    /**
+     * Finds free intervals of several courts in the window [from, to) that are at least minDuration long. All live
+     * courts are searched if no ids are given, {@value MAX_COURTS} courts at a time.
+     *
+     * @param courtIds ids of at most {@value MAX_COURTS} courts, null or empty for all courts
+     * @param from start of the window
+     * @param to end of the window, at most {@value MAX_WINDOW_DAYS} days after from
+     * @param minDuration minimal length of a free interval
+     * @return free intervals ordered by start for every court, courts are ordered as requested
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<FreeSlot>> findFreeSlots(Set<Long> courtIds, LocalDateTime from, LocalDateTime to,
+                                                   Duration minDuration) {
+        validateWindow(from, to, minDuration);
+        Set<Long> liveCourtIds = new LinkedHashSet<>();
+        for (Court court : courtService.findAll()) {
+            liveCourtIds.add(court.getId());
+        }
+        if (courtIds == null || courtIds.isEmpty()) {
+            List<Long> allCourtIds = new ArrayList<>(liveCourtIds);
+            Map<Long, List<FreeSlot>> freeSlots = new LinkedHashMap<>();
+            for (int i = 0; i < allCourtIds.size(); i += MAX_COURTS) {
+                freeSlots.putAll(collectFreeSlots(allCourtIds.subList(i, Math.min(i + MAX_COURTS, allCourtIds.size())),
+                        from, to, minDuration));
+            }
+            return freeSlots;
+        }
+        if (!liveCourtIds.containsAll(courtIds)) {
+            throw new ResourceNotFoundException("Couldn't find court with this id.");
+        }
+        if (courtIds.size() > MAX_COURTS) {
+            throw new BadRequestException("At most " + MAX_COURTS + " courts can be searched at once.");
+        }
+        return collectFreeSlots(new ArrayList<>(courtIds), from, to, minDuration);
+    }
+
+    private Map<Long, List<FreeSlot>> collectFreeSlots(List<Long> courtIds, LocalDateTime from, LocalDateTime to,
+                                                       Duration minDuration) {
+        Map<Long, List<Reservation>> reservationsByCourt = reservationService.findInWindow(courtIds, from, to);
+        Map<Long, List<FreeSlot>> freeSlots = new LinkedHashMap<>();
+        for (long courtId : courtIds) {
+            freeSlots.put(courtId, sweep(reservationsByCourt.get(courtId), from, to, minDuration));
+        }
+        return freeSlots;
+    }
+
+    /**
+     * Walks through reservations ordered by start and collects gaps between them. Reservations of one court do not
+     * overlap, but the free time is still taken from the latest end seen so far.
+     */
+    private List<FreeSlot> sweep(List<Reservation> reservations, LocalDateTime from, LocalDateTime to,
+                                 Duration minDuration) {
+        List<FreeSlot> freeSlots = new ArrayList<>();
+        LocalDateTime freeFrom = from;
+        for (Reservation reservation : reservations) {
+            if (reservation.getStartsAt().isAfter(freeFrom)) {
+                addSlot(freeSlots, freeFrom, reservation.getStartsAt(), minDuration);
+            }
+            if (reservation.getEndsAt().isAfter(freeFrom)) {
+                freeFrom = reservation.getEndsAt();
+            }
+        }
+        if (to.isAfter(freeFrom)) {
+            addSlot(freeSlots, freeFrom, to, minDuration);
+        }
+        return freeSlots;
+    }
+
+    private void addSlot(List<FreeSlot> freeSlots, LocalDateTime start, LocalDateTime end, Duration minDuration) {
+        FreeSlot slot = new FreeSlot(start, end);
+        if (slot.getDuration().compareTo(minDuration) >= 0) {
+            freeSlots.add(slot);
+        }
+    }
+
+    private void validateWindow(LocalDateTime from, LocalDateTime to, Duration minDuration) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new BadRequestException("Start of the window must be before its end.");
+        }
+        if (from.plusDays(MAX_WINDOW_DAYS).isBefore(to)) {
+            throw new BadRequestException("Window can be at most " + MAX_WINDOW_DAYS + " days long.");
+        }
+        if (minDuration == null || minDuration.isNegative()) {
+            throw new BadRequestException("Minimal duration cannot be negative.");
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package cz.svonavec.tennis.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process striped locks serializing bookings of one court. Lock is held until the surrounding transaction is
+ * completed, so that the next booking of the court always sees committed reservations of the previous one.
+ *
+ * These locks only keep threads of this instance from queueing on the database row lock of the court, which is
+ * the guard that holds across instances.
+ */
+@Component
+public class CourtLocks {
+    private final ReentrantLock[] stripes;
+
+    public CourtLocks(@Value("${application.reservation.lock-stripes:64}") int stripeCount) {
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Locks given court until the end of the current transaction
+     *
+     * @param courtId id of the court
+     */
+    public void lock(long courtId) {
+        lock(List.of(courtId));
+    }
+
+    /**
+     * Locks all given courts until the end of the current transaction. Stripes are always acquired in the same order,
+     * so that two transactions locking several courts cannot deadlock.
+     *
+     * @param courtIds ids of the courts
+     */
+    public void lock(Collection<Long> courtIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Courts can be locked only inside of a transaction.");
+        }
+        TreeSet<Integer> indexes = new TreeSet<>();
+        for (long courtId : courtIds) {
+            indexes.add(Math.floorMod(Long.hashCode(courtId), stripes.length));
+        }
+        List<ReentrantLock> acquired = new ArrayList<>(indexes.size());
+        for (int index : indexes) {
+            stripes[index].lock();
+            acquired.add(stripes[index]);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                for (int i = acquired.size() - 1; i >= 0; i--) {
+                    acquired.get(i).unlock();
+                }
+            }
+        });
+    }
+}
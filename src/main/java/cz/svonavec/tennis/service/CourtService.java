@@ -4,11 +4,17 @@ import cz.svonavec.tennis.exception.BadRequestException;
 import cz.svonavec.tennis.exception.ResourceNotFoundException;
 import cz.svonavec.tennis.models.entities.Court;
 import cz.svonavec.tennis.models.entities.SurfaceType;
+import cz.svonavec.tennis.models.events.ReservationChangedEvent;
+import cz.svonavec.tennis.models.projections.ReservationView;
 import cz.svonavec.tennis.repository.CourtRepository;
+import cz.svonavec.tennis.repository.ReservationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 @Service
@@ -17,11 +23,27 @@ public class CourtService {
 
     public final SurfaceTypeService surfaceTypeService;
 
+    public final ReservationRepository reservationRepository;
+
+    private final TableVersions tableVersions;
+
+    private final CourtLocks courtLocks;
+
+    private final ApplicationEventPublisher eventPublisher;
+
     @Autowired
     public CourtService(CourtRepository courtRepository,
-                        SurfaceTypeService surfaceTypeService){
+                        SurfaceTypeService surfaceTypeService,
+                        ReservationRepository reservationRepository,
+                        TableVersions tableVersions,
+                        CourtLocks courtLocks,
+                        ApplicationEventPublisher eventPublisher){
         this.courtRepository = courtRepository;
         this.surfaceTypeService = surfaceTypeService;
+        this.reservationRepository = reservationRepository;
+        this.tableVersions = tableVersions;
+        this.courtLocks = courtLocks;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
@@ -33,6 +55,61 @@ public class CourtService {
         return court;
     }
 
+    /**
+     * Finds court and locks it in the database until the end of the current transaction, so that concurrent
+     * bookings of the court are serialized.
+     *
+     * @param id id of the court
+     * @return locked court
+     */
+    @Transactional
+    public Court lockById(long id) {
+        Court court = courtRepository.lock(id);
+        if (court == null || court.getDeletedAt() != null) {
+            throw new ResourceNotFoundException("Couldn't find court with this id.");
+        }
+        return court;
+    }
+
+    /**
+     * Finds courts and locks them in the database until the end of the current transaction. Deleted and missing
+     * courts are left out.
+     *
+     * @param ids ids of the courts
+     * @return locked courts ordered by id
+     */
+    @Transactional
+    public List<Court> lockAllById(Collection<Long> ids) {
+        List<Court> courts = new ArrayList<>();
+        for (Court court : courtRepository.lockAll(ids)) {
+            if (court.getDeletedAt() == null) {
+                courts.add(court);
+            }
+        }
+        return courts;
+    }
+
+    /**
+     * Finds live courts together with their surfaces. Courts and surfaces are read through the second-level cache,
+     * so courts that are already cached are not loaded from the database. Deleted and missing courts are left out.
+     *
+     * @param ids ids of the courts
+     * @return found courts with initialized surfaces
+     */
+    @Transactional(readOnly = true)
+    public List<Court> findAllById(Collection<Long> ids) {
+        List<Court> courts = new ArrayList<>();
+        for (long id : ids) {
+            Court court = courtRepository.find(id);
+            if (court != null && court.getDeletedAt() == null) {
+                // Court is detached, so its lazy surface is replaced by the cached one
+                court.setSurface(surfaceTypeService.findById(court.getSurface().getId()));
+                courts.add(court);
+            }
+        }
+        return courts;
+    }
+
     @Transactional(readOnly = true)
     public List<Court> findAll() {
         return courtRepository.findAll();
@@ -45,6 +122,7 @@ public class CourtService {
         }
         SurfaceType surfaceType = surfaceTypeService.findById(surfaceTypeId);
         court.setSurface(surfaceType);
+        tableVersions.bump(TableVersions.COURTS);
         return courtRepository.create(court);
     }
 
@@ -62,12 +140,29 @@ public class CourtService {
         } else {
             throw new BadRequestException("At least one query field must be used.");
         }
+        tableVersions.bump(TableVersions.COURTS);
         return courtRepository.update(court);
     }
 
+    /**
+     * Deletes the court together with its reservations and series. Court is locked like when a reservation is created
+     * on it, by its lock stripe and its database row, so the deleted reservations are exactly the ones read before,
+     * and their deletion is published for the listeners of reservation changes.
+     *
+     * @param id id of the court
+     * @return deleted court
+     */
     @Transactional
     public Court delete(long id) {
-        Court court = findById(id);
-        return courtRepository.delete(court);
+        courtLocks.lock(id);
+        Court court = lockById(id);
+        tableVersions.bump(TableVersions.COURTS);
+        List<ReservationView> reservations = reservationRepository.findViewsByCourt(id);
+        Court deleted = courtRepository.delete(court);
+        for (ReservationView reservation : reservations) {
+            eventPublisher.publishEvent(
+                    ReservationChangedEvent.of(ReservationChangedEvent.Change.DELETED, reservation));
+        }
+        return deleted;
     }
 }
@@ -1,24 +1,54 @@
 package cz.svonavec.tennis.service;
 
+import cz.svonavec.tennis.exception.BadRequestException;
+import cz.svonavec.tennis.models.entities.Role;
+import cz.svonavec.tennis.models.entities.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * This service provides support for authentication with JWT tokens. It provides creation, validation and parsing of JWT
  * tokens.
+ *
+ * Keys and the parser are built only once. Every token carries id of its key in the kid header, so that the signing
+ * key can be rotated while tokens signed by previous keys stay valid. Keys are rotated by changing the keys file and
+ * reloading it.
  */
 @Slf4j
 @Service
 public class JwtService {
+    public static final String ROLES_CLAIM = "roles";
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String VERSION_CLAIM = "ver";
+
     @Value("${application.jwt.secret}")
     private String secretKey;
 
@@ -28,6 +58,62 @@ public class JwtService {
     @Value("${application.jwt.refresh.expiration-time:60480000}")
     private long jwtRefreshExpiration;
 
+    @Value("${application.jwt.previous-secrets:}")
+    private String[] previousSecrets = new String[0];
+
+    // File with one secret per line, the first one signs tokens, replaces secret and previous secrets when set
+    @Value("${application.jwt.keys-file:}")
+    private String keysFile = "";
+
+    private final AtomicReference<KeyRing> keyRing = new AtomicReference<>();
+
+    // Run after every rotation, for example to drop claims of tokens verified by keys that are retired now
+    private final List<Runnable> rotationListeners = new CopyOnWriteArrayList<>();
+
+    private JwtParser parser;
+
+    /**
+     * Builds keys from configured secrets and the parser that is shared by all threads
+     */
+    @PostConstruct
+    public void init() {
+        keyRing.set(keysFile.isBlank() ? configuredKeys() : readKeysFile());
+        parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return keyRing.get().resolve(header.getKeyId());
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Reads secrets from the keys file again. The first secret of the file signs new tokens, the other secrets only
+     * verify tokens signed before the rotation. Keys live in the file and not only in memory, so they survive a restart
+     * and all instances reading the same file sign and verify tokens with the same keys.
+     *
+     * @throws BadRequestException if keys are not read from a keys file
+     */
+    public void reloadKeys() {
+        if (keysFile.isBlank()) {
+            throw new BadRequestException("Signing keys are not read from a keys file.");
+        }
+        KeyRing reloaded = readKeysFile();
+        keyRing.set(reloaded);
+        log.info("JWT signing keys were reloaded, signing key id = {}", reloaded.signingKid());
+        rotationListeners.forEach(Runnable::run);
+    }
+
+    /**
+     * Registers a listener that is run after every rotation of the signing key
+     *
+     * @param listener listener of rotations
+     */
+    public void addRotationListener(Runnable listener) {
+        rotationListeners.add(listener);
+    }
+
     public long getJwtExpiration() {
         return jwtExpiration;
     }
@@ -37,10 +123,29 @@ public class JwtService {
     }
 
     public String generateToken(UserDetails user) {
+        if (user instanceof User entity) {
+            return generateTokenForUser(entity, "access");
+        }
         String phone = user.getUsername();
         return generateTokenFromPhone(phone);
     }
 
+    /**
+     * Generates a new token for given user. Besides the phone number the token carries id, roles and token version of
+     * the user, so that the user can be authenticated only from the token.
+     *
+     * @param user user data
+     * @param type can be access or refresh token
+     * @return new token
+     */
+    public String generateTokenForUser(User user, String type) {
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put(USER_ID_CLAIM, user.getId());
+        claims.put(ROLES_CLAIM, user.getRoles().stream().map(Role::name).toList());
+        claims.put(VERSION_CLAIM, user.getTokenVersion());
+        return buildToken(user.getPhoneNumber(), type, claims);
+    }
+
     /**
      * Generates a new token for a user with given phone (phone is the unique username)
      *
@@ -59,18 +164,28 @@ public class JwtService {
      * @return new token
      */
     public String generateTokenFromPhone(String phone, String type) {
+        return buildToken(phone, type, Map.of());
+    }
+
+    private String buildToken(String phone, String type, Map<String, Object> claims) {
+        KeyRing keys = keyRing.get();
         String token = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keys.signingKid())
+                .addClaims(claims)
                 .setSubject(phone)
                 .claim("type", type)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + getJwtExpiration()))
-                .signWith(getSigningKey())
+                .signWith(keys.signingKey())
                 .compact();
         log.info("New token was generated for user with phone = {}", phone);
         return token;
     }
 
     public String generateRefreshToken(UserDetails user) {
+        if (user instanceof User entity) {
+            return generateTokenForUser(entity, "refresh");
+        }
         String phone = user.getUsername();
         return generateTokenFromPhone(phone, "refresh");
     }
@@ -82,11 +197,7 @@ public class JwtService {
      * @return claims
      */
     public Claims extractTokenClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     public boolean validateToken(String token, UserDetails user, String type) {
@@ -107,19 +218,31 @@ public class JwtService {
      */
     public boolean validateTokenPhone(String token, String phone, String type) {
         try {
-            if (type == null || type.isEmpty()) {
-                type = "access";
-            }
-
-            return phone.equals(extractUsername(token)) &&
-                    extractExpiration(token).after(new Date()) &&
-                    type.equals(extractType(token));
+            return validateClaims(extractTokenClaims(token), phone, type);
         } catch (Exception e) {
             log.error("Token validation error: {}", e.getMessage());
             return false;
         }
     }
 
+    /**
+     * Validates claims of a token with already verified signature. If the token is expired, or is token of other user
+     * or type, this method returns false
+     *
+     * @param claims claims of the token
+     * @param phone unique phone number
+     * @param type access or refresh type of token
+     * @return true, if the claims are valid, else false
+     */
+    public boolean validateClaims(Claims claims, String phone, String type) {
+        if (type == null || type.isEmpty()) {
+            type = "access";
+        }
+        return phone != null && phone.equals(claims.getSubject()) &&
+                claims.getExpiration() != null && claims.getExpiration().after(new Date()) &&
+                type.equals(claims.get("type", String.class));
+    }
+
     public String extractUsername(String token) {
         return extractTokenClaims(token).getSubject();
     }
@@ -132,8 +255,69 @@ public class JwtService {
         return extractTokenClaims(token).get("type", String.class);
     }
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private KeyRing configuredKeys() {
+        List<String> secrets = new ArrayList<>();
+        secrets.add(secretKey);
+        secrets.addAll(Arrays.asList(previousSecrets));
+        return buildKeyRing(secrets);
+    }
+
+    private KeyRing readKeysFile() {
+        try {
+            return buildKeyRing(Files.readAllLines(Path.of(keysFile), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException("JWT keys file " + keysFile + " cannot be read.", e);
+        }
+    }
+
+    private static KeyRing buildKeyRing(List<String> secrets) {
+        List<String> filled = secrets.stream().map(String::strip).filter(secret -> !secret.isEmpty()).toList();
+        if (filled.isEmpty()) {
+            throw new IllegalStateException("No JWT secret is configured.");
+        }
+        Map<String, SecretKey> verificationKeys = new LinkedHashMap<>();
+        for (String secret : filled.subList(1, filled.size())) {
+            SecretKey key = buildKey(secret);
+            verificationKeys.put(keyId(key), key);
+        }
+        return KeyRing.of(buildKey(filled.getFirst()), verificationKeys);
+    }
+
+    private static SecretKey buildKey(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String keyId(SecretKey key) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.getEncoded());
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash).substring(0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported.", e);
+        }
+    }
+
+    /**
+     * Immutable set of keys. Signing key is also used for verification, other keys only verify tokens signed before
+     * rotation.
+     */
+    private record KeyRing(SecretKey signingKey, String signingKid, Map<String, SecretKey> verificationKeys) {
+        static KeyRing of(SecretKey signingKey, Map<String, SecretKey> previousKeys) {
+            String signingKid = keyId(signingKey);
+            Map<String, SecretKey> verificationKeys = new LinkedHashMap<>(previousKeys);
+            verificationKeys.put(signingKid, signingKey);
+            return new KeyRing(signingKey, signingKid, Map.copyOf(verificationKeys));
+        }
+
+        Key resolve(String kid) {
+            // Tokens issued before key ids were introduced are signed by the current key
+            if (kid == null) {
+                return signingKey;
+            }
+            SecretKey key = verificationKeys.get(kid);
+            if (key == null) {
+                throw new SignatureException("Unknown signing key.");
+            }
+            return key;
+        }
     }
 }
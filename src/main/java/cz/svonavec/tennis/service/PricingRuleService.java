@@ -0,0 +1,122 @@
+package cz.svonavec.tennis.service;
+
+import cz.svonavec.tennis.exception.BadRequestException;
+import cz.svonavec.tennis.exception.ResourceNotFoundException;
+import cz.svonavec.tennis.models.entities.PricingRule;
+import cz.svonavec.tennis.repository.PricingRuleRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Management of pricing rules. All rules are loaded into PricingService when the application starts, every change is
+ * passed to it and takes effect for reservations priced after the change commits, without a restart.
+ */
+@Service
+public class PricingRuleService implements SmartInitializingSingleton {
+    public final PricingRuleRepository pricingRuleRepository;
+
+    public final CourtService courtService;
+    public final SurfaceTypeService surfaceTypeService;
+
+    private final PricingService pricingService;
+
+    @Autowired
+    public PricingRuleService(PricingRuleRepository pricingRuleRepository,
+                              CourtService courtService,
+                              SurfaceTypeService surfaceTypeService,
+                              PricingService pricingService) {
+        this.pricingRuleRepository = pricingRuleRepository;
+        this.courtService = courtService;
+        this.surfaceTypeService = surfaceTypeService;
+        this.pricingService = pricingService;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        pricingService.load(pricingRuleRepository.findAll());
+    }
+
+    @Transactional(readOnly = true)
+    public PricingRule findById(long id) {
+        PricingRule rule = pricingRuleRepository.find(id);
+        if (rule == null || rule.getDeletedAt() != null) {
+            throw new ResourceNotFoundException("Couldn't find pricing rule with this id.");
+        }
+        return rule;
+    }
+
+    @Transactional(readOnly = true)
+    public List<PricingRule> findAll() {
+        return pricingRuleRepository.findAll();
+    }
+
+    @Transactional
+    public PricingRule create(PricingRule rule, Long courtId, Long surfaceId) {
+        if (rule.getId() != 0) {
+            throw new BadRequestException("Trying to create a pricing rule with set id.");
+        }
+        assign(rule, courtId, surfaceId);
+        PricingRule created = pricingRuleRepository.create(rule);
+        pricingService.ruleSaved(created);
+        return created;
+    }
+
+    /**
+     * Replaces all data of the rule
+     *
+     * @param id id of the rule
+     * @param data new data of the rule
+     * @param courtId id of the court of the rule, if it applies to one court
+     * @param surfaceId id of the surface of the rule, if it applies to all courts with the surface
+     * @return updated rule
+     */
+    @Transactional
+    public PricingRule update(long id, PricingRule data, Long courtId, Long surfaceId) {
+        PricingRule rule = findById(id);
+        rule.setFromDay(data.getFromDay());
+        rule.setToDay(data.getToDay());
+        rule.setStartTime(data.getStartTime());
+        rule.setEndTime(data.getEndTime());
+        rule.setMultiplier(data.getMultiplier());
+        rule.setPriority(data.getPriority());
+        assign(rule, courtId, surfaceId);
+        PricingRule updated = pricingRuleRepository.update(rule);
+        pricingService.ruleSaved(updated);
+        return updated;
+    }
+
+    @Transactional
+    public PricingRule delete(long id) {
+        PricingRule rule = findById(id);
+        pricingService.ruleDeleted(id);
+        return pricingRuleRepository.delete(rule);
+    }
+
+    private void assign(PricingRule rule, Long courtId, Long surfaceId) {
+        if ((courtId == null) == (surfaceId == null)) {
+            throw new BadRequestException("Pricing rule must apply either to a court or to a surface.");
+        }
+        if (rule.getFromDay() == null || rule.getToDay() == null || rule.getStartTime() == null ||
+                rule.getEndTime() == null || rule.getMultiplier() == null) {
+            throw new BadRequestException("Days, times and multiplier of the pricing rule must be set.");
+        }
+        // Prices are charged by whole minutes
+        rule.setStartTime(rule.getStartTime().truncatedTo(ChronoUnit.MINUTES));
+        rule.setEndTime(rule.getEndTime().truncatedTo(ChronoUnit.MINUTES));
+        if (!rule.getEndTime().equals(LocalTime.MIDNIGHT) && !rule.getStartTime().isBefore(rule.getEndTime())) {
+            throw new BadRequestException("Start time of the pricing rule must be before its end time.");
+        }
+        if (rule.getMultiplier().signum() < 0 || rule.getMultiplier().scale() > 4) {
+            throw new BadRequestException("Multiplier of the pricing rule cannot be negative and can have at most " +
+                    "4 decimal places.");
+        }
+        rule.setCourt(courtId == null ? null : courtService.findById(courtId));
+        rule.setSurface(surfaceId == null ? null : surfaceTypeService.findById(surfaceId));
+    }
+}
@@ -0,0 +1,176 @@
+package cz.svonavec.tennis.service;
+
+import cz.svonavec.tennis.models.entities.Court;
+import cz.svonavec.tennis.models.entities.PricingRule;
+import cz.svonavec.tennis.models.entities.SurfaceType;
+import cz.svonavec.tennis.models.pricing.PriceTable;
+import cz.svonavec.tennis.models.pricing.RateRule;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Calculates costs of reservations from price tables of courts compiled from costs of surfaces and pricing rules.
+ * Table of a court is compiled on the first reservation on the court priced since the start or since the rules or
+ * the cost of its surface changed, and recompiled right away when cost of its surface changes, so that pricing
+ * a reservation does not allocate BigDecimals. Without pricing rules costs are the same as the costs calculated by
+ * Reservation.calculateCost.
+ *
+ * Pricing rules are kept in memory. Changes of rules and surfaces take effect only after the transaction changing them
+ * commits, like the version counters.
+ */
+@Service
+public class PricingService {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final Map<Long, PriceTable> tables = new ConcurrentHashMap<>();
+
+    // Replaced as a whole when a rule changes, tables compiled from older rules are recompiled on their next use
+    private final AtomicReference<List<RateRule>> rules = new AtomicReference<>(List.of());
+
+    /**
+     * Calculates cost of a game on the court
+     *
+     * @param court court of the game
+     * @param doubles whether the game is doubles
+     * @param startsAt start of the game
+     * @param endsAt end of the game
+     * @return cost in CZK with scale 2, zero if the court or the times are not set
+     */
+    public BigDecimal cost(Court court, boolean doubles, LocalDateTime startsAt, LocalDateTime endsAt) {
+        if (court == null || court.getSurface() == null || startsAt == null || endsAt == null) {
+            return BigDecimal.ZERO;
+        }
+        return table(court).cost(doubles, startsAt, minutes(startsAt, endsAt));
+    }
+
+    /**
+     * Returns compiled price table of the court. The table is compiled again when the cost per minute of the given
+     * surface differs from the one the table was compiled from, so a table compiled from a surface read before its
+     * cost changed is not kept.
+     *
+     * @param court court with its surface
+     * @return price table of the court
+     */
+    public PriceTable table(Court court) {
+        List<RateRule> current = rules.get();
+        SurfaceType surface = court.getSurface();
+        PriceTable table = tables.get(court.getId());
+        if (table != null && table.isCompiledFrom(surface, current)) {
+            return table;
+        }
+        PriceTable compiled = PriceTable.compile(court.getId(), surface, current);
+        // Table recompiled in the meantime from a changed surface is kept
+        return tables.compute(court.getId(), (id, existing) ->
+                existing != null && existing.isCompiledFrom(surface, current) ? existing : compiled);
+    }
+
+    /**
+     * Replaces all pricing rules in memory
+     *
+     * @param pricingRules all active pricing rules
+     */
+    public void load(List<PricingRule> pricingRules) {
+        List<RateRule> loaded = new ArrayList<>();
+        for (PricingRule rule : pricingRules) {
+            loaded.add(RateRule.of(rule));
+        }
+        rules.set(List.copyOf(loaded));
+        tables.clear();
+    }
+
+    /**
+     * Puts created or updated pricing rule in place of its previous version after the current transaction commits
+     *
+     * @param pricingRule saved rule
+     */
+    public void ruleSaved(PricingRule pricingRule) {
+        RateRule rule = RateRule.of(pricingRule);
+        afterCommit(() -> replaceRule(rule.getId(), rule));
+    }
+
+    /**
+     * Drops the pricing rule after the current transaction commits
+     *
+     * @param id id of the deleted rule
+     */
+    public void ruleDeleted(long id) {
+        afterCommit(() -> replaceRule(id, null));
+    }
+
+    /**
+     * Recompiles tables of courts with the surface after the current transaction commits, or right away outside of
+     * a transaction
+     *
+     * @param surface created or updated surface
+     */
+    public void refresh(SurfaceType surface) {
+        afterCommit(() -> tables.replaceAll((courtId, table) -> table.getSurfaceId() == surface.getId()
+                ? PriceTable.compile(courtId, surface, rules.get()) : table));
+    }
+
+    /**
+     * Drops tables of courts with the surface after the current transaction commits, or right away outside of
+     * a transaction
+     *
+     * @param surfaceId id of the deleted surface
+     */
+    public void evict(long surfaceId) {
+        afterCommit(() -> tables.values().removeIf(table -> table.getSurfaceId() == surfaceId));
+    }
+
+    /**
+     * Returns whole minutes between the times in the same way as Duration.toMinutes, without creating the Duration
+     */
+    static long minutes(LocalDateTime startsAt, LocalDateTime endsAt) {
+        long nanos;
+        try {
+            nanos = startsAt.until(endsAt, ChronoUnit.NANOS);
+        } catch (ArithmeticException e) {
+            // Games longer than 292 years
+            return Duration.between(startsAt, endsAt).toMinutes();
+        }
+        return Math.floorDiv(nanos, NANOS_PER_SECOND) / 60;
+    }
+
+    private void replaceRule(long id, RateRule rule) {
+        // Retried if another change replaced the rules in the meantime, so that no change is lost
+        rules.updateAndGet(current -> {
+            List<RateRule> replaced = new ArrayList<>();
+            for (RateRule existing : current) {
+                if (existing.getId() != id) {
+                    replaced.add(existing);
+                }
+            }
+            if (rule != null) {
+                replaced.add(rule);
+            }
+            return List.copyOf(replaced);
+        });
+        // Tables are checked against the current rules anyway, clearing only frees the stale ones
+        tables.clear();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
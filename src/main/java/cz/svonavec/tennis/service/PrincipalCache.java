@@ -0,0 +1,106 @@
+package cz.svonavec.tennis.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import cz.svonavec.tennis.models.entities.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * Cache of authenticated users (principals) by their phone number, so that identity of the user does not have to be
+ * loaded from the database for every request. Cached users are shared by all requests and must not be modified.
+ * Current token versions of users are cached separately for authentication from token claims only.
+ *
+ * Entries are evicted when the user is changed. TTL limits for how long a change made by another instance of the
+ * application can stay unnoticed.
+ *
+ * Hit ratios are published as principals and tokenVersions cache metrics.
+ */
+@Component
+public class PrincipalCache {
+    private final Cache<String, User> cache;
+
+    private final Cache<Long, Integer> tokenVersions;
+
+    @Autowired
+    public PrincipalCache(@Value("${application.auth.principal-cache.ttl-seconds:300}") long ttlSeconds,
+                          @Value("${application.auth.principal-cache.max-size:10000}") long maxSize,
+                          MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        this.tokenVersions = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principals");
+        CaffeineCacheMetrics.monitor(meterRegistry, tokenVersions, "tokenVersions");
+    }
+
+    /**
+     * Returns cached user, or loads and caches the user if it is not cached yet. Exceptions of the loader are
+     * propagated and nothing is cached.
+     *
+     * @param phoneNumber unique phone number
+     * @param loader loads the user from the database
+     * @return user with given phone number
+     */
+    public User get(String phoneNumber, Function<String, User> loader) {
+        return cache.get(phoneNumber, loader);
+    }
+
+    /**
+     * Returns cached token version of the user, or loads and caches it if it is not cached yet
+     *
+     * @param userId id of the user
+     * @param loader loads the token version from the database
+     * @return current token version of the user
+     */
+    public int tokenVersion(long userId, LongFunction<Integer> loader) {
+        return tokenVersions.get(userId, loader::apply);
+    }
+
+    /**
+     * Evicts the user now and once more after the current transaction is completed, so that a request running
+     * concurrently with the change cannot cache the old state of the user again.
+     *
+     * @param user changed user
+     */
+    public void evict(User user) {
+        String phoneNumber = user.getPhoneNumber();
+        long userId = user.getId();
+        cache.invalidate(phoneNumber);
+        tokenVersions.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(phoneNumber);
+                    tokenVersions.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns statistics of the cache (hits, misses, evictions)
+     *
+     * @return cache statistics
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
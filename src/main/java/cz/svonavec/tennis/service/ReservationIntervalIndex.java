@@ -0,0 +1,200 @@
+package cz.svonavec.tennis.service;
+
+import cz.svonavec.tennis.models.events.ReservationChangedEvent;
+import cz.svonavec.tennis.models.projections.ReservationView;
+import cz.svonavec.tennis.repository.ReservationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory index of live reservations of every court, ordered by start, answering overlap checks in O(log n) without
+ * touching the database. Reservations of a court are read from the database once, on the first check of the court,
+ * and then kept up to date from committed reservation changes.
+ *
+ * Changes are applied after commit and before the court locks of the booking are released, so the next booking of
+ * the court on this instance always sees them. Changes committed by other instances are not seen, so the index has to
+ * be disabled (application.reservation.overlap-index.enabled) when more than one instance books courts, overlaps are
+ * then checked in the database.
+ */
+@Component
+public class ReservationIntervalIndex {
+    private static final Comparator<Interval> BY_START = Comparator.comparing(Interval::startsAt)
+            .thenComparingLong(Interval::id);
+
+    private final ReservationRepository reservationRepository;
+
+    // Reservations of a court are read in their own transaction, so that changes of the checking transaction which
+    // can still be rolled back never get into the index
+    private final TransactionTemplate loadTransaction;
+
+    private final boolean enabled;
+
+    private final Map<Long, CourtIntervals> courts = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ReservationIntervalIndex(ReservationRepository reservationRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${application.reservation.overlap-index.enabled:true}") boolean enabled) {
+        this.reservationRepository = reservationRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Checks if a live reservation of the court other than the excluded one overlaps with [start, end). Reservations
+     * can overlap in one point (one can start when another ends).
+     *
+     * @param courtId id of the court
+     * @param start start of the interval
+     * @param end end of the interval
+     * @param excludeId id of the reservation that is ignored, 0 for none
+     * @return true, if there is an overlapping reservation
+     */
+    public boolean isOverlapping(long courtId, LocalDateTime start, LocalDateTime end, long excludeId) {
+        CourtIntervals intervals = load(courtId);
+        intervals.lock.lock();
+        try {
+            // Reservations of a court do not overlap, so ends grow with starts and the walk stops at the first
+            // reservation starting before the interval that ends before it too
+            Interval bound = new Interval(Long.MIN_VALUE, end, end);
+            for (Interval interval : intervals.byStart.headSet(bound, false).descendingSet()) {
+                if (!interval.endsAt().isAfter(start)) {
+                    return false;
+                }
+                if (interval.id() != excludeId) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            intervals.lock.unlock();
+        }
+    }
+
+    /**
+     * Moves the changed reservation in the index of its court. Courts that were not checked yet are skipped, they are
+     * read from the database with the change on their first check.
+     *
+     * @param event committed change of a reservation
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        CourtIntervals intervals = courts.get(event.getCourtId());
+        if (intervals == null) {
+            return;
+        }
+        intervals.lock.lock();
+        try {
+            if (intervals.changesDuringLoad != null) {
+                intervals.changesDuringLoad.add(event);
+            }
+            apply(intervals, event);
+        } finally {
+            intervals.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns index of the court, reading its reservations from the database if the court was not checked yet. The
+     * database is read holding only the load lock of the court, changes committed meanwhile are replayed afterwards.
+     */
+    private CourtIntervals load(long courtId) {
+        CourtIntervals intervals = courts.computeIfAbsent(courtId, id -> new CourtIntervals());
+        if (intervals.loaded) {
+            return intervals;
+        }
+        intervals.loadLock.lock();
+        try {
+            if (intervals.loaded) {
+                return intervals;
+            }
+            intervals.lock.lock();
+            try {
+                intervals.changesDuringLoad = new ArrayList<>();
+            } finally {
+                intervals.lock.unlock();
+            }
+            List<ReservationView> reservations = loadTransaction.execute(status ->
+                    reservationRepository.findViewsByCourt(courtId));
+            intervals.lock.lock();
+            try {
+                for (ReservationView reservation : reservations) {
+                    add(intervals, new Interval(reservation.getId(), reservation.getStartsAt(),
+                            reservation.getEndsAt()));
+                }
+                for (ReservationChangedEvent event : intervals.changesDuringLoad) {
+                    apply(intervals, event);
+                }
+                intervals.changesDuringLoad = null;
+                intervals.loaded = true;
+            } finally {
+                intervals.lock.unlock();
+            }
+            return intervals;
+        } finally {
+            intervals.loadLock.unlock();
+        }
+    }
+
+    private static void apply(CourtIntervals intervals, ReservationChangedEvent event) {
+        Interval previous = intervals.byId.remove(event.getReservationId());
+        if (previous != null) {
+            intervals.byStart.remove(previous);
+        }
+        if (event.getChange() != ReservationChangedEvent.Change.DELETED) {
+            add(intervals, new Interval(event.getReservationId(), event.getStartsAt(), event.getEndsAt()));
+        }
+    }
+
+    private static void add(CourtIntervals intervals, Interval interval) {
+        Interval previous = intervals.byId.put(interval.id(), interval);
+        if (previous != null) {
+            intervals.byStart.remove(previous);
+        }
+        intervals.byStart.add(interval);
+    }
+
+    private record Interval(long id, LocalDateTime startsAt, LocalDateTime endsAt) {
+    }
+
+    /**
+     * Reservations of one court, read and changed only under the lock
+     */
+    private static final class CourtIntervals {
+        private final ReentrantLock lock = new ReentrantLock();
+
+        // Only one thread reads reservations of the court from the database
+        private final ReentrantLock loadLock = new ReentrantLock();
+
+        private final TreeSet<Interval> byStart = new TreeSet<>(BY_START);
+
+        private final Map<Long, Interval> byId = new HashMap<>();
+
+        // Changes committed while reservations of the court are read from the database, guarded by the lock
+        private List<ReservationChangedEvent> changesDuringLoad;
+
+        private volatile boolean loaded;
+    }
+}
@@ -0,0 +1,163 @@
+package cz.svonavec.tennis.service;
+
+import cz.svonavec.tennis.exception.BadRequestException;
+import cz.svonavec.tennis.exception.ResourceNotFoundException;
+import cz.svonavec.tennis.models.entities.Court;
+import cz.svonavec.tennis.models.entities.Reservation;
+import cz.svonavec.tennis.models.entities.ReservationSeries;
+import cz.svonavec.tennis.models.entities.Role;
+import cz.svonavec.tennis.models.entities.User;
+import cz.svonavec.tennis.repository.ReservationSeriesRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+public class ReservationSeriesService {
+    public static final int MAX_OCCURRENCES = 100;
+
+    public final ReservationSeriesRepository reservationSeriesRepository;
+
+    public final ReservationService reservationService;
+    public final UserService userService;
+    public final CourtService courtService;
+
+    private final CourtLocks courtLocks;
+
+    private final PricingService pricingService;
+
+    @Autowired
+    public ReservationSeriesService(ReservationSeriesRepository reservationSeriesRepository,
+                                    ReservationService reservationService,
+                                    UserService userService,
+                                    CourtService courtService,
+                                    CourtLocks courtLocks,
+                                    PricingService pricingService) {
+        this.reservationSeriesRepository = reservationSeriesRepository;
+        this.reservationService = reservationService;
+        this.userService = userService;
+        this.courtService = courtService;
+        this.courtLocks = courtLocks;
+        this.pricingService = pricingService;
+    }
+
+    @Transactional(readOnly = true)
+    public ReservationSeries findById(long id) {
+        ReservationSeries series = reservationSeriesRepository.find(id);
+        if (series == null || series.getDeletedAt() != null) {
+            throw new ResourceNotFoundException("Couldn't find reservation series with this id.");
+        }
+        return series;
+    }
+
+    /**
+     * Returns occurrences of the series overlapping with the time window [from, to)
+     *
+     * @param id id of the series
+     * @param from start of the window
+     * @param to end of the window
+     * @return occurrences ordered by start
+     */
+    @Transactional(readOnly = true)
+    public List<Reservation> findOccurrences(long id, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new BadRequestException("Start of the window must be before its end.");
+        }
+        return findById(id).occurrencesBetween(from, to);
+    }
+
+    /**
+     * Creates a new reservation series for a user with unique phone number and a court. Every occurrence of the
+     * series can be at most one day long and cannot overlap with existing reservations or occurrences of other series
+     * of the court, all occurrences are checked in one pass over reservations of the court in the time span of the
+     * series. The court stays locked until the transaction ends.
+     *
+     * @param series series data
+     * @param phoneNumber unique phone number
+     * @param courtId unique court id
+     * @return created series with cost of one occurrence
+     */
+    @Transactional
+    public ReservationSeries create(ReservationSeries series, String phoneNumber, long courtId) {
+        if (series.getId() != 0) {
+            throw new BadRequestException("Trying to create a reservation series with set id.");
+        }
+        validate(series);
+        courtLocks.lock(courtId);
+        Court court = courtService.lockById(courtId);
+        User user = userService.findByPhoneNumber(phoneNumber);
+        if (!user.getRoles().contains(Role.USER)) {
+            throw new BadRequestException("This user cannot reserve courts.");
+        }
+        series.setCourt(court);
+        series.setUser(user);
+
+        LocalDateTime to = series.getUntil().plusDays(2).atStartOfDay();
+        List<Reservation> occurrences = series.occurrencesBetween(series.getStartsAt(), to);
+        List<Reservation> existing = reservationService.findInWindow(List.of(courtId), series.getStartsAt(), to)
+                .get(courtId);
+        int next = 0;
+        for (Reservation occurrence : occurrences) {
+            // Both lists are ordered, existing reservations ending before the occurrence starts are skipped
+            while (next < existing.size() && !existing.get(next).getEndsAt().isAfter(occurrence.getStartsAt())) {
+                next++;
+            }
+            if (next < existing.size() && existing.get(next).getStartsAt().isBefore(occurrence.getEndsAt())) {
+                throw new BadRequestException("Occurrence of the series on " + occurrence.getStartsAt().toLocalDate() +
+                        " overlaps with an existing reservation.");
+            }
+        }
+        // Every occurrence costs the same as the first one
+        series.setCost(pricingService.cost(series.getCourt(), series.isDoubles(), series.getStartsAt(),
+                series.getEndsAt()));
+        return reservationSeriesRepository.create(series);
+    }
+
+    /**
+     * Cancels one occurrence of the series, the court is free at that time
+     *
+     * @param id id of the series
+     * @param date date of the occurrence
+     * @return updated series
+     */
+    @Transactional
+    public ReservationSeries addException(long id, LocalDate date) {
+        ReservationSeries series = findById(id);
+        if (!series.hasOccurrenceOn(date)) {
+            throw new BadRequestException("Reservation series has no occurrence on this date.");
+        }
+        series.getExceptions().add(date);
+        return reservationSeriesRepository.update(series);
+    }
+
+    @Transactional
+    public ReservationSeries delete(long id) {
+        ReservationSeries series = findById(id);
+        return reservationSeriesRepository.delete(series);
+    }
+
+    private void validate(ReservationSeries series) {
+        if (series.getStartsAt() == null || series.getEndsAt() == null || series.getUntil() == null) {
+            throw new BadRequestException("Start, end and last day of the series must be set.");
+        }
+        if (!series.getEndsAt().isAfter(series.getStartsAt())) {
+            throw new BadRequestException("Reservation start date must be before end date.");
+        }
+        if (series.getEndsAt().isAfter(series.getStartsAt().plusDays(1))) {
+            throw new BadRequestException("Occurrence of the series cannot be longer than one day.");
+        }
+        if (series.getIntervalWeeks() < 1) {
+            throw new BadRequestException("Interval of the series must be at least one week.");
+        }
+        if (series.getUntil().isBefore(series.getStartsAt().toLocalDate())) {
+            throw new BadRequestException("Last day of the series must not be before its first occurrence.");
+        }
+        if (series.countOccurrences() > MAX_OCCURRENCES) {
+            throw new BadRequestException("Reservation series can have at most " + MAX_OCCURRENCES + " occurrences.");
+        }
+    }
+}
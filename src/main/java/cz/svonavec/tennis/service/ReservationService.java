@@ -2,33 +2,72 @@ package cz.svonavec.tennis.service;
 
 import cz.svonavec.tennis.exception.BadRequestException;
 import cz.svonavec.tennis.exception.ResourceNotFoundException;
+import cz.svonavec.tennis.models.batch.BatchItem;
 import cz.svonavec.tennis.models.entities.Court;
 import cz.svonavec.tennis.models.entities.Reservation;
+import cz.svonavec.tennis.models.entities.ReservationSeries;
 import cz.svonavec.tennis.models.entities.Role;
 import cz.svonavec.tennis.models.entities.User;
+import cz.svonavec.tennis.models.events.ReservationChangedEvent;
+import cz.svonavec.tennis.models.paging.ReservationCursor;
+import cz.svonavec.tennis.models.projections.ReservationView;
+import cz.svonavec.tennis.models.quote.QuoteItem;
 import cz.svonavec.tennis.repository.ReservationRepository;
+import cz.svonavec.tennis.repository.ReservationSeriesRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Consumer;
 
 @Service
 public class ReservationService {
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final int MAX_BATCH_SIZE = 1000;
+    public static final int MAX_QUOTE_SIZE = 100;
+    public static final int MAX_QUOTE_WINDOW_DAYS = 31;
+
     public final ReservationRepository reservationRepository;
+    public final ReservationSeriesRepository reservationSeriesRepository;
 
     public final UserService userService;
     public final CourtService courtService;
 
+    private final CourtLocks courtLocks;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final PricingService pricingService;
+
+    private final ReservationIntervalIndex intervalIndex;
+
     @Autowired
     public ReservationService(ReservationRepository reservationRepository,
+                              ReservationSeriesRepository reservationSeriesRepository,
                               UserService userService,
-                              CourtService courtService){
+                              CourtService courtService,
+                              CourtLocks courtLocks,
+                              ApplicationEventPublisher eventPublisher,
+                              PricingService pricingService,
+                              ReservationIntervalIndex intervalIndex){
         this.reservationRepository = reservationRepository;
+        this.reservationSeriesRepository = reservationSeriesRepository;
         this.userService = userService;
         this.courtService = courtService;
+        this.courtLocks = courtLocks;
+        this.eventPublisher = eventPublisher;
+        this.pricingService = pricingService;
+        this.intervalIndex = intervalIndex;
     }
 
     @Transactional(readOnly = true)
@@ -55,12 +94,145 @@ public class ReservationService {
         return reservationRepository.findByPhone(phoneNumber, futureOnly);
     }
 
+    /**
+     * Finds one page of all reservations. One reservation more than the limit is returned if there is a next page.
+     *
+     * @param after cursor of the previous page, null for the first page
+     * @param limit size of the page, at most {@value MAX_PAGE_SIZE}
+     * @return at most limit + 1 reservations
+     */
+    @Transactional(readOnly = true)
+    public List<ReservationView> findAllPage(ReservationCursor after, int limit) {
+        validatePageSize(limit);
+        return reservationRepository.findAllPage(after, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ReservationView> findByCourtPage(long id, ReservationCursor after, int limit) {
+        validatePageSize(limit);
+        return reservationRepository.findByCourtPage(id, after, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ReservationView> findByPhonePage(String phoneNumber, boolean futureOnly, ReservationCursor after, int limit) {
+        validatePageSize(limit);
+        return reservationRepository.findByPhonePage(phoneNumber, futureOnly, after, limit);
+    }
+
+    /**
+     * Finds one page of reservations starting in the time window [from, to) ordered by start
+     *
+     * @param courtIds ids of the courts, null or empty for all courts
+     * @param from start of the window
+     * @param to end of the window
+     * @param after cursor of the previous page, null for the first page
+     * @param limit size of the page, at most {@value MAX_PAGE_SIZE}
+     * @return at most limit + 1 reservations
+     */
+    @Transactional(readOnly = true)
+    public List<ReservationView> findStartingBetweenPage(Collection<Long> courtIds, LocalDateTime from,
+                                                         LocalDateTime to, ReservationCursor after, int limit) {
+        validatePageSize(limit);
+        if (!from.isBefore(to)) {
+            throw new BadRequestException("Start of the window must be before its end.");
+        }
+        return reservationRepository.findStartingBetweenPage(courtIds, from, to, after, limit);
+    }
+
+    /**
+     * Passes reservations of all courts starting in the time window [from, to) ordered by start to the consumer one
+     * by one without loading them all into memory
+     *
+     * @param from start of the window
+     * @param to end of the window
+     * @param consumer consumer of the reservations
+     */
+    @Transactional(readOnly = true)
+    public void scanStartingBetween(LocalDateTime from, LocalDateTime to, Consumer<ReservationView> consumer) {
+        reservationRepository.scrollStartingBetween(from, to, consumer);
+    }
+
+    /**
+     * Passes all reservations to the consumer one by one without loading them all into memory
+     *
+     * @param consumer consumer of the reservations
+     */
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<ReservationView> consumer) {
+        reservationRepository.scrollAll(consumer);
+    }
+
+    /**
+     * Finds live reservations of given courts that overlap with the time window [from, to). Only reservations starting
+     * in the window are scanned, plus reservations running at the start of the window, at most one for every court,
+     * because reservations of one court do not overlap. Both are read by one query for all courts. Occurrences of
+     * reservation series in the window are included as reservations without id.
+     *
+     * @param courtIds ids of the courts
+     * @param from start of the window
+     * @param to end of the window
+     * @return reservations of every court ordered by start
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<Reservation>> findInWindow(Collection<Long> courtIds, LocalDateTime from, LocalDateTime to) {
+        Map<Long, List<Reservation>> reservationsByCourt = new HashMap<>();
+        for (long courtId : courtIds) {
+            reservationsByCourt.put(courtId, new ArrayList<>());
+        }
+        if (!courtIds.isEmpty()) {
+            for (Reservation running : reservationRepository.findRunningAt(courtIds, from)) {
+                reservationsByCourt.get(running.getCourt().getId()).add(running);
+            }
+            for (Reservation reservation : reservationRepository.findStartingBetween(courtIds, from, to)) {
+                reservationsByCourt.get(reservation.getCourt().getId()).add(reservation);
+            }
+            List<Reservation> occurrences = findOccurrences(courtIds, from, to);
+            for (Reservation occurrence : occurrences) {
+                reservationsByCourt.get(occurrence.getCourt().getId()).add(occurrence);
+            }
+            if (!occurrences.isEmpty()) {
+                for (List<Reservation> reservations : reservationsByCourt.values()) {
+                    reservations.sort(Comparator.comparing(Reservation::getStartsAt));
+                }
+            }
+        }
+        return reservationsByCourt;
+    }
+
+    /**
+     * Expands occurrences of live reservation series of given courts overlapping with the time window [from, to).
+     * Occurrence is at most one day long, so only series lasting at least until the day before the window can reach
+     * into it.
+     *
+     * @param courtIds ids of the courts
+     * @param from start of the window
+     * @param to end of the window
+     * @return occurrences as reservations without id
+     */
+    @Transactional(readOnly = true)
+    public List<Reservation> findOccurrences(Collection<Long> courtIds, LocalDateTime from, LocalDateTime to) {
+        List<Reservation> occurrences = new ArrayList<>();
+        for (ReservationSeries series : reservationSeriesRepository.findActive(courtIds,
+                from.minusDays(1).toLocalDate(), to)) {
+            occurrences.addAll(series.occurrencesBetween(from, to));
+        }
+        return occurrences;
+    }
+
+    private void validatePageSize(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BadRequestException("Page size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+    }
+
     /**
      * Checks if a time duration of a reservation (consisting of 2 timestamps) is in conflict (is overlapping)
      * with another reservation on the same court. Two reservations can overlap in one point
      * (one can start when another ends), but otherwise they must be completely non-overlapping.
      *
-     * During update the reservation can overlap with itself.
+     * During update the reservation can overlap with itself. Occurrences of reservation series are checked too.
+     * Reservations are checked in the in-memory interval index of the court, or in the database if the index is
+     * disabled.
      *
      * @param start start of the reservation, which must be before end of the reservation
      * @param end end of the reservation
@@ -73,15 +245,10 @@ public class ReservationService {
         if (end.isBefore(start)) {
             throw new BadRequestException("Reservation start date must be before end date.");
         }
-        List<Reservation> reservations = reservationRepository.findByCourt(courtId);
-        for (Reservation res : reservations) {
-            // Reservation can begin at the same time another one ends
-            if (!(res.getStartsAt().isAfter(end) || start.isAfter(res.getEndsAt()) ||
-                    res.getStartsAt().isEqual(end) || start.isEqual(res.getEndsAt())) && res.getId() != id) {
-                return true;
-            }
-        }
-        return false;
+        boolean overlapping = intervalIndex.isEnabled()
+                ? intervalIndex.isOverlapping(courtId, start, end, id)
+                : reservationRepository.existsOverlapping(courtId, start, end, id);
+        return overlapping || !findOccurrences(List.of(courtId), start, end).isEmpty();
     }
 
     /**
@@ -90,6 +257,9 @@ public class ReservationService {
      * create a reservation. After all conditions are checked, cost of the reservation is calculated and reservation is
      * created
      *
+     * The court stays locked until the transaction ends, so that two concurrent bookings cannot both pass the overlap
+     * check.
+     *
      * @param reservation reservation data
      * @param phoneNumber unique phone number
      * @param courtId unique court id
@@ -100,6 +270,8 @@ public class ReservationService {
         if (reservation.getId() != 0) {
             throw new BadRequestException("Trying to create a court with set id.");
         }
+        courtLocks.lock(courtId);
+        Court court = courtService.lockById(courtId);
         if (isOverlapping(reservation.getStartsAt(), reservation.getEndsAt(), courtId, 0)) {
             throw new BadRequestException("There already exists a reservation for this court overlapping with this reservation.");
         }
@@ -107,11 +279,242 @@ public class ReservationService {
         if (!user.getRoles().contains(Role.USER)) {
             throw new BadRequestException("This user cannot reserve courts.");
         }
-        Court court = courtService.findById(courtId);
         reservation.setUser(user);
         reservation.setCourt(court);
-        reservation.calculateCost();
-        return reservationRepository.create(reservation).getCost();
+        calculateCost(reservation);
+        Reservation created = reservationRepository.create(reservation);
+        publish(ReservationChangedEvent.Change.CREATED, created);
+        return created.getCost();
+    }
+
+    /**
+     * Creates all valid reservations of the batch in one transaction. Items that cannot be created are rejected with
+     * the reason and do not prevent creation of the other items. Users and courts are loaded once for the whole batch,
+     * all courts of the batch stay locked until the transaction ends and the batch is checked against existing
+     * reservations in one pass over reservations in the time window of the batch.
+     *
+     * Items of the batch overlapping with each other are resolved in order of their start, the earlier one is created.
+     *
+     * @param items reservations of the batch, at most {@value MAX_BATCH_SIZE}
+     * @return the same items, rejected ones with the reason
+     */
+    @Transactional
+    public List<BatchItem> createBatch(List<BatchItem> items) {
+        if (items.isEmpty() || items.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("Batch must contain between 1 and " + MAX_BATCH_SIZE + " reservations.");
+        }
+        List<BatchItem> pending = new ArrayList<>();
+        for (BatchItem item : items) {
+            Reservation reservation = item.getReservation();
+            if (reservation.getId() != 0) {
+                item.reject("Trying to create a reservation with set id.");
+            } else if (item.getCourtId() == null || item.getPhoneNumber() == null) {
+                item.reject("Court and phone number of the reservation must be set.");
+            } else if (reservation.getStartsAt() == null || reservation.getEndsAt() == null) {
+                item.reject("Start and end of the reservation must be set.");
+            } else if (reservation.getEndsAt().isBefore(reservation.getStartsAt())) {
+                item.reject("Reservation start date must be before end date.");
+            } else {
+                pending.add(item);
+            }
+        }
+        if (pending.isEmpty()) {
+            return items;
+        }
+
+        TreeSet<Long> courtIds = new TreeSet<>();
+        TreeSet<String> phoneNumbers = new TreeSet<>();
+        for (BatchItem item : pending) {
+            courtIds.add(item.getCourtId());
+            phoneNumbers.add(item.getPhoneNumber());
+        }
+        courtLocks.lock(courtIds);
+        Map<Long, Court> courts = new HashMap<>();
+        for (Court court : courtService.lockAllById(courtIds)) {
+            courts.put(court.getId(), court);
+        }
+        Map<String, User> users = new HashMap<>();
+        for (User user : userService.findByPhoneNumbers(phoneNumbers)) {
+            users.put(user.getPhoneNumber(), user);
+        }
+        pending.removeIf(item -> !resolve(item, courts, users));
+        if (pending.isEmpty()) {
+            return items;
+        }
+
+        List<Reservation> created = new ArrayList<>();
+        for (BatchItem item : sweep(pending)) {
+            Reservation reservation = item.getReservation();
+            calculateCost(reservation);
+            created.add(reservation);
+        }
+        if (!created.isEmpty()) {
+            reservationRepository.createAll(created);
+            for (Reservation reservation : created) {
+                publish(ReservationChangedEvent.Change.CREATED, reservation);
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Sets court and user of the item, or rejects the item if they cannot be used
+     */
+    private boolean resolve(BatchItem item, Map<Long, Court> courts, Map<String, User> users) {
+        Court court = courts.get(item.getCourtId());
+        User user = users.get(item.getPhoneNumber());
+        if (court == null) {
+            item.reject("Couldn't find court with this id.");
+        } else if (user == null) {
+            item.reject("Couldn't find user with this phone number.");
+        } else if (!user.getRoles().contains(Role.USER)) {
+            item.reject("This user cannot reserve courts.");
+        } else {
+            item.getReservation().setCourt(court);
+            item.getReservation().setUser(user);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Sorts the items by court and start and walks through them together with existing reservations of the court,
+     * which are also ordered by start (and by end, as they do not overlap). Item overlapping with an existing
+     * reservation or with an earlier accepted item of the batch is rejected.
+     *
+     * @return accepted items
+     */
+    private List<BatchItem> sweep(List<BatchItem> items) {
+        items.sort(Comparator.comparing(BatchItem::getCourtId)
+                .thenComparing(item -> item.getReservation().getStartsAt()));
+        LocalDateTime from = items.getFirst().getReservation().getStartsAt();
+        LocalDateTime to = items.getFirst().getReservation().getEndsAt();
+        TreeSet<Long> courtIds = new TreeSet<>();
+        for (BatchItem item : items) {
+            from = min(from, item.getReservation().getStartsAt());
+            to = max(to, item.getReservation().getEndsAt());
+            courtIds.add(item.getCourtId());
+        }
+        Map<Long, List<Reservation>> existing = findInWindow(courtIds, from, to);
+
+        List<BatchItem> accepted = new ArrayList<>();
+        Long courtId = null;
+        List<Reservation> courtReservations = List.of();
+        int next = 0;
+        LocalDateTime acceptedUntil = null;
+        for (BatchItem item : items) {
+            if (!item.getCourtId().equals(courtId)) {
+                courtId = item.getCourtId();
+                courtReservations = existing.get(courtId);
+                next = 0;
+                acceptedUntil = null;
+            }
+            LocalDateTime start = item.getReservation().getStartsAt();
+            LocalDateTime end = item.getReservation().getEndsAt();
+            // Skip existing reservations that end before this item starts, the next one is the only candidate
+            while (next < courtReservations.size() && !courtReservations.get(next).getEndsAt().isAfter(start)) {
+                next++;
+            }
+            if (next < courtReservations.size() && courtReservations.get(next).getStartsAt().isBefore(end)) {
+                item.reject("There already exists a reservation for this court overlapping with this reservation.");
+            } else if (acceptedUntil != null && start.isBefore(acceptedUntil)) {
+                item.reject("Reservation overlaps with another reservation of the batch.");
+            } else {
+                accepted.add(item);
+                acceptedUntil = end;
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * Calculates cost and availability of candidate reservations without creating them. Courts and their surfaces are
+     * read through the second-level cache and costs come from compiled price tables, so the same cost is quoted as
+     * the one the reservation would get if it was created now. All candidates are checked against existing
+     * reservations and series occurrences in one read of the time window of the quote, instead of a query per
+     * candidate. Candidates are alternatives, so they can overlap each other.
+     *
+     * @param items candidate reservations, at most {@value MAX_QUOTE_SIZE} within {@value MAX_QUOTE_WINDOW_DAYS} days
+     * @return the same items with their cost and availability, invalid ones with the reason
+     */
+    @Transactional(readOnly = true)
+    public List<QuoteItem> quote(List<QuoteItem> items) {
+        if (items.isEmpty() || items.size() > MAX_QUOTE_SIZE) {
+            throw new BadRequestException("Quote must contain between 1 and " + MAX_QUOTE_SIZE + " reservations.");
+        }
+        List<QuoteItem> pending = new ArrayList<>();
+        TreeSet<Long> courtIds = new TreeSet<>();
+        for (QuoteItem item : items) {
+            if (item.getCourtId() == null) {
+                item.reject("Court of the reservation must be set.");
+            } else if (item.getStartsAt() == null || item.getEndsAt() == null) {
+                item.reject("Start and end of the reservation must be set.");
+            } else if (item.getEndsAt().isBefore(item.getStartsAt())) {
+                item.reject("Reservation start date must be before end date.");
+            } else {
+                pending.add(item);
+                courtIds.add(item.getCourtId());
+            }
+        }
+        if (pending.isEmpty()) {
+            return items;
+        }
+
+        Map<Long, Court> courts = new HashMap<>();
+        for (Court court : courtService.findAllById(courtIds)) {
+            courts.put(court.getId(), court);
+        }
+        pending.removeIf(item -> {
+            if (!courts.containsKey(item.getCourtId())) {
+                item.reject("Couldn't find court with this id.");
+                return true;
+            }
+            return false;
+        });
+        if (pending.isEmpty()) {
+            return items;
+        }
+
+        pending.sort(Comparator.comparing(QuoteItem::getCourtId).thenComparing(QuoteItem::getStartsAt));
+        LocalDateTime from = pending.getFirst().getStartsAt();
+        LocalDateTime to = pending.getFirst().getEndsAt();
+        for (QuoteItem item : pending) {
+            from = min(from, item.getStartsAt());
+            to = max(to, item.getEndsAt());
+        }
+        if (from.plusDays(MAX_QUOTE_WINDOW_DAYS).isBefore(to)) {
+            throw new BadRequestException("Quoted reservations must lie within " + MAX_QUOTE_WINDOW_DAYS + " days.");
+        }
+        Map<Long, List<Reservation>> existing = findInWindow(courts.keySet(), from, to);
+
+        Long courtId = null;
+        List<Reservation> courtReservations = List.of();
+        int next = 0;
+        for (QuoteItem item : pending) {
+            if (!item.getCourtId().equals(courtId)) {
+                courtId = item.getCourtId();
+                courtReservations = existing.get(courtId);
+                next = 0;
+            }
+            // Items are ordered by start, so reservations ending before this item also end before the next ones
+            while (next < courtReservations.size()
+                    && !courtReservations.get(next).getEndsAt().isAfter(item.getStartsAt())) {
+                next++;
+            }
+            boolean available = next >= courtReservations.size()
+                    || !courtReservations.get(next).getStartsAt().isBefore(item.getEndsAt());
+            item.quote(pricingService.cost(courts.get(courtId), item.isDoubles(), item.getStartsAt(),
+                    item.getEndsAt()), available);
+        }
+        return items;
+    }
+
+    private static LocalDateTime min(LocalDateTime first, LocalDateTime second) {
+        return first.isBefore(second) ? first : second;
+    }
+
+    private static LocalDateTime max(LocalDateTime first, LocalDateTime second) {
+        return first.isAfter(second) ? first : second;
     }
 
     @Transactional
@@ -124,25 +527,46 @@ public class ReservationService {
             if (end != null) {
                 foundReservation.setEndsAt(end);
             }
+            courtLocks.lock(foundReservation.getCourt().getId());
+            courtService.lockById(foundReservation.getCourt().getId());
             if (isOverlapping(foundReservation.getStartsAt(), foundReservation.getEndsAt(), foundReservation.getCourt().getId(), foundReservation.getId())) {
                 throw new BadRequestException("There already exists a reservation for this court overlapping with this reservation.");
             }
             if (doubles != null) {
                 foundReservation.setDoubles(doubles);
             }
-            foundReservation.calculateCost();
+            calculateCost(foundReservation);
             if (cost != null) {
                 foundReservation.setCost(cost);
             }
         } else {
             throw new BadRequestException("At least one query field must be used.");
         }
-        return reservationRepository.update(foundReservation);
+        Reservation updated = reservationRepository.update(foundReservation);
+        publish(ReservationChangedEvent.Change.UPDATED, updated);
+        return updated;
     }
 
     @Transactional
     public Reservation delete(long id) {
         Reservation reservation = findById(id);
-        return reservationRepository.delete(reservation);
+        Reservation deleted = reservationRepository.delete(reservation);
+        publish(ReservationChangedEvent.Change.DELETED, deleted);
+        return deleted;
+    }
+
+    /**
+     * Sets cost of the reservation from the precomputed price of the surface of its court
+     */
+    private void calculateCost(Reservation reservation) {
+        reservation.setCost(pricingService.cost(reservation.getCourt(), reservation.isDoubles(),
+                reservation.getStartsAt(), reservation.getEndsAt()));
+    }
+
+    /**
+     * Publishes change of the reservation, listeners get it only after the transaction commits
+     */
+    private void publish(ReservationChangedEvent.Change change, Reservation reservation) {
+        eventPublisher.publishEvent(ReservationChangedEvent.of(change, reservation));
     }
 }
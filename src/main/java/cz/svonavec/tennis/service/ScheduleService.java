@@ -0,0 +1,264 @@
+package cz.svonavec.tennis.service;
+
+import cz.svonavec.tennis.models.events.ReservationChangedEvent;
+import cz.svonavec.tennis.models.schedule.DaySchedule;
+import cz.svonavec.tennis.models.schedule.ScheduleEntry;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory schedules of days around today across all courts. Schedules are built by one range scan of reservations
+ * when the application starts, before it accepts requests, and then kept up to date from committed reservation
+ * changes, so schedule of a day is served without touching the database.
+ *
+ * Only days around today (pastDays before and futureDays after it) are kept in memory, schedule of any other day is
+ * read from the database. The window is rolled every day, schedules of days that left it are dropped and schedules of
+ * days that entered it are loaded. Occurrences of reservation series are not part of the schedules.
+ */
+@Service
+public class ScheduleService implements SmartInitializingSingleton {
+    public final ReservationService reservationService;
+
+    private final int pastDays;
+
+    private final int futureDays;
+
+    // Loaded window is read by requests without locking, loads build a new window and publish it by one volatile write
+    private volatile Window window = new Window(null, null);
+
+    // Guards changes of the published window, held only for changes in memory and never across a database read
+    private final ReentrantLock changeLock = new ReentrantLock();
+
+    // Only one load of the window runs at a time, reading the database is done while holding only this lock
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    // Changes committed while a load reads the database, guarded by changeLock and replayed on the loaded window
+    private List<ReservationChangedEvent> changesDuringLoad;
+
+    @Autowired
+    public ScheduleService(ReservationService reservationService,
+                           @Value("${application.schedule.past-days:7}") int pastDays,
+                           @Value("${application.schedule.future-days:90}") int futureDays) {
+        this.reservationService = reservationService;
+        this.pastDays = pastDays;
+        this.futureDays = futureDays;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild(LocalDate.now());
+    }
+
+    /**
+     * Loads schedules of days around the given day from the database, replacing all schedules in memory
+     *
+     * @param today day around which the schedules are loaded
+     */
+    public void rebuild(LocalDate today) {
+        LocalDate from = today.minusDays(pastDays);
+        LocalDate until = today.plusDays(futureDays + 1L);
+        loadLock.lock();
+        try {
+            changeLock.lock();
+            try {
+                changesDuringLoad = new ArrayList<>();
+            } finally {
+                changeLock.unlock();
+            }
+            Window loaded = new Window(from, until);
+            load(loaded, from, until);
+            publish(loaded);
+        } finally {
+            discardChangesDuringLoad();
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Moves the window of schedules in memory to the current day, runs every day at midnight
+     */
+    @Scheduled(cron = "${application.schedule.roll-cron:0 0 0 * * *}")
+    public void roll() {
+        roll(LocalDate.now());
+    }
+
+    /**
+     * Moves the window of schedules in memory to days around the given day. Schedules of days before the new window
+     * are dropped and only days after the old window are read from the database.
+     *
+     * @param today day around which the schedules are kept
+     */
+    public void roll(LocalDate today) {
+        LocalDate from = today.minusDays(pastDays);
+        LocalDate until = today.plusDays(futureDays + 1L);
+        loadLock.lock();
+        try {
+            Window rolled = new Window(from, until);
+            LocalDate loadFrom;
+            changeLock.lock();
+            try {
+                Window current = window;
+                if (current.from == null || until.isBefore(current.until) || !from.isBefore(current.until)) {
+                    loadFrom = from;
+                } else {
+                    loadFrom = current.until;
+                    current.days.forEach((date, schedule) -> {
+                        if (rolled.contains(date)) {
+                            rolled.days.put(date, schedule);
+                        }
+                    });
+                    current.entries.forEach((id, entry) -> {
+                        if (rolled.contains(entry.getDate())) {
+                            rolled.entries.put(id, entry);
+                        }
+                    });
+                }
+                changesDuringLoad = new ArrayList<>();
+            } finally {
+                changeLock.unlock();
+            }
+            load(rolled, loadFrom, until);
+            publish(rolled);
+        } finally {
+            discardChangesDuringLoad();
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Returns schedule of the day across all courts, from memory if the day is loaded
+     *
+     * @param date day of the schedule
+     * @return reservations of the day grouped by court
+     */
+    public DaySchedule findDay(LocalDate date) {
+        Window current = window;
+        if (current.contains(date)) {
+            return current.days.getOrDefault(date, DaySchedule.empty(date));
+        }
+        Map<Long, List<ScheduleEntry>> courts = new HashMap<>();
+        reservationService.scanStartingBetween(date.atStartOfDay(), date.plusDays(1).atStartOfDay(), reservation ->
+                courts.computeIfAbsent(reservation.getCourtId(), courtId -> new ArrayList<>())
+                        .add(ScheduleEntry.of(reservation)));
+        return DaySchedule.of(date, courts);
+    }
+
+    /**
+     * Moves the changed reservation on the schedules. Reservation is first removed from the day it was on, then
+     * added to the day it starts on now, unless it was deleted.
+     *
+     * @param event committed change of a reservation
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        changeLock.lock();
+        try {
+            apply(window, event);
+            if (changesDuringLoad != null) {
+                changesDuringLoad.add(event);
+            }
+        } finally {
+            changeLock.unlock();
+        }
+    }
+
+    /**
+     * Reads schedules of days in [from, until) into the window, which is not published yet
+     */
+    private void load(Window target, LocalDate from, LocalDate until) {
+        if (!from.isBefore(until)) {
+            return;
+        }
+        Map<LocalDate, Map<Long, List<ScheduleEntry>>> loaded = new HashMap<>();
+        reservationService.scanStartingBetween(from.atStartOfDay(), until.atStartOfDay(), reservation -> {
+            ScheduleEntry entry = ScheduleEntry.of(reservation);
+            target.entries.put(entry.getReservationId(), entry);
+            loaded.computeIfAbsent(entry.getDate(), date -> new HashMap<>())
+                    .computeIfAbsent(entry.getCourtId(), courtId -> new ArrayList<>())
+                    .add(entry);
+        });
+        loaded.forEach((date, courts) -> target.days.put(date, DaySchedule.of(date, courts)));
+    }
+
+    /**
+     * Replays changes committed during the load on the loaded window and publishes it. A change the load has already
+     * read is applied again, which leaves the reservation as it is.
+     */
+    private void publish(Window loaded) {
+        changeLock.lock();
+        try {
+            for (ReservationChangedEvent event : changesDuringLoad) {
+                apply(loaded, event);
+            }
+            changesDuringLoad = null;
+            window = loaded;
+        } finally {
+            changeLock.unlock();
+        }
+    }
+
+    private void discardChangesDuringLoad() {
+        changeLock.lock();
+        try {
+            changesDuringLoad = null;
+        } finally {
+            changeLock.unlock();
+        }
+    }
+
+    private static void apply(Window target, ReservationChangedEvent event) {
+        ScheduleEntry previous = target.entries.remove(event.getReservationId());
+        if (previous != null) {
+            target.days.computeIfPresent(previous.getDate(), (date, schedule) -> {
+                DaySchedule changed = schedule.without(previous);
+                return changed.isEmpty() ? null : changed;
+            });
+        }
+        if (event.getChange() == ReservationChangedEvent.Change.DELETED) {
+            return;
+        }
+        ScheduleEntry entry = ScheduleEntry.of(event);
+        if (target.contains(entry.getDate())) {
+            target.entries.put(entry.getReservationId(), entry);
+            target.days.compute(entry.getDate(), (date, schedule) ->
+                    (schedule == null ? DaySchedule.empty(date) : schedule).with(entry));
+        }
+    }
+
+    /**
+     * Schedules of days in [from, until). Readers only get immutable schedules from the days, entries are read and
+     * changed only under the change lock once the window is published.
+     */
+    private static final class Window {
+        private final LocalDate from;
+
+        private final LocalDate until;
+
+        private final Map<LocalDate, DaySchedule> days = new ConcurrentHashMap<>();
+
+        // Reservations on the schedules by id, needed to find the old day of an updated or deleted reservation
+        private final Map<Long, ScheduleEntry> entries = new HashMap<>();
+
+        private Window(LocalDate from, LocalDate until) {
+            this.from = from;
+            this.until = until;
+        }
+
+        private boolean contains(LocalDate date) {
+            return from != null && !date.isBefore(from) && date.isBefore(until);
+        }
+    }
+}
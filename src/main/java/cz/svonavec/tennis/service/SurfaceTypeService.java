@@ -15,9 +15,17 @@ import java.util.List;
 public class SurfaceTypeService {
     public final SurfaceTypeRepository surfaceTypeRepository;
 
+    private final TableVersions tableVersions;
+
+    private final PricingService pricingService;
+
     @Autowired
-    public SurfaceTypeService(SurfaceTypeRepository surfaceTypeRepository){
+    public SurfaceTypeService(SurfaceTypeRepository surfaceTypeRepository,
+                              TableVersions tableVersions,
+                              PricingService pricingService){
         this.surfaceTypeRepository = surfaceTypeRepository;
+        this.tableVersions = tableVersions;
+        this.pricingService = pricingService;
     }
 
     @Transactional(readOnly = true)
@@ -39,7 +47,10 @@ public class SurfaceTypeService {
         if (surfaceType.getId() != 0) {
             throw new BadRequestException("Trying to create a surface with set id.");
         }
-        return surfaceTypeRepository.create(surfaceType);
+        tableVersions.bump(TableVersions.SURFACES);
+        SurfaceType created = surfaceTypeRepository.create(surfaceType);
+        pricingService.refresh(created);
+        return created;
     }
 
     @Transactional
@@ -55,12 +66,17 @@ public class SurfaceTypeService {
         } else {
             throw new BadRequestException("At least one query field must be used.");
         }
-        return surfaceTypeRepository.update(surfaceType);
+        tableVersions.bump(TableVersions.SURFACES);
+        SurfaceType updated = surfaceTypeRepository.update(surfaceType);
+        pricingService.refresh(updated);
+        return updated;
     }
 
     @Transactional
     public SurfaceType delete(long id) {
         SurfaceType surfaceType = findById(id);
+        tableVersions.bump(TableVersions.SURFACES);
+        pricingService.evict(id);
         return surfaceTypeRepository.delete(surfaceType);
     }
 }
@@ -0,0 +1,75 @@
+package cz.svonavec.tennis.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process version counters of rarely changing tables. Services bump the counter of a table whenever they change it,
+ * listings of the table use the counters as ETags, so that clients polling an unchanged listing get 304 without the
+ * listing being loaded.
+ *
+ * Counter is bumped only after the changing transaction commits. A listing read in the meantime may carry the old
+ * version with the new data, which only makes the client load the listing once more. Versions start from the time
+ * the application started, so that ETags issued before a restart never match again.
+ */
+@Component
+public class TableVersions {
+    public static final String COURTS = "courts";
+    public static final String SURFACES = "surfaces";
+
+    private final long startedAt = System.currentTimeMillis();
+
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    /**
+     * Returns current version of the table
+     *
+     * @param table name of the table
+     * @return version of the table
+     */
+    public long version(String table) {
+        return counter(table).get();
+    }
+
+    /**
+     * Returns strong ETag of a listing built from given tables, it changes whenever any of the tables changes
+     *
+     * @param tables names of the tables
+     * @return quoted ETag
+     */
+    public String etag(String... tables) {
+        StringBuilder etag = new StringBuilder("\"").append(startedAt);
+        for (String table : tables) {
+            etag.append('-').append(version(table));
+        }
+        return etag.append('"').toString();
+    }
+
+    /**
+     * Bumps version of the table after the current transaction commits, or right away outside of a transaction
+     *
+     * @param table name of the table
+     */
+    public void bump(String table) {
+        AtomicLong counter = counter(table);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            counter.incrementAndGet();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                counter.incrementAndGet();
+            }
+        });
+    }
+
+    private AtomicLong counter(String table) {
+        return versions.computeIfAbsent(table, key -> new AtomicLong());
+    }
+}
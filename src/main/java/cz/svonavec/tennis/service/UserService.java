@@ -4,8 +4,12 @@ import cz.svonavec.tennis.exception.BadRequestException;
 import cz.svonavec.tennis.exception.ResourceNotFoundException;
 import cz.svonavec.tennis.models.entities.Role;
 import cz.svonavec.tennis.models.entities.User;
+import cz.svonavec.tennis.models.events.ReservationChangedEvent;
+import cz.svonavec.tennis.models.projections.ReservationView;
+import cz.svonavec.tennis.repository.ReservationRepository;
 import cz.svonavec.tennis.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -13,6 +17,9 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 
 @Service
@@ -22,10 +29,21 @@ public class UserService implements UserDetailsService {
 
     public final PasswordEncoder passwordEncoder;
 
+    public final ReservationRepository reservationRepository;
+
+    private final PrincipalCache principalCache;
+
+    private final ApplicationEventPublisher eventPublisher;
+
     @Autowired
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder){
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                       ReservationRepository reservationRepository, PrincipalCache principalCache,
+                       ApplicationEventPublisher eventPublisher){
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.reservationRepository = reservationRepository;
+        this.principalCache = principalCache;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
@@ -46,6 +64,49 @@ public class UserService implements UserDetailsService {
         return user;
     }
 
+    /**
+     * Finds users with given phone numbers in one query. Deleted and missing users are left out.
+     *
+     * @param phoneNumbers unique phone numbers
+     * @return found users
+     */
+    @Transactional(readOnly = true)
+    public List<User> findByPhoneNumbers(Collection<String> phoneNumbers) {
+        List<User> users = new ArrayList<>();
+        for (User user : userRepository.findByPhoneNumbers(phoneNumbers)) {
+            if (user.getDeletedAt() == null) {
+                users.add(user);
+            }
+        }
+        return users;
+    }
+
+    /**
+     * Finds user authenticated by a token. Users are cached, so the database is queried only for the first request of
+     * the user. Returned user is shared and must not be modified.
+     *
+     * @param phoneNumber unique phone number
+     * @return found user
+     */
+    public User findPrincipal(String phoneNumber) {
+        return principalCache.get(phoneNumber, this::findByPhoneNumber);
+    }
+
+    /**
+     * Checks if token of the user was issued with the current token version, so it was not revoked by change of roles
+     * or deletion of the user. Versions are cached, so the database is queried only for the first request of the user.
+     *
+     * @param userId id of the user
+     * @param tokenVersion version claimed by the token
+     * @return true, if the version is current and the user exists
+     */
+    public boolean isTokenVersionCurrent(long userId, int tokenVersion) {
+        return principalCache.tokenVersion(userId, id -> {
+            Integer version = userRepository.findTokenVersion(id);
+            return version == null ? -1 : version;
+        }) == tokenVersion;
+    }
+
     @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) {
         try {
@@ -98,17 +159,31 @@ public class UserService implements UserDetailsService {
                 foundUser.setName(user.getName());
             }
             if (user.getRoles() != null) {
+                if (!new HashSet<>(user.getRoles()).equals(new HashSet<>(foundUser.getRoles()))) {
+                    // Tokens issued with previous roles are revoked
+                    foundUser.setTokenVersion(foundUser.getTokenVersion() + 1);
+                }
                 foundUser.setRoles(user.getRoles());
             }
         } else {
             throw new BadRequestException("At least one query field must be used.");
         }
+        principalCache.evict(foundUser);
         return userRepository.update(foundUser);
     }
 
     @Transactional
     public User delete(long id) {
         User user = findById(id);
-        return userRepository.delete(user);
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        principalCache.evict(user);
+        // Reservations are deleted by a bulk update, their deletion is published for listeners of reservation changes
+        List<ReservationView> reservations = reservationRepository.findViewsByUser(id);
+        User deleted = userRepository.delete(user);
+        for (ReservationView reservation : reservations) {
+            eventPublisher.publishEvent(
+                    ReservationChangedEvent.of(ReservationChangedEvent.Change.DELETED, reservation));
+        }
+        return deleted;
     }
 }
@@ -0,0 +1,27 @@
+package cz.svonavec.tennis;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+@ActiveProfiles("test")
+public class VirtualThreadModeTests {
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Test
+    void applicationTaskExecutor_virtualThreadsEnabled_runsTasksOnVirtualThreads() throws Exception {
+        // Act
+        boolean virtual = applicationTaskExecutor.submit(() -> Thread.currentThread().isVirtual()).get();
+
+        // Assert
+        assertThat(virtual).isTrue();
+    }
+}
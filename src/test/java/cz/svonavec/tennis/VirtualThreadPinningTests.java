@@ -0,0 +1,70 @@
+package cz.svonavec.tennis;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.asm.ClassReader;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.SpringAsmInfo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Virtual thread is pinned to its carrier while it holds a monitor, so a blocking call (JDBC, lock) made inside of a
+ * synchronized method or block blocks the carrier thread as well. Application classes therefore must not use monitors
+ * at all, locks are done by java.util.concurrent locks.
+ */
+public class VirtualThreadPinningTests {
+
+    @Test
+    void applicationClasses_noSynchronizedMethodsOrBlocks() throws Exception {
+        // Arrange
+        Path classes = Path.of(ReservationApplication.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        List<String> monitors = new ArrayList<>();
+
+        // Act
+        try (Stream<Path> files = Files.walk(classes)) {
+            for (Path file : files.filter(path -> path.toString().endsWith(".class")).toList()) {
+                monitors.addAll(findMonitors(file));
+            }
+        }
+
+        // Assert
+        assertThat(monitors).isEmpty();
+    }
+
+    private static List<String> findMonitors(Path file) throws IOException {
+        List<String> monitors = new ArrayList<>();
+        try (InputStream input = Files.newInputStream(file)) {
+            ClassReader reader = new ClassReader(input);
+            String className = reader.getClassName();
+            reader.accept(new ClassVisitor(SpringAsmInfo.ASM_VERSION) {
+                @Override
+                public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                                                 String[] exceptions) {
+                    String method = className + "." + name;
+                    if ((access & Opcodes.ACC_SYNCHRONIZED) != 0) {
+                        monitors.add(method + " is synchronized");
+                    }
+                    return new MethodVisitor(SpringAsmInfo.ASM_VERSION) {
+                        @Override
+                        public void visitInsn(int opcode) {
+                            if (opcode == Opcodes.MONITORENTER) {
+                                monitors.add(method + " has synchronized block");
+                            }
+                        }
+                    };
+                }
+            }, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        }
+        return monitors;
+    }
+}
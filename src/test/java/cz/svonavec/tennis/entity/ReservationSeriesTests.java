@@ -0,0 +1,63 @@
+package cz.svonavec.tennis.entity;
+
+import cz.svonavec.tennis.factory.ReservationSeriesFactory;
+import cz.svonavec.tennis.models.entities.Reservation;
+import cz.svonavec.tennis.models.entities.ReservationSeries;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReservationSeriesTests {
+    @Test
+    public void occurrencesBetween_weeklySeriesWithException_returnsOccurrencesInWindow() {
+        ReservationSeries series = ReservationSeriesFactory.createReservationSeries();
+        series.getExceptions().add(LocalDate.of(2025, 1, 15));
+
+        List<Reservation> occurrences = series.occurrencesBetween(LocalDateTime.of(2025, 1, 8, 10, 30),
+                LocalDateTime.of(2025, 1, 29, 10, 0));
+
+        assertThat(occurrences).extracting(Reservation::getStartsAt).containsExactly(
+                LocalDateTime.of(2025, 1, 8, 10, 0),
+                LocalDateTime.of(2025, 1, 22, 10, 0));
+        assertThat(occurrences.getFirst().getEndsAt()).isEqualTo(LocalDateTime.of(2025, 1, 8, 11, 0));
+        assertThat(occurrences.getFirst().getCost()).isEqualTo(series.getCost());
+        assertThat(occurrences.getFirst().getId()).isEqualTo(0L);
+    }
+
+    @Test
+    public void occurrencesBetween_windowAfterLastDay_returnsNoOccurrences() {
+        ReservationSeries series = ReservationSeriesFactory.createReservationSeries();
+
+        List<Reservation> occurrences = series.occurrencesBetween(LocalDateTime.of(2025, 3, 27, 0, 0),
+                LocalDateTime.of(2025, 6, 1, 0, 0));
+
+        assertThat(occurrences).isEmpty();
+    }
+
+    @Test
+    public void occurrencesBetween_everySecondWeek_skipsWeeksBetween() {
+        ReservationSeries series = ReservationSeriesFactory.createReservationSeries();
+        series.setIntervalWeeks(2);
+
+        List<Reservation> occurrences = series.occurrencesBetween(LocalDateTime.of(2025, 1, 2, 0, 0),
+                LocalDateTime.of(2025, 2, 1, 0, 0));
+
+        assertThat(occurrences).extracting(Reservation::getStartsAt).containsExactly(
+                LocalDateTime.of(2025, 1, 15, 10, 0),
+                LocalDateTime.of(2025, 1, 29, 10, 0));
+    }
+
+    @Test
+    public void hasOccurrenceOn_occurrenceAndOtherDays_returnsWhetherOccurrenceStarts() {
+        ReservationSeries series = ReservationSeriesFactory.createReservationSeries();
+
+        assertThat(series.hasOccurrenceOn(LocalDate.of(2025, 1, 8))).isTrue();
+        assertThat(series.hasOccurrenceOn(LocalDate.of(2025, 1, 9))).isFalse();
+        assertThat(series.hasOccurrenceOn(LocalDate.of(2025, 4, 2))).isFalse();
+        assertThat(series.countOccurrences()).isEqualTo(13);
+    }
+}
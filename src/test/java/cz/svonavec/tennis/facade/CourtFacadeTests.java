@@ -1,10 +1,14 @@
 package cz.svonavec.tennis.facade;
 
 import cz.svonavec.tennis.factory.CourtFactory;
+import cz.svonavec.tennis.mapper.AvailabilityMapper;
 import cz.svonavec.tennis.mapper.CourtMapper;
+import cz.svonavec.tennis.models.availability.FreeSlot;
+import cz.svonavec.tennis.models.dtos.CourtAvailabilityDTO;
 import cz.svonavec.tennis.models.dtos.CourtCreateDTO;
 import cz.svonavec.tennis.models.dtos.CourtDTO;
 import cz.svonavec.tennis.models.entities.Court;
+import cz.svonavec.tennis.service.AvailabilityService;
 import cz.svonavec.tennis.service.CourtService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,6 +16,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -27,6 +32,12 @@ public class CourtFacadeTests {
     @Mock
     private CourtService courtService;
 
+    @Mock
+    private AvailabilityMapper availabilityMapper;
+
+    @Mock
+    private AvailabilityService availabilityService;
+
     @InjectMocks
     private CourtFacade courtFacade;
 
@@ -60,6 +71,24 @@ public class CourtFacadeTests {
         assertThat(result.size()).isEqualTo(2);
     }
 
+    @Test
+    void findAvailability_courtFound_returnsFreeSlots() {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 8, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 1, 1, 20, 0);
+        List<FreeSlot> slots = List.of(new FreeSlot(from, to));
+        CourtAvailabilityDTO availabilityDTO = new CourtAvailabilityDTO(1L, from, to, List.of());
+        when(availabilityService.findFreeSlots(1L, from, to, Duration.ofMinutes(60))).thenReturn(slots);
+        when(availabilityMapper.mapToDTO(1L, from, to, slots)).thenReturn(availabilityDTO);
+
+        // Act
+        CourtAvailabilityDTO result = courtFacade.findAvailability(1L, from, to, 60);
+
+        // Assert
+        verify(availabilityService).findFreeSlots(1L, from, to, Duration.ofMinutes(60));
+        assertThat(result).isEqualTo(availabilityDTO);
+    }
+
     @Test
     void create_createsCourt_returnsCourt() {
         // Arrange
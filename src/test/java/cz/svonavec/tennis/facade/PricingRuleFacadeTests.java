@@ -0,0 +1,105 @@
+package cz.svonavec.tennis.facade;
+
+import cz.svonavec.tennis.factory.PricingRuleFactory;
+import cz.svonavec.tennis.mapper.PricingRuleMapper;
+import cz.svonavec.tennis.models.dtos.PricingRuleCreateDTO;
+import cz.svonavec.tennis.models.dtos.PricingRuleDTO;
+import cz.svonavec.tennis.models.entities.PricingRule;
+import cz.svonavec.tennis.service.PricingRuleService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PricingRuleFacadeTests {
+    @Mock
+    private PricingRuleService pricingRuleService;
+
+    @Mock
+    private PricingRuleMapper pricingRuleMapper;
+
+    @InjectMocks
+    private PricingRuleFacade pricingRuleFacade;
+
+    @Test
+    void findById_findsRule_returnsRule() {
+        // Arrange
+        PricingRule rule = PricingRuleFactory.createPricingRule();
+        when(pricingRuleService.findById(1)).thenReturn(rule);
+        when(pricingRuleMapper.mapToDTO(rule)).thenReturn(PricingRuleFactory.createPricingRuleDTORest());
+
+        // Act
+        PricingRuleDTO result = pricingRuleFacade.findById(1);
+
+        // Assert
+        verify(pricingRuleService).findById(1);
+        assertThat(result.getId()).isEqualTo(1L);
+    }
+
+    @Test
+    void findAll_findsAllRules_returnsRules() {
+        // Arrange
+        List<PricingRule> rules = List.of(PricingRuleFactory.createPricingRule());
+        when(pricingRuleService.findAll()).thenReturn(rules);
+        when(pricingRuleMapper.mapToDTOList(rules)).thenReturn(List.of(PricingRuleFactory.createPricingRuleDTORest()));
+
+        // Act
+        List<PricingRuleDTO> result = pricingRuleFacade.findAll();
+
+        // Assert
+        assertThat(result.size()).isEqualTo(1);
+    }
+
+    @Test
+    void create_createsRule_passesCourtAndSurfaceOfDTO() {
+        // Arrange
+        PricingRuleCreateDTO createDTO = PricingRuleFactory.createPricingRuleCreateDTORest();
+        PricingRule rule = PricingRuleFactory.createPricingRule();
+        when(pricingRuleMapper.mapToEntity(createDTO)).thenReturn(rule);
+        when(pricingRuleService.create(rule, null, 1L)).thenReturn(rule);
+        when(pricingRuleMapper.mapToDTO(rule)).thenReturn(PricingRuleFactory.createPricingRuleDTORest());
+
+        // Act
+        PricingRuleDTO result = pricingRuleFacade.create(createDTO);
+
+        // Assert
+        verify(pricingRuleService).create(rule, null, 1L);
+        assertThat(result.getSurfaceId()).isEqualTo(1L);
+    }
+
+    @Test
+    void update_updatesRule_passesCourtAndSurfaceOfDTO() {
+        // Arrange
+        PricingRuleCreateDTO createDTO = PricingRuleFactory.createPricingRuleCreateDTORest();
+        PricingRule rule = PricingRuleFactory.createPricingRule();
+        when(pricingRuleMapper.mapToEntity(createDTO)).thenReturn(rule);
+        when(pricingRuleService.update(1, rule, null, 1L)).thenReturn(rule);
+
+        // Act
+        pricingRuleFacade.update(1, createDTO);
+
+        // Assert
+        verify(pricingRuleService).update(1, rule, null, 1L);
+    }
+
+    @Test
+    void delete_deletesRule_returnsRule() {
+        // Arrange
+        PricingRule rule = PricingRuleFactory.createPricingRule();
+        when(pricingRuleService.delete(1)).thenReturn(rule);
+
+        // Act
+        pricingRuleFacade.delete(1);
+
+        // Assert
+        verify(pricingRuleService).delete(1);
+    }
+}
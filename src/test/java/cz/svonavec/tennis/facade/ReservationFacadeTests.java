@@ -2,10 +2,18 @@ package cz.svonavec.tennis.facade;
 
 import cz.svonavec.tennis.factory.ReservationFactory;
 import cz.svonavec.tennis.mapper.ReservationMapper;
+import cz.svonavec.tennis.models.batch.BatchItem;
+import cz.svonavec.tennis.models.dtos.ReservationBatchResultDTO;
+import cz.svonavec.tennis.models.dtos.ReservationQuoteDTO;
+import cz.svonavec.tennis.models.dtos.ReservationQuoteItemDTO;
+import cz.svonavec.tennis.models.quote.QuoteItem;
 import cz.svonavec.tennis.models.dtos.ReservationCreateDTO;
 import cz.svonavec.tennis.models.dtos.ReservationDTO;
+import cz.svonavec.tennis.models.dtos.ReservationPageDTO;
 import cz.svonavec.tennis.models.dtos.ReservationUpdateDTO;
 import cz.svonavec.tennis.models.entities.Reservation;
+import cz.svonavec.tennis.models.paging.ReservationCursor;
+import cz.svonavec.tennis.models.projections.ReservationView;
 import cz.svonavec.tennis.service.ReservationService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,9 +23,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -49,49 +61,105 @@ public class ReservationFacadeTests {
     @Test
     void findAll_findsAllReservations_returnsReservations() {
         // Arrange
-        List<Reservation> reservations = List.of(ReservationFactory.createReservation(), ReservationFactory.createReservation());
+        List<ReservationView> reservations = List.of(ReservationFactory.createReservationView(1L), ReservationFactory.createReservationView(2L));
         List<ReservationDTO> reservationDTOS = List.of(ReservationFactory.createReservationDTO(), ReservationFactory.createReservationDTO());
-        when(reservationService.findAll()).thenReturn(reservations);
-        when(reservationMapper.mapToDTOList(reservations)).thenReturn(reservationDTOS);
+        when(reservationService.findAllPage(null, 50)).thenReturn(reservations);
+        when(reservationMapper.mapToPageDTO(reservations, 50)).thenReturn(new ReservationPageDTO(reservationDTOS, null));
 
         // Act
-        List<ReservationDTO> result = reservationFacade.findAll();
+        ReservationPageDTO result = reservationFacade.findAll(null, 50);
 
         // Assert
-        verify(reservationService).findAll();
-        assertThat(result.size()).isEqualTo(2);
+        verify(reservationService).findAllPage(null, 50);
+        assertThat(result.getItems().size()).isEqualTo(2);
     }
 
     @Test
     void findByPhoneNumber_findsAllReservations_returnsReservations() {
         // Arrange
-        List<Reservation> reservations = List.of(ReservationFactory.createReservation(), ReservationFactory.createReservation());
+        List<ReservationView> reservations = List.of(ReservationFactory.createReservationView(1L), ReservationFactory.createReservationView(2L));
         List<ReservationDTO> reservationDTOS = List.of(ReservationFactory.createReservationDTO(), ReservationFactory.createReservationDTO());
-        when(reservationService.findByPhone("+421123456789", true)).thenReturn(reservations);
-        when(reservationMapper.mapToDTOList(reservations)).thenReturn(reservationDTOS);
+        when(reservationService.findByPhonePage("+421123456789", true, null, 50)).thenReturn(reservations);
+        when(reservationMapper.mapToPageDTO(reservations, 50)).thenReturn(new ReservationPageDTO(reservationDTOS, null));
 
         // Act
-        List<ReservationDTO> result = reservationFacade.findByPhone("+421123456789", true);
+        ReservationPageDTO result = reservationFacade.findByPhone("+421123456789", true, null, 50);
 
         // Assert
-        verify(reservationService).findByPhone("+421123456789", true);
-        assertThat(result.size()).isEqualTo(2);
+        verify(reservationService).findByPhonePage("+421123456789", true, null, 50);
+        assertThat(result.getItems().size()).isEqualTo(2);
+    }
+
+    @Test
+    void findStartingBetween_cursorGiven_passesDecodedCursor() {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        ReservationCursor cursor = new ReservationCursor(from.plusHours(10), 7L);
+        List<ReservationView> reservations = List.of(ReservationFactory.createReservationView(8L));
+        List<ReservationDTO> reservationDTOS = List.of(ReservationFactory.createReservationDTO());
+        when(reservationService.findStartingBetweenPage(List.of(1L), from, from.plusDays(1), cursor, 10))
+                .thenReturn(reservations);
+        when(reservationMapper.mapToStartPageDTO(reservations, 10)).thenReturn(new ReservationPageDTO(reservationDTOS, null));
+
+        // Act
+        ReservationPageDTO result = reservationFacade.findStartingBetween(List.of(1L), from, from.plusDays(1),
+                cursor.encode(), 10);
+
+        // Assert
+        verify(reservationService).findStartingBetweenPage(List.of(1L), from, from.plusDays(1), cursor, 10);
+        assertThat(result.getItems().size()).isEqualTo(1);
+    }
+
+    @Test
+    void exportAll_reservationsFound_passesMappedReservations() {
+        // Arrange
+        ReservationView reservation = ReservationFactory.createReservationView(1L);
+        doAnswer(invocation -> {
+            Consumer<ReservationView> consumer = invocation.getArgument(0);
+            consumer.accept(reservation);
+            return null;
+        }).when(reservationService).exportAll(any());
+        when(reservationMapper.mapToDTO(reservation)).thenReturn(ReservationFactory.createReservationDTO());
+
+        // Act
+        List<ReservationDTO> exported = new ArrayList<>();
+        reservationFacade.exportAll(exported::add);
+
+        // Assert
+        assertThat(exported).containsExactly(ReservationFactory.createReservationDTO());
     }
 
     @Test
     void findByCourt_findsAllReservations_returnsReservations() {
         // Arrange
-        List<Reservation> reservations = List.of(ReservationFactory.createReservation(), ReservationFactory.createReservation());
+        List<ReservationView> reservations = List.of(ReservationFactory.createReservationView(1L), ReservationFactory.createReservationView(2L));
         List<ReservationDTO> reservationDTOS = List.of(ReservationFactory.createReservationDTO(), ReservationFactory.createReservationDTO());
-        when(reservationService.findByCourt(1L)).thenReturn(reservations);
-        when(reservationMapper.mapToDTOList(reservations)).thenReturn(reservationDTOS);
+        when(reservationService.findByCourtPage(1L, null, 50)).thenReturn(reservations);
+        when(reservationMapper.mapToPageDTO(reservations, 50)).thenReturn(new ReservationPageDTO(reservationDTOS, null));
+
+        // Act
+        ReservationPageDTO result = reservationFacade.findByCourt(1L, null, 50);
+
+        // Assert
+        verify(reservationService).findByCourtPage(1L, null, 50);
+        assertThat(result.getItems().size()).isEqualTo(2);
+    }
+
+    @Test
+    void findByCourt_cursorGiven_passesDecodedCursor() {
+        // Arrange
+        ReservationCursor cursor = new ReservationCursor(LocalDateTime.of(2025, 1, 1, 10, 0), 7L);
+        List<ReservationView> reservations = List.of(ReservationFactory.createReservationView(1L));
+        List<ReservationDTO> reservationDTOS = List.of(ReservationFactory.createReservationDTO());
+        when(reservationService.findByCourtPage(1L, cursor, 1)).thenReturn(reservations);
+        when(reservationMapper.mapToPageDTO(reservations, 1)).thenReturn(new ReservationPageDTO(reservationDTOS, null));
 
         // Act
-        List<ReservationDTO> result = reservationFacade.findByCourt(1L);
+        ReservationPageDTO result = reservationFacade.findByCourt(1L, cursor.encode(), 1);
 
         // Assert
-        verify(reservationService).findByCourt(1L);
-        assertThat(result.size()).isEqualTo(2);
+        verify(reservationService).findByCourtPage(1L, cursor, 1);
+        assertThat(result.getItems().size()).isEqualTo(1);
     }
 
     @Test
@@ -117,6 +185,43 @@ public class ReservationFacadeTests {
         assertThat(cost).isEqualTo(reservation.getCost());
     }
 
+    @Test
+    void createBatch_createsReservations_returnsResults() {
+        // Arrange
+        List<ReservationCreateDTO> dtos = List.of(ReservationFactory.createReservationCreateDTO());
+        List<BatchItem> items = List.of(new BatchItem(0, ReservationFactory.createReservation(), "+420907123456", 1L));
+        ReservationBatchResultDTO result = new ReservationBatchResultDTO(1, 0, List.of());
+        when(reservationMapper.mapToBatchItems(dtos)).thenReturn(items);
+        when(reservationService.createBatch(items)).thenReturn(items);
+        when(reservationMapper.mapToBatchResultDTO(items)).thenReturn(result);
+
+        // Act
+        ReservationBatchResultDTO batchResult = reservationFacade.createBatch(dtos);
+
+        // Assert
+        verify(reservationService).createBatch(items);
+        assertThat(batchResult).isEqualTo(result);
+    }
+
+    @Test
+    void quote_quotesCandidates_returnsResults() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0);
+        List<ReservationQuoteDTO> dtos = List.of(new ReservationQuoteDTO(1L, start, start.plusHours(1), false));
+        List<QuoteItem> items = List.of(new QuoteItem(0, 1L, start, start.plusHours(1), false));
+        List<ReservationQuoteItemDTO> result = List.of(new ReservationQuoteItemDTO(0, true, new BigDecimal("60.00"), null));
+        when(reservationMapper.mapToQuoteItems(dtos)).thenReturn(items);
+        when(reservationService.quote(items)).thenReturn(items);
+        when(reservationMapper.mapToQuoteItemDTOList(items)).thenReturn(result);
+
+        // Act
+        List<ReservationQuoteItemDTO> quote = reservationFacade.quote(dtos);
+
+        // Assert
+        verify(reservationService).quote(items);
+        assertThat(quote).isEqualTo(result);
+    }
+
     @Test
     void update_updatesReservation_returnsReservation() {
         // Arrange
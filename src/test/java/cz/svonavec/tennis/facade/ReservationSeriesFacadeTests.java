@@ -0,0 +1,72 @@
+package cz.svonavec.tennis.facade;
+
+import cz.svonavec.tennis.factory.ReservationFactory;
+import cz.svonavec.tennis.factory.ReservationSeriesFactory;
+import cz.svonavec.tennis.mapper.ReservationSeriesMapper;
+import cz.svonavec.tennis.models.dtos.ReservationOccurrenceDTO;
+import cz.svonavec.tennis.models.dtos.ReservationSeriesCreateDTO;
+import cz.svonavec.tennis.models.dtos.ReservationSeriesDTO;
+import cz.svonavec.tennis.models.entities.Reservation;
+import cz.svonavec.tennis.models.entities.ReservationSeries;
+import cz.svonavec.tennis.service.ReservationSeriesService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReservationSeriesFacadeTests {
+    @Mock
+    private ReservationSeriesMapper reservationSeriesMapper;
+
+    @Mock
+    private ReservationSeriesService reservationSeriesService;
+
+    @InjectMocks
+    private ReservationSeriesFacade reservationSeriesFacade;
+
+    @Test
+    void create_createsSeries_returnsSeries() {
+        // Arrange
+        ReservationSeriesCreateDTO dto = ReservationSeriesFactory.createReservationSeriesCreateDTO();
+        ReservationSeries series = ReservationSeriesFactory.createReservationSeries();
+        ReservationSeriesDTO seriesDTO = ReservationSeriesFactory.createReservationSeriesDTORest();
+        when(reservationSeriesMapper.mapToEntity(dto)).thenReturn(series);
+        when(reservationSeriesService.create(series, "+421123456789", 1L)).thenReturn(series);
+        when(reservationSeriesMapper.mapToDTO(series)).thenReturn(seriesDTO);
+
+        // Act
+        ReservationSeriesDTO created = reservationSeriesFacade.create(dto);
+
+        // Assert
+        assertThat(created).isEqualTo(seriesDTO);
+        verify(reservationSeriesService).create(series, "+421123456789", 1L);
+    }
+
+    @Test
+    void findOccurrences_occurrencesFound_returnsOccurrences() {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime to = from.plusDays(7);
+        List<Reservation> occurrences = List.of(ReservationFactory.createReservation());
+        List<ReservationOccurrenceDTO> DTOs = List.of(new ReservationOccurrenceDTO(
+                LocalDateTime.of(2025, 1, 1, 10, 0), LocalDateTime.of(2025, 1, 1, 11, 0), BigDecimal.valueOf(60.00)));
+        when(reservationSeriesService.findOccurrences(1L, from, to)).thenReturn(occurrences);
+        when(reservationSeriesMapper.mapToOccurrenceDTOList(occurrences)).thenReturn(DTOs);
+
+        // Act
+        List<ReservationOccurrenceDTO> found = reservationSeriesFacade.findOccurrences(1L, from, to);
+
+        // Assert
+        assertThat(found).isEqualTo(DTOs);
+    }
+}
@@ -0,0 +1,45 @@
+package cz.svonavec.tennis.facade;
+
+import cz.svonavec.tennis.mapper.ScheduleMapper;
+import cz.svonavec.tennis.models.dtos.ScheduleDTO;
+import cz.svonavec.tennis.models.schedule.DaySchedule;
+import cz.svonavec.tennis.service.ScheduleService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ScheduleFacadeTests {
+    @Mock
+    private ScheduleMapper scheduleMapper;
+
+    @Mock
+    private ScheduleService scheduleService;
+
+    @InjectMocks
+    private ScheduleFacade scheduleFacade;
+
+    @Test
+    void findDay_scheduleFound_returnsMappedSchedule() {
+        // Arrange
+        LocalDate date = LocalDate.of(2025, 1, 1);
+        DaySchedule schedule = DaySchedule.empty(date);
+        ScheduleDTO scheduleDTO = new ScheduleDTO(date, List.of());
+        when(scheduleService.findDay(date)).thenReturn(schedule);
+        when(scheduleMapper.mapToDTO(schedule)).thenReturn(scheduleDTO);
+
+        // Act
+        ScheduleDTO result = scheduleFacade.findDay(date);
+
+        // Assert
+        assertThat(result).isEqualTo(scheduleDTO);
+    }
+}
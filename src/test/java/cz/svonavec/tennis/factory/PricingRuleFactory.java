@@ -0,0 +1,53 @@
+package cz.svonavec.tennis.factory;
+
+import cz.svonavec.tennis.models.dtos.PricingRuleCreateDTO;
+import cz.svonavec.tennis.models.dtos.PricingRuleDTO;
+import cz.svonavec.tennis.models.entities.PricingRule;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+public class PricingRuleFactory {
+    public static PricingRule createPricingRule() {
+        PricingRule rule = new PricingRule();
+        rule.setFromDay(DayOfWeek.MONDAY);
+        rule.setToDay(DayOfWeek.FRIDAY);
+        rule.setStartTime(LocalTime.of(17, 0));
+        rule.setEndTime(LocalTime.of(21, 0));
+        rule.setMultiplier(new BigDecimal("1.5"));
+        rule.setPriority(0);
+        rule.setCreatedAt(LocalDateTime.of(2025, 1, 1, 0, 0));
+
+        return rule;
+    }
+
+    public static PricingRuleDTO createPricingRuleDTORest() {
+        PricingRuleDTO rule = new PricingRuleDTO();
+        rule.setId(1L);
+        rule.setSurfaceId(1L);
+        rule.setFromDay(DayOfWeek.MONDAY);
+        rule.setToDay(DayOfWeek.FRIDAY);
+        rule.setStartTime(LocalTime.of(17, 0));
+        rule.setEndTime(LocalTime.of(21, 0));
+        rule.setMultiplier(new BigDecimal("1.5"));
+        rule.setPriority(0);
+        rule.setCreatedAt(LocalDateTime.of(2025, 1, 1, 0, 0));
+
+        return rule;
+    }
+
+    public static PricingRuleCreateDTO createPricingRuleCreateDTORest() {
+        PricingRuleCreateDTO rule = new PricingRuleCreateDTO();
+        rule.setSurfaceId(1L);
+        rule.setFromDay(DayOfWeek.MONDAY);
+        rule.setToDay(DayOfWeek.FRIDAY);
+        rule.setStartTime(LocalTime.of(17, 0));
+        rule.setEndTime(LocalTime.of(21, 0));
+        rule.setMultiplier(new BigDecimal("1.5"));
+        rule.setPriority(0);
+
+        return rule;
+    }
+}
@@ -4,6 +4,7 @@ import cz.svonavec.tennis.models.dtos.*;
 import cz.svonavec.tennis.models.entities.Court;
 import cz.svonavec.tennis.models.entities.Reservation;
 import cz.svonavec.tennis.models.entities.User;
+import cz.svonavec.tennis.models.projections.ReservationView;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -37,6 +38,13 @@ public class ReservationFactory {
         return reservation;
     }
 
+    public static ReservationView createReservationView(long id) {
+        return new ReservationView(id, null, LocalDateTime.of(2025, 1, 1, 0, 0), false,
+                LocalDateTime.of(2025, 1, 1, 10, 0), LocalDateTime.of(2025, 1, 1, 11, 0), BigDecimal.valueOf(60.00),
+                1L, null, LocalDateTime.of(2025, 1, 1, 0, 0), "Main court",
+                1L, null, LocalDateTime.of(2025, 1, 1, 0, 0), "Clay", BigDecimal.valueOf(1.00), 1L);
+    }
+
     public static ReservationDTO createReservationDTO() {
         ReservationDTO reservation = new ReservationDTO();
         reservation.setDoubles(false);
@@ -0,0 +1,62 @@
+package cz.svonavec.tennis.factory;
+
+import cz.svonavec.tennis.models.dtos.ReservationSeriesCreateDTO;
+import cz.svonavec.tennis.models.dtos.ReservationSeriesDTO;
+import cz.svonavec.tennis.models.entities.Court;
+import cz.svonavec.tennis.models.entities.ReservationSeries;
+import cz.svonavec.tennis.models.entities.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+public class ReservationSeriesFactory {
+    public static ReservationSeries createReservationSeries(Court court, User user) {
+        ReservationSeries series = new ReservationSeries();
+        series.setDoubles(false);
+        series.setStartsAt(LocalDateTime.of(2025, 1, 1, 10, 0));
+        series.setEndsAt(LocalDateTime.of(2025, 1, 1, 11, 0));
+        series.setIntervalWeeks(1);
+        series.setUntil(LocalDate.of(2025, 3, 26));
+        series.setCost(BigDecimal.valueOf(60.00));
+        series.setCourt(court);
+        series.setUser(user);
+        series.setCreatedAt(LocalDateTime.of(2025, 1, 1, 0, 0));
+        return series;
+    }
+
+    public static ReservationSeries createReservationSeries() {
+        return createReservationSeries(CourtFactory.createCourt(), UserFactory.createUser());
+    }
+
+    public static ReservationSeriesCreateDTO createReservationSeriesCreateDTO() {
+        ReservationSeriesCreateDTO dto = new ReservationSeriesCreateDTO();
+        dto.setDoubles(false);
+        dto.setStartsAt(LocalDateTime.of(2025, 1, 1, 10, 0));
+        dto.setEndsAt(LocalDateTime.of(2025, 1, 1, 11, 0));
+        dto.setIntervalWeeks(1);
+        dto.setUntil(LocalDate.of(2025, 3, 26));
+        dto.setExceptions(Set.of(LocalDate.of(2025, 1, 8)));
+        dto.setCourtId(1L);
+        dto.setPhoneNumber("+421123456789");
+        return dto;
+    }
+
+    public static ReservationSeriesDTO createReservationSeriesDTORest() {
+        ReservationSeriesDTO dto = new ReservationSeriesDTO();
+        dto.setId(1L);
+        dto.setDoubles(false);
+        dto.setStartsAt(LocalDateTime.of(2025, 1, 1, 10, 0));
+        dto.setEndsAt(LocalDateTime.of(2025, 1, 1, 11, 0));
+        dto.setIntervalWeeks(1);
+        dto.setUntil(LocalDate.of(2025, 3, 26));
+        dto.setExceptions(List.of(LocalDate.of(2025, 1, 8)));
+        dto.setCost(BigDecimal.valueOf(60.00));
+        dto.setCourt(CourtFactory.createCourtDTORest());
+        dto.setUserId(1L);
+        dto.setCreatedAt(LocalDateTime.of(2025, 1, 1, 0, 0));
+        return dto;
+    }
+}
@@ -0,0 +1,52 @@
+package cz.svonavec.tennis.mapper;
+
+import cz.svonavec.tennis.models.availability.FreeSlot;
+import cz.svonavec.tennis.models.dtos.CourtAvailabilityDTO;
+import cz.svonavec.tennis.models.dtos.FreeSlotDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AvailabilityMapperTests {
+    private final AvailabilityMapper availabilityMapper = new AvailabilityMapper();
+
+    @Test
+    void mapToDTO_freeSlots_successfullyMapsToAvailabilityDTO() {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 8, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 1, 1, 20, 0);
+        List<FreeSlot> slots = List.of(new FreeSlot(from, from.plusHours(1)), new FreeSlot(to.minusHours(1), to));
+
+        // Act
+        CourtAvailabilityDTO dto = availabilityMapper.mapToDTO(1L, from, to, slots);
+
+        // Assert
+        assertThat(dto.getCourtId()).isEqualTo(1L);
+        assertThat(dto.getFrom()).isEqualTo(from);
+        assertThat(dto.getTo()).isEqualTo(to);
+        assertThat(dto.getFreeSlots()).containsExactly(new FreeSlotDTO(from, from.plusHours(1)),
+                new FreeSlotDTO(to.minusHours(1), to));
+    }
+
+    @Test
+    void mapToDTOList_severalCourts_keepsOrderOfCourts() {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 8, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 1, 1, 20, 0);
+        Map<Long, List<FreeSlot>> slots = new LinkedHashMap<>();
+        slots.put(2L, List.of());
+        slots.put(1L, List.of(new FreeSlot(from, to)));
+
+        // Act
+        List<CourtAvailabilityDTO> dtos = availabilityMapper.mapToDTOList(slots, from, to);
+
+        // Assert
+        assertThat(dtos).extracting(CourtAvailabilityDTO::getCourtId).containsExactly(2L, 1L);
+        assertThat(dtos.get(1).getFreeSlots()).containsExactly(new FreeSlotDTO(from, to));
+    }
+}
@@ -0,0 +1,82 @@
+package cz.svonavec.tennis.mapper;
+
+import cz.svonavec.tennis.factory.PricingRuleFactory;
+import cz.svonavec.tennis.factory.SurfaceTypeFactory;
+import cz.svonavec.tennis.models.dtos.PricingRuleCreateDTO;
+import cz.svonavec.tennis.models.dtos.PricingRuleDTO;
+import cz.svonavec.tennis.models.entities.PricingRule;
+import cz.svonavec.tennis.models.entities.SurfaceType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class PricingRuleMapperTests {
+
+    @Autowired
+    private PricingRuleMapper pricingRuleMapper;
+
+    @Test
+    void mapToEntity_correctCreateDTO_successfullyMapsToPricingRuleEntity() {
+        // Arrange
+        PricingRuleCreateDTO createDTO = PricingRuleFactory.createPricingRuleCreateDTORest();
+
+        // Act
+        PricingRule mappedEntity = pricingRuleMapper.mapToEntity(createDTO);
+
+        // Assert
+        assertThat(mappedEntity.getId()).isEqualTo(0);
+        assertThat(mappedEntity.getFromDay()).isEqualTo(DayOfWeek.MONDAY);
+        assertThat(mappedEntity.getToDay()).isEqualTo(DayOfWeek.FRIDAY);
+        assertThat(mappedEntity.getStartTime()).isEqualTo(LocalTime.of(17, 0));
+        assertThat(mappedEntity.getEndTime()).isEqualTo(LocalTime.of(21, 0));
+        assertThat(mappedEntity.getMultiplier()).isEqualTo(new BigDecimal("1.5"));
+        // Court and surface are loaded by the service
+        assertThat(mappedEntity.getSurface()).isNull();
+        assertThat(mappedEntity.getCourt()).isNull();
+    }
+
+    @Test
+    void mapToDTO_ruleOfSurface_successfullyMapsToPricingRuleDTO() {
+        // Arrange
+        SurfaceType surface = SurfaceTypeFactory.createSurfaceType();
+        surface.setId(2);
+        PricingRule entity = PricingRuleFactory.createPricingRule();
+        entity.setId(1);
+        entity.setSurface(surface);
+
+        // Act
+        PricingRuleDTO mappedDTO = pricingRuleMapper.mapToDTO(entity);
+
+        // Assert
+        assertThat(mappedDTO.getId()).isEqualTo(1L);
+        assertThat(mappedDTO.getSurfaceId()).isEqualTo(2L);
+        assertThat(mappedDTO.getCourtId()).isNull();
+        assertThat(mappedDTO.getStartTime()).isEqualTo(LocalTime.of(17, 0));
+        assertThat(mappedDTO.getMultiplier()).isEqualTo(new BigDecimal("1.5"));
+        assertThat(mappedDTO.getCreatedAt()).isEqualTo(entity.getCreatedAt());
+    }
+
+    @Test
+    void mapToDTOList_twoRules_successfullyMapsToListOfDTOs() {
+        // Arrange
+        PricingRule rule = PricingRuleFactory.createPricingRule();
+        rule.setPriority(1);
+
+        // Act
+        List<PricingRuleDTO> DTOs = pricingRuleMapper.mapToDTOList(List.of(rule, PricingRuleFactory.createPricingRule()));
+
+        // Assert
+        assertThat(DTOs.size()).isEqualTo(2);
+        assertThat(DTOs.getFirst().getPriority()).isEqualTo(1);
+    }
+}
@@ -4,14 +4,24 @@ import cz.svonavec.tennis.factory.CourtFactory;
 import cz.svonavec.tennis.factory.ReservationFactory;
 import cz.svonavec.tennis.factory.SurfaceTypeFactory;
 import cz.svonavec.tennis.factory.UserFactory;
+import cz.svonavec.tennis.models.batch.BatchItem;
 import cz.svonavec.tennis.models.dtos.CourtDTO;
+import cz.svonavec.tennis.models.dtos.ReservationBatchResultDTO;
+import cz.svonavec.tennis.models.dtos.ReservationChangeDTO;
 import cz.svonavec.tennis.models.dtos.ReservationCreateDTO;
 import cz.svonavec.tennis.models.dtos.ReservationDTO;
+import cz.svonavec.tennis.models.dtos.ReservationPageDTO;
+import cz.svonavec.tennis.models.dtos.ReservationQuoteDTO;
+import cz.svonavec.tennis.models.dtos.ReservationQuoteItemDTO;
 import cz.svonavec.tennis.models.dtos.SurfaceTypeDTO;
 import cz.svonavec.tennis.models.entities.Court;
 import cz.svonavec.tennis.models.entities.Reservation;
 import cz.svonavec.tennis.models.entities.SurfaceType;
 import cz.svonavec.tennis.models.entities.User;
+import cz.svonavec.tennis.models.events.ReservationChangedEvent;
+import cz.svonavec.tennis.models.paging.ReservationCursor;
+import cz.svonavec.tennis.models.projections.ReservationView;
+import cz.svonavec.tennis.models.quote.QuoteItem;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -170,4 +180,143 @@ public class ReservationMapperTests {
         assertThat(dto1.getCourt().getId()).isEqualTo(1L);
         assertThat(dto1.getUserId()).isEqualTo(1L);
     }
+
+    @Test
+    void mapToDTO_fromReservationView_successfullyMapsToReservationDTO() {
+        // Arrange
+        ReservationView view = ReservationFactory.createReservationView(1L);
+
+        // Act
+        ReservationDTO mappedDTO = reservationMapper.mapToDTO(view);
+
+        // Assert
+        assertThat(mappedDTO.getId()).isEqualTo(1L);
+        assertThat(mappedDTO.getCost()).isEqualTo(view.getCost());
+        assertThat(mappedDTO.getUserId()).isEqualTo(1L);
+        assertThat(mappedDTO.getCourt().getDescription()).isEqualTo("Main court");
+        assertThat(mappedDTO.getCourt().getSurface().getName()).isEqualTo("Clay");
+        assertThat(mappedDTO.getCourt().getSurface().getCostPerMinute()).isEqualTo(view.getSurfaceCostPerMinute());
+    }
+
+    @Test
+    void mapToPageDTO_moreReservationsThanLimit_returnsPageWithNextCursor() {
+        // Arrange
+        ReservationView reservation1 = ReservationFactory.createReservationView(1L);
+        ReservationView reservation2 = ReservationFactory.createReservationView(2L);
+        ReservationView reservation3 = ReservationFactory.createReservationView(3L);
+
+        // Act
+        ReservationPageDTO page = reservationMapper.mapToPageDTO(List.of(reservation1, reservation2, reservation3), 2);
+
+        // Assert
+        assertThat(page.getItems().size()).isEqualTo(2);
+        assertThat(page.getItems().get(1).getId()).isEqualTo(2L);
+        assertThat(ReservationCursor.decode(page.getNextCursor())).isEqualTo(ReservationCursor.after(reservation2));
+    }
+
+    @Test
+    void mapToStartPageDTO_moreReservationsThanLimit_returnsPageWithStartCursor() {
+        // Arrange
+        ReservationView reservation1 = ReservationFactory.createReservationView(1L);
+        ReservationView reservation2 = ReservationFactory.createReservationView(2L);
+
+        // Act
+        ReservationPageDTO page = reservationMapper.mapToStartPageDTO(List.of(reservation1, reservation2), 1);
+
+        // Assert
+        assertThat(page.getItems().size()).isEqualTo(1);
+        assertThat(ReservationCursor.decode(page.getNextCursor()))
+                .isEqualTo(new ReservationCursor(reservation1.getStartsAt(), 1L));
+    }
+
+    @Test
+    void mapToPageDTO_lastPage_returnsPageWithoutCursor() {
+        // Arrange
+        ReservationView reservation = ReservationFactory.createReservationView(1L);
+
+        // Act
+        ReservationPageDTO page = reservationMapper.mapToPageDTO(List.of(reservation), 2);
+
+        // Assert
+        assertThat(page.getItems().size()).isEqualTo(1);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void mapToChangeDTO_fromReservationChangedEvent_successfullyMapsToChangeDTO() {
+        // Arrange
+        Court court = CourtFactory.createCourt();
+        court.setId(3L);
+        Reservation reservation = ReservationFactory.createReservation(court, UserFactory.createUser());
+        reservation.setId(7L);
+        ReservationChangedEvent event = ReservationChangedEvent.of(ReservationChangedEvent.Change.UPDATED, reservation);
+
+        // Act
+        ReservationChangeDTO mappedDTO = reservationMapper.mapToChangeDTO(event);
+
+        // Assert
+        assertThat(mappedDTO.getChange()).isEqualTo("UPDATED");
+        assertThat(mappedDTO.getReservationId()).isEqualTo(7L);
+        assertThat(mappedDTO.getCourtId()).isEqualTo(3L);
+        assertThat(mappedDTO.getStartsAt()).isEqualTo(reservation.getStartsAt());
+        assertThat(mappedDTO.getCost()).isEqualTo(reservation.getCost());
+    }
+
+    @Test
+    void mapToBatchResultDTO_createdAndRejectedItem_successfullyMapsResults() {
+        // Arrange
+        Reservation reservation = ReservationFactory.createReservation();
+        reservation.setId(5L);
+        BatchItem created = new BatchItem(0, reservation, "+421123456789", 1L);
+        BatchItem rejected = new BatchItem(1, ReservationFactory.createReservation(), "+421123456789", 1L);
+        rejected.reject("Reservation overlaps with another reservation of the batch.");
+
+        // Act
+        ReservationBatchResultDTO result = reservationMapper.mapToBatchResultDTO(List.of(created, rejected));
+
+        // Assert
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getRejected()).isEqualTo(1);
+        assertThat(result.getItems().getFirst().getId()).isEqualTo(5L);
+        assertThat(result.getItems().getFirst().getCost()).isEqualTo(reservation.getCost());
+        assertThat(result.getItems().get(1).isCreated()).isFalse();
+        assertThat(result.getItems().get(1).getIndex()).isEqualTo(1);
+        assertThat(result.getItems().get(1).getError())
+                .isEqualTo("Reservation overlaps with another reservation of the batch.");
+    }
+
+    @Test
+    void mapToQuoteItems_fromQuoteDTOs_keepsPositionsOfCandidates() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0);
+        List<ReservationQuoteDTO> dtos = List.of(new ReservationQuoteDTO(1L, start, start.plusHours(1), false),
+                new ReservationQuoteDTO(2L, start, start.plusHours(2), true));
+
+        // Act
+        List<QuoteItem> items = reservationMapper.mapToQuoteItems(dtos);
+
+        // Assert
+        assertThat(items.get(1).getIndex()).isEqualTo(1);
+        assertThat(items.get(1).getCourtId()).isEqualTo(2L);
+        assertThat(items.get(1).getEndsAt()).isEqualTo(start.plusHours(2));
+        assertThat(items.get(1).isDoubles()).isTrue();
+    }
+
+    @Test
+    void mapToQuoteItemDTOList_quotedAndRejectedItem_successfullyMapsResults() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0);
+        QuoteItem quoted = new QuoteItem(0, 1L, start, start.plusHours(1), false);
+        quoted.quote(new BigDecimal("60.00"), true);
+        QuoteItem rejected = new QuoteItem(1, 3L, start, start.plusHours(1), false);
+        rejected.reject("Couldn't find court with this id.");
+
+        // Act
+        List<ReservationQuoteItemDTO> result = reservationMapper.mapToQuoteItemDTOList(List.of(quoted, rejected));
+
+        // Assert
+        assertThat(result.getFirst()).isEqualTo(new ReservationQuoteItemDTO(0, true, new BigDecimal("60.00"), null));
+        assertThat(result.get(1)).isEqualTo(new ReservationQuoteItemDTO(1, false, null,
+                "Couldn't find court with this id."));
+    }
 }
@@ -0,0 +1,60 @@
+package cz.svonavec.tennis.mapper;
+
+import cz.svonavec.tennis.factory.CourtFactory;
+import cz.svonavec.tennis.factory.ReservationSeriesFactory;
+import cz.svonavec.tennis.models.dtos.ReservationSeriesCreateDTO;
+import cz.svonavec.tennis.models.dtos.ReservationSeriesDTO;
+import cz.svonavec.tennis.models.entities.ReservationSeries;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReservationSeriesMapperTests {
+    @Mock
+    private CourtMapper courtMapper;
+
+    @InjectMocks
+    private ReservationSeriesMapper reservationSeriesMapper;
+
+    @Test
+    void mapToEntity_fromReservationSeriesCreateDTO_successfullyMapsToSeriesEntity() {
+        // Arrange
+        ReservationSeriesCreateDTO dto = ReservationSeriesFactory.createReservationSeriesCreateDTO();
+
+        // Act
+        ReservationSeries series = reservationSeriesMapper.mapToEntity(dto);
+
+        // Assert
+        assertThat(series.getId()).isEqualTo(0L);
+        assertThat(series.getStartsAt()).isEqualTo(dto.getStartsAt());
+        assertThat(series.getUntil()).isEqualTo(dto.getUntil());
+        assertThat(series.getIntervalWeeks()).isEqualTo(1);
+        assertThat(series.getExceptions()).containsExactly(LocalDate.of(2025, 1, 8));
+    }
+
+    @Test
+    void mapToDTO_fromReservationSeries_successfullyMapsToDTO() {
+        // Arrange
+        ReservationSeries series = ReservationSeriesFactory.createReservationSeries();
+        series.getExceptions().add(LocalDate.of(2025, 2, 5));
+        series.getExceptions().add(LocalDate.of(2025, 1, 8));
+        when(courtMapper.mapToDTO(series.getCourt())).thenReturn(CourtFactory.createCourtDTO());
+
+        // Act
+        ReservationSeriesDTO dto = reservationSeriesMapper.mapToDTO(series);
+
+        // Assert
+        assertThat(dto.getCost()).isEqualTo(series.getCost());
+        assertThat(dto.getUntil()).isEqualTo(series.getUntil());
+        assertThat(dto.getExceptions()).containsExactly(LocalDate.of(2025, 1, 8), LocalDate.of(2025, 2, 5));
+        assertThat(dto.getCourt()).isEqualTo(CourtFactory.createCourtDTO());
+    }
+}
@@ -0,0 +1,47 @@
+package cz.svonavec.tennis.mapper;
+
+import cz.svonavec.tennis.models.dtos.ScheduleDTO;
+import cz.svonavec.tennis.models.schedule.DaySchedule;
+import cz.svonavec.tennis.models.schedule.ScheduleEntry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ScheduleMapperTests {
+    private final ScheduleMapper scheduleMapper = new ScheduleMapper();
+
+    @Test
+    void mapToDTO_scheduleOfTwoCourts_successfullyMapsCourtsOrderedById() {
+        // Arrange
+        LocalDate date = LocalDate.of(2025, 1, 1);
+        LocalDateTime start = date.atTime(10, 0);
+        DaySchedule schedule = DaySchedule.of(date, Map.of(
+                2L, List.of(new ScheduleEntry(3L, 2L, start, start.plusHours(1), true)),
+                1L, List.of(new ScheduleEntry(2L, 1L, start.plusHours(2), start.plusHours(3), false),
+                        new ScheduleEntry(1L, 1L, start, start.plusHours(1), false))));
+
+        // Act
+        ScheduleDTO dto = scheduleMapper.mapToDTO(schedule);
+
+        // Assert
+        assertThat(dto.getDate()).isEqualTo(date);
+        assertThat(dto.getCourts()).extracting("courtId").containsExactly(1L, 2L);
+        assertThat(dto.getCourts().get(0).getReservations()).extracting("reservationId").containsExactly(1L, 2L);
+        assertThat(dto.getCourts().get(1).getReservations().get(0).isDoubles()).isTrue();
+        assertThat(dto.getCourts().get(1).getReservations().get(0).getEndsAt()).isEqualTo(start.plusHours(1));
+    }
+
+    @Test
+    void mapToDTO_emptySchedule_mapsNoCourts() {
+        // Act
+        ScheduleDTO dto = scheduleMapper.mapToDTO(DaySchedule.empty(LocalDate.of(2025, 1, 1)));
+
+        // Assert
+        assertThat(dto.getCourts()).isEmpty();
+    }
+}
@@ -48,6 +48,7 @@ public class CourtRepositoryTests {
 
         Court court = CourtFactory.createCourt(surfaceType);
         entityManager.persist(court);
+        entityManager.flush();
         entityManager.detach(court);
 
         // Act
@@ -111,6 +112,29 @@ public class CourtRepositoryTests {
         assertThat(foundCourts.get(0).getDescription()).isEqualTo("Active Court");
     }
 
+    @Test
+    @Transactional
+    void lockAll_twoCourtsFound_successfullyReturnedCourtsOrderedById() {
+        // Arrange
+        SurfaceType surfaceType = SurfaceTypeFactory.createSurfaceType();
+        entityManager.persist(surfaceType);
+
+        Court first = CourtFactory.createCourt(surfaceType);
+        entityManager.persist(first);
+        entityManager.flush();
+        entityManager.detach(first);
+        Court second = CourtFactory.createCourt(surfaceType);
+        entityManager.persist(second);
+        entityManager.flush();
+        entityManager.detach(second);
+
+        // Act
+        List<Court> courts = courtRepository.lockAll(List.of(second.getId(), first.getId(), second.getId() + 100));
+
+        // Assert
+        assertThat(courts).extracting(Court::getId).containsExactly(first.getId(), second.getId());
+    }
+
     @Test
     @Transactional
     void create_newCourt_successfullyCreatedCourt() {
@@ -141,6 +165,7 @@ public class CourtRepositoryTests {
 
         Court originalCourt = CourtFactory.createCourt("Original Description", originalSurface);
         entityManager.persist(originalCourt);
+        entityManager.flush();
         entityManager.detach(originalCourt);
 
         Court courtUpdate = new Court();
@@ -169,14 +194,17 @@ public class CourtRepositoryTests {
 
         Court court = CourtFactory.createCourt(surfaceType);
         entityManager.persist(court);
+        entityManager.flush();
         entityManager.detach(court);
 
         User user = UserFactory.createUser();
         entityManager.persist(user);
+        entityManager.flush();
         entityManager.detach(user);
 
         Reservation reservation = ReservationFactory.createReservation(court, user);
         entityManager.persist(reservation);
+        entityManager.flush();
         entityManager.detach(reservation);
 
         // Act
@@ -0,0 +1,144 @@
+package cz.svonavec.tennis.repository;
+
+import cz.svonavec.tennis.factory.PricingRuleFactory;
+import cz.svonavec.tennis.factory.SurfaceTypeFactory;
+import cz.svonavec.tennis.models.entities.PricingRule;
+import cz.svonavec.tennis.models.entities.SurfaceType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class PricingRuleRepositoryTests {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PricingRuleRepository pricingRuleRepository;
+
+    private SurfaceType surface;
+
+    @BeforeEach
+    @Transactional
+    void setUp() {
+        entityManager.createQuery("DELETE FROM PricingRule").executeUpdate();
+        entityManager.flush();
+    }
+
+    @Test
+    @Transactional
+    void find_ruleFound_returnsRuleWithSurface() {
+        // Arrange
+        PricingRule rule = persistRule();
+
+        // Act
+        PricingRule found = pricingRuleRepository.find(rule.getId());
+
+        // Assert
+        assertThat(found.getId()).isEqualTo(rule.getId());
+        assertThat(found.getFromDay()).isEqualTo(rule.getFromDay());
+        assertThat(found.getToDay()).isEqualTo(rule.getToDay());
+        assertThat(found.getStartTime()).isEqualTo(rule.getStartTime());
+        assertThat(found.getEndTime()).isEqualTo(rule.getEndTime());
+        assertThat(found.getMultiplier()).isEqualByComparingTo(rule.getMultiplier());
+        assertThat(found.getPriority()).isEqualTo(rule.getPriority());
+        assertThat(found.getSurface().getId()).isEqualTo(surface.getId());
+    }
+
+    @Test
+    @Transactional
+    void find_ruleNotFound_returnsNull() {
+        // Act
+        PricingRule found = pricingRuleRepository.find(1);
+
+        // Assert
+        assertThat(found).isNull();
+    }
+
+    @Test
+    @Transactional
+    void findAll_oneRuleDeleted_returnsActiveRules() {
+        // Arrange
+        persistRule();
+        PricingRule deleted = persistRule();
+        deleted.setDeletedAt(LocalDateTime.now());
+        entityManager.merge(deleted);
+        entityManager.flush();
+
+        // Act
+        List<PricingRule> rules = pricingRuleRepository.findAll();
+
+        // Assert
+        assertThat(rules.size()).isEqualTo(1);
+    }
+
+    @Test
+    @Transactional
+    void create_ruleCreated_returnsCreatedRule() {
+        // Arrange
+        surface = SurfaceTypeFactory.createSurfaceType();
+        entityManager.persist(surface);
+        PricingRule rule = PricingRuleFactory.createPricingRule();
+        rule.setSurface(surface);
+
+        // Act
+        PricingRule created = pricingRuleRepository.create(rule);
+
+        // Assert
+        assertThat(created.getId()).isNotEqualTo(0);
+        assertThat(pricingRuleRepository.find(created.getId())).isEqualTo(rule);
+    }
+
+    @Test
+    @Transactional
+    void update_ruleUpdated_returnsUpdatedRule() {
+        // Arrange
+        PricingRule rule = persistRule();
+        rule.setMultiplier(new BigDecimal("0.8"));
+
+        // Act
+        PricingRule updated = pricingRuleRepository.update(rule);
+
+        // Assert
+        assertThat(pricingRuleRepository.find(updated.getId()).getMultiplier()).isEqualByComparingTo("0.8");
+    }
+
+    @Test
+    @Transactional
+    void delete_ruleDeleted_setsDeletedAt() {
+        // Arrange
+        PricingRule rule = persistRule();
+
+        // Act
+        PricingRule deleted = pricingRuleRepository.delete(rule);
+
+        // Assert
+        assertThat(deleted.getDeletedAt()).isNotNull();
+        assertThat(pricingRuleRepository.findAll()).isEmpty();
+    }
+
+    private PricingRule persistRule() {
+        if (surface == null) {
+            surface = SurfaceTypeFactory.createSurfaceType();
+            entityManager.persist(surface);
+        }
+        PricingRule rule = PricingRuleFactory.createPricingRule();
+        rule.setSurface(surface);
+        entityManager.persist(rule);
+        entityManager.flush();
+        entityManager.detach(rule);
+        return rule;
+    }
+}
@@ -8,6 +8,8 @@ import cz.svonavec.tennis.models.entities.Court;
 import cz.svonavec.tennis.models.entities.Reservation;
 import cz.svonavec.tennis.models.entities.SurfaceType;
 import cz.svonavec.tennis.models.entities.User;
+import cz.svonavec.tennis.models.paging.ReservationCursor;
+import cz.svonavec.tennis.models.projections.ReservationView;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -49,14 +52,17 @@ public class ReservationRepositoryTests {
 
         Court court = CourtFactory.createCourt(surfaceType);
         entityManager.persist(court);
+        entityManager.flush();
         entityManager.detach(court);
 
         User user = UserFactory.createUser();
         entityManager.persist(user);
+        entityManager.flush();
         entityManager.detach(user);
 
         Reservation reservation = ReservationFactory.createReservation(court, user);
         entityManager.persist(reservation);
+        entityManager.flush();
         entityManager.detach(reservation);
 
         // Act
@@ -87,17 +93,21 @@ public class ReservationRepositoryTests {
 
         Court court = CourtFactory.createCourt(surfaceType);
         entityManager.persist(court);
+        entityManager.flush();
         entityManager.detach(court);
 
         User user = UserFactory.createUser();
         entityManager.persist(user);
+        entityManager.flush();
         entityManager.detach(user);
 
         Reservation reservation = ReservationFactory.createReservation(court, user);
         entityManager.persist(reservation);
+        entityManager.flush();
         entityManager.detach(reservation);
         Reservation reservation2 = ReservationFactory.createReservation(court, user);
         entityManager.persist(reservation2);
+        entityManager.flush();
         entityManager.detach(reservation2);
 
         // Act
@@ -107,6 +117,83 @@ public class ReservationRepositoryTests {
         assertThat(foundReservations.size()).isEqualTo(2);
     }
 
+    @Test
+    @Transactional
+    void findByCourtPage_cursorGiven_successfullyReturnedFollowingReservations() {
+        // Arrange
+        SurfaceType surfaceType = SurfaceTypeFactory.createSurfaceType();
+        entityManager.persist(surfaceType);
+
+        Court court = CourtFactory.createCourt(surfaceType);
+        entityManager.persist(court);
+        entityManager.flush();
+        entityManager.detach(court);
+
+        User user = UserFactory.createUser();
+        entityManager.persist(user);
+        entityManager.flush();
+        entityManager.detach(user);
+
+        for (int i = 0; i < 3; i++) {
+            Reservation reservation = ReservationFactory.createReservation(court, user);
+            entityManager.persist(reservation);
+            entityManager.flush();
+            entityManager.detach(reservation);
+        }
+
+        // Act
+        List<ReservationView> firstPage = reservationRepository.findByCourtPage(court.getId(), null, 2);
+        List<ReservationView> secondPage = reservationRepository.findByCourtPage(court.getId(),
+                ReservationCursor.after(firstPage.get(1)), 2);
+
+        // Assert
+        assertThat(firstPage.size()).isEqualTo(3);
+        assertThat(secondPage.size()).isEqualTo(1);
+        assertThat(secondPage.get(0).getId()).isEqualTo(firstPage.get(2).getId());
+        assertThat(secondPage.get(0).getCourtDescription()).isEqualTo(court.getDescription());
+        assertThat(secondPage.get(0).getSurfaceName()).isEqualTo(surfaceType.getName());
+        assertThat(secondPage.get(0).getUserId()).isEqualTo(user.getId());
+    }
+
+    @Test
+    @Transactional
+    void scrollAll_liveReservations_successfullyPassedToConsumer() {
+        // Arrange
+        SurfaceType surfaceType = SurfaceTypeFactory.createSurfaceType();
+        entityManager.persist(surfaceType);
+
+        Court court = CourtFactory.createCourt(surfaceType);
+        entityManager.persist(court);
+        entityManager.flush();
+        entityManager.detach(court);
+
+        User user = UserFactory.createUser();
+        entityManager.persist(user);
+        entityManager.flush();
+        entityManager.detach(user);
+
+        Reservation reservation = ReservationFactory.createReservation(court, user);
+        entityManager.persist(reservation);
+        entityManager.flush();
+        entityManager.detach(reservation);
+        Reservation deletedReservation = ReservationFactory.createReservation(court, user);
+        deletedReservation.setDeletedAt(LocalDateTime.now());
+        entityManager.persist(deletedReservation);
+        entityManager.flush();
+        entityManager.detach(deletedReservation);
+        Reservation reservation2 = ReservationFactory.createReservation(court, user);
+        entityManager.persist(reservation2);
+        entityManager.flush();
+        entityManager.detach(reservation2);
+
+        // Act
+        List<Long> scrolledIds = new ArrayList<>();
+        reservationRepository.scrollAll(scrolled -> scrolledIds.add(scrolled.getId()));
+
+        // Assert
+        assertThat(scrolledIds).containsExactly(reservation.getId(), reservation2.getId());
+    }
+
     @Test
     @Transactional
     void findByCourt_reservationsFound_successfullyReturnedReservation() {
@@ -116,21 +203,26 @@ public class ReservationRepositoryTests {
 
         Court courtNotUsed = CourtFactory.createCourt(surfaceType);
         entityManager.persist(courtNotUsed);
+        entityManager.flush();
         entityManager.detach(courtNotUsed);
 
         Court court = CourtFactory.createCourt(surfaceType);
         entityManager.persist(court);
+        entityManager.flush();
         entityManager.detach(court);
 
         User user = UserFactory.createUser();
         entityManager.persist(user);
+        entityManager.flush();
         entityManager.detach(user);
 
         Reservation reservation = ReservationFactory.createReservation(court, user);
         entityManager.persist(reservation);
+        entityManager.flush();
         entityManager.detach(reservation);
         Reservation reservation2 = ReservationFactory.createReservation(courtNotUsed, user);
         entityManager.persist(reservation2);
+        entityManager.flush();
         entityManager.detach(reservation2);
 
         // Act
@@ -150,21 +242,26 @@ public class ReservationRepositoryTests {
 
         Court court = CourtFactory.createCourt(surfaceType);
         entityManager.persist(court);
+        entityManager.flush();
         entityManager.detach(court);
 
         User user = UserFactory.createUser();
         entityManager.persist(user);
+        entityManager.flush();
         entityManager.detach(user);
 
         User adminUser = UserFactory.createAdminUser();
         entityManager.persist(adminUser);
+        entityManager.flush();
         entityManager.detach(adminUser);
 
         Reservation reservation = ReservationFactory.createReservation(court, user);
         entityManager.persist(reservation);
+        entityManager.flush();
         entityManager.detach(reservation);
         Reservation reservation2 = ReservationFactory.createReservation(court, adminUser);
         entityManager.persist(reservation2);
+        entityManager.flush();
         entityManager.detach(reservation2);
 
         // Act
@@ -184,19 +281,23 @@ public class ReservationRepositoryTests {
 
         Court court = CourtFactory.createCourt(surfaceType);
         entityManager.persist(court);
+        entityManager.flush();
         entityManager.detach(court);
 
         User user = UserFactory.createUser();
         entityManager.persist(user);
+        entityManager.flush();
         entityManager.detach(user);
 
         Reservation reservation = ReservationFactory.createReservation(court, user);
         reservation.setStartsAt(LocalDateTime.now().minusDays(5));
         entityManager.persist(reservation);
+        entityManager.flush();
         entityManager.detach(reservation);
         Reservation reservation2 = ReservationFactory.createReservation(court, user);
         reservation2.setStartsAt(LocalDateTime.now().plusDays(5));
         entityManager.persist(reservation2);
+        entityManager.flush();
         entityManager.detach(reservation2);
 
         // Act
@@ -207,6 +308,218 @@ public class ReservationRepositoryTests {
         assertThat(foundReservations.get(0).getId()).isEqualTo(reservation2.getId());
     }
 
+    @Test
+    @Transactional
+    void existsOverlapping_conflictingReservation_returnsTrue() {
+        // Arrange
+        SurfaceType surfaceType = SurfaceTypeFactory.createSurfaceType();
+        entityManager.persist(surfaceType);
+
+        Court court = CourtFactory.createCourt(surfaceType);
+        entityManager.persist(court);
+        entityManager.flush();
+        entityManager.detach(court);
+
+        User user = UserFactory.createUser();
+        entityManager.persist(user);
+        entityManager.flush();
+        entityManager.detach(user);
+
+        Reservation reservation = ReservationFactory.createReservation(court, user);
+        entityManager.persist(reservation);
+        entityManager.flush();
+        entityManager.detach(reservation);
+
+        // Act
+        boolean overlapping = reservationRepository.existsOverlapping(court.getId(),
+                reservation.getStartsAt().plusMinutes(30), reservation.getEndsAt().plusMinutes(30), 0);
+        boolean touching = reservationRepository.existsOverlapping(court.getId(),
+                reservation.getEndsAt(), reservation.getEndsAt().plusHours(1), 0);
+        boolean itself = reservationRepository.existsOverlapping(court.getId(),
+                reservation.getStartsAt(), reservation.getEndsAt(), reservation.getId());
+
+        // Assert
+        assertThat(overlapping).isTrue();
+        assertThat(touching).isFalse();
+        assertThat(itself).isFalse();
+    }
+
+    @Test
+    @Transactional
+    void findStartingBetween_reservationsAroundWindow_successfullyReturnedOnlyWindow() {
+        // Arrange
+        SurfaceType surfaceType = SurfaceTypeFactory.createSurfaceType();
+        entityManager.persist(surfaceType);
+
+        Court court = CourtFactory.createCourt(surfaceType);
+        entityManager.persist(court);
+        entityManager.flush();
+        entityManager.detach(court);
+
+        User user = UserFactory.createUser();
+        entityManager.persist(user);
+        entityManager.flush();
+        entityManager.detach(user);
+
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 10, 0);
+        List<Reservation> reservations = new ArrayList<>();
+        for (int i = -1; i < 3; i++) {
+            Reservation reservation = ReservationFactory.createReservation(court, user);
+            reservation.setStartsAt(from.plusMinutes(30L + 60L * i));
+            reservation.setEndsAt(from.plusMinutes(90L + 60L * i));
+            entityManager.persist(reservation);
+            entityManager.flush();
+            entityManager.detach(reservation);
+            reservations.add(reservation);
+        }
+
+        // Act
+        List<Reservation> inWindow = reservationRepository.findStartingBetween(List.of(court.getId()),
+                from, from.plusHours(2));
+
+        // Assert
+        assertThat(inWindow).extracting(Reservation::getId)
+                .containsExactly(reservations.get(1).getId(), reservations.get(2).getId());
+    }
+
+    @Test
+    @Transactional
+    void findRunningAt_twoCourts_returnsOnlyReservationsRunningAtTime() {
+        // Arrange
+        SurfaceType surfaceType = SurfaceTypeFactory.createSurfaceType();
+        entityManager.persist(surfaceType);
+
+        Court first = CourtFactory.createCourt(surfaceType);
+        entityManager.persist(first);
+        Court second = CourtFactory.createCourt(surfaceType);
+        entityManager.persist(second);
+
+        User user = UserFactory.createUser();
+        entityManager.persist(user);
+
+        LocalDateTime time = LocalDateTime.of(2025, 1, 1, 10, 0);
+        Reservation running = ReservationFactory.createReservation(first, user);
+        running.setStartsAt(time.minusMinutes(30));
+        running.setEndsAt(time.plusMinutes(30));
+        entityManager.persist(running);
+        Reservation endedAtTime = ReservationFactory.createReservation(second, user);
+        endedAtTime.setStartsAt(time.minusHours(1));
+        endedAtTime.setEndsAt(time);
+        entityManager.persist(endedAtTime);
+        Reservation startsAtTime = ReservationFactory.createReservation(second, user);
+        startsAtTime.setStartsAt(time);
+        startsAtTime.setEndsAt(time.plusHours(1));
+        entityManager.persist(startsAtTime);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        List<Reservation> found = reservationRepository.findRunningAt(List.of(first.getId(), second.getId()), time);
+
+        // Assert
+        assertThat(found).extracting(Reservation::getId).containsExactly(running.getId());
+    }
+
+    @Test
+    @Transactional
+    void findStartingBetweenPage_cursorGiven_successfullyReturnedFollowingReservationsOfWindow() {
+        // Arrange
+        SurfaceType surfaceType = SurfaceTypeFactory.createSurfaceType();
+        entityManager.persist(surfaceType);
+
+        Court court = CourtFactory.createCourt(surfaceType);
+        entityManager.persist(court);
+        entityManager.flush();
+        entityManager.detach(court);
+        Court otherCourt = CourtFactory.createCourt(surfaceType);
+        entityManager.persist(otherCourt);
+        entityManager.flush();
+        entityManager.detach(otherCourt);
+
+        User user = UserFactory.createUser();
+        entityManager.persist(user);
+        entityManager.flush();
+        entityManager.detach(user);
+
+        LocalDateTime day = LocalDateTime.of(2025, 1, 1, 0, 0);
+        List<Reservation> reservations = new ArrayList<>();
+        // Reservations start at 10:00, 12:00, 14:00 of the day and 10:00 of the next day
+        for (LocalDateTime start : List.of(day.plusHours(14), day.plusHours(10), day.plusHours(12),
+                day.plusDays(1).plusHours(10))) {
+            Reservation reservation = ReservationFactory.createReservation(court, user);
+            reservation.setStartsAt(start);
+            reservation.setEndsAt(start.plusHours(1));
+            entityManager.persist(reservation);
+            entityManager.flush();
+            entityManager.detach(reservation);
+            reservations.add(reservation);
+        }
+        Reservation deleted = ReservationFactory.createReservation(court, user);
+        deleted.setStartsAt(day.plusHours(11));
+        deleted.setEndsAt(day.plusHours(12));
+        deleted.setDeletedAt(LocalDateTime.now());
+        entityManager.persist(deleted);
+        Reservation otherCourtReservation = ReservationFactory.createReservation(otherCourt, user);
+        otherCourtReservation.setStartsAt(day.plusHours(13));
+        otherCourtReservation.setEndsAt(day.plusHours(14));
+        entityManager.persist(otherCourtReservation);
+
+        // Act
+        List<ReservationView> firstPage = reservationRepository.findStartingBetweenPage(List.of(court.getId()),
+                day, day.plusDays(1), null, 1);
+        List<ReservationView> secondPage = reservationRepository.findStartingBetweenPage(List.of(court.getId()),
+                day, day.plusDays(1), ReservationCursor.afterStart(firstPage.get(0)), 5);
+        List<ReservationView> allCourts = reservationRepository.findStartingBetweenPage(null,
+                day, day.plusDays(1), null, 5);
+
+        // Assert
+        assertThat(firstPage).extracting(ReservationView::getId)
+                .containsExactly(reservations.get(1).getId(), reservations.get(2).getId());
+        assertThat(secondPage).extracting(ReservationView::getId)
+                .containsExactly(reservations.get(2).getId(), reservations.get(0).getId());
+        assertThat(allCourts).extracting(ReservationView::getId)
+                .containsExactly(reservations.get(1).getId(), reservations.get(2).getId(),
+                        otherCourtReservation.getId(), reservations.get(0).getId());
+    }
+
+    @Test
+    @Transactional
+    void scrollStartingBetween_reservationsOfTwoDays_successfullyPassedReservationsOfWindowOrderedByStart() {
+        // Arrange
+        SurfaceType surfaceType = SurfaceTypeFactory.createSurfaceType();
+        entityManager.persist(surfaceType);
+
+        Court court = CourtFactory.createCourt(surfaceType);
+        entityManager.persist(court);
+        entityManager.flush();
+        entityManager.detach(court);
+
+        User user = UserFactory.createUser();
+        entityManager.persist(user);
+        entityManager.flush();
+        entityManager.detach(user);
+
+        LocalDateTime day = LocalDateTime.of(2025, 1, 1, 0, 0);
+        List<Reservation> reservations = new ArrayList<>();
+        for (LocalDateTime start : List.of(day.plusHours(14), day.plusHours(10), day.plusDays(1).plusHours(10))) {
+            Reservation reservation = ReservationFactory.createReservation(court, user);
+            reservation.setStartsAt(start);
+            reservation.setEndsAt(start.plusHours(1));
+            entityManager.persist(reservation);
+            entityManager.flush();
+            entityManager.detach(reservation);
+            reservations.add(reservation);
+        }
+
+        // Act
+        List<ReservationView> scrolled = new ArrayList<>();
+        reservationRepository.scrollStartingBetween(day, day.plusDays(1), scrolled::add);
+
+        // Assert
+        assertThat(scrolled).extracting(ReservationView::getId)
+                .containsExactly(reservations.get(1).getId(), reservations.get(0).getId());
+    }
+
     @Test
     @Transactional
     void create_newReservationCreated_successfullyReturnedCreatedReservation() {
@@ -216,10 +529,12 @@ public class ReservationRepositoryTests {
 
         Court court = CourtFactory.createCourt(surfaceType);
         entityManager.persist(court);
+        entityManager.flush();
         entityManager.detach(court);
 
         User user = UserFactory.createUser();
         entityManager.persist(user);
+        entityManager.flush();
         entityManager.detach(user);
 
         Reservation reservation = ReservationFactory.createReservation(court, user);
@@ -233,6 +548,73 @@ public class ReservationRepositoryTests {
         assertThat(reservation1).isEqualTo(reservationCreated);
     }
 
+    @Test
+    @Transactional
+    void createAll_twoReservations_successfullyCreatedWithIds() {
+        // Arrange
+        SurfaceType surfaceType = SurfaceTypeFactory.createSurfaceType();
+        entityManager.persist(surfaceType);
+
+        Court court = CourtFactory.createCourt(surfaceType);
+        entityManager.persist(court);
+        entityManager.flush();
+        entityManager.detach(court);
+
+        User user = UserFactory.createUser();
+        entityManager.persist(user);
+        entityManager.flush();
+        entityManager.detach(user);
+
+        Reservation first = ReservationFactory.createReservation(court, user);
+        Reservation second = ReservationFactory.createReservation(court, user);
+        second.setStartsAt(first.getEndsAt());
+        second.setEndsAt(first.getEndsAt().plusHours(1));
+
+        // Act
+        List<Reservation> created = reservationRepository.createAll(List.of(first, second));
+
+        // Assert
+        assertThat(created).extracting(Reservation::getId).doesNotContain(0L).doesNotHaveDuplicates();
+        // Ids are allocated from the pooled sequence without a round trip per reservation
+        assertThat(second.getId()).isEqualTo(first.getId() + 1);
+        Reservation found = reservationRepository.find(second.getId());
+        assertThat(found.getStartsAt()).isEqualTo(second.getStartsAt());
+        assertThat(found.getCourt().getId()).isEqualTo(court.getId());
+        assertThat(found.getUser().getId()).isEqualTo(user.getId());
+    }
+
+    @Test
+    @Transactional
+    void createAll_moreThanOneBatch_keepsCourtAndUserManaged() {
+        // Arrange
+        SurfaceType surfaceType = SurfaceTypeFactory.createSurfaceType();
+        entityManager.persist(surfaceType);
+
+        Court court = CourtFactory.createCourt(surfaceType);
+        entityManager.persist(court);
+
+        User user = UserFactory.createUser();
+        entityManager.persist(user);
+
+        List<Reservation> reservations = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.of(2031, 1, 1, 8, 0);
+        for (int i = 0; i < 60; i++) {
+            Reservation reservation = ReservationFactory.createReservation(court, user);
+            reservation.setStartsAt(start.plusHours(i));
+            reservation.setEndsAt(start.plusHours(i + 1));
+            reservations.add(reservation);
+        }
+
+        // Act
+        reservationRepository.createAll(reservations);
+
+        // Assert
+        assertThat(entityManager.contains(court)).isTrue();
+        assertThat(entityManager.contains(user)).isTrue();
+        assertThat(entityManager.contains(reservations.getFirst())).isFalse();
+        assertThat(reservations).extracting(Reservation::getId).doesNotContain(0L).doesNotHaveDuplicates();
+    }
+
     @Test
     @Transactional
     void update_reservationUpdatedSuccessfully_returnUpdatedReservation() {
@@ -242,14 +624,17 @@ public class ReservationRepositoryTests {
 
         Court court = CourtFactory.createCourt(surfaceType);
         entityManager.persist(court);
+        entityManager.flush();
         entityManager.detach(court);
 
         User user = UserFactory.createUser();
         entityManager.persist(user);
+        entityManager.flush();
         entityManager.detach(user);
 
         Reservation reservation = ReservationFactory.createReservation(court, user);
         entityManager.persist(reservation);
+        entityManager.flush();
         entityManager.detach(reservation);
 
         LocalDateTime date = LocalDateTime.now().plusDays(2);
@@ -278,14 +663,17 @@ public class ReservationRepositoryTests {
 
         Court court = CourtFactory.createCourt(surfaceType);
         entityManager.persist(court);
+        entityManager.flush();
         entityManager.detach(court);
 
         User user = UserFactory.createUser();
         entityManager.persist(user);
+        entityManager.flush();
         entityManager.detach(user);
 
         Reservation reservation = ReservationFactory.createReservation(court, user);
         entityManager.persist(reservation);
+        entityManager.flush();
         entityManager.detach(reservation);
 
         // Act
@@ -0,0 +1,110 @@
+package cz.svonavec.tennis.repository;
+
+import cz.svonavec.tennis.factory.CourtFactory;
+import cz.svonavec.tennis.factory.ReservationSeriesFactory;
+import cz.svonavec.tennis.factory.SurfaceTypeFactory;
+import cz.svonavec.tennis.factory.UserFactory;
+import cz.svonavec.tennis.models.entities.Court;
+import cz.svonavec.tennis.models.entities.ReservationSeries;
+import cz.svonavec.tennis.models.entities.SurfaceType;
+import cz.svonavec.tennis.models.entities.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class ReservationSeriesRepositoryTests {
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ReservationSeriesRepository reservationSeriesRepository;
+
+    @BeforeEach
+    @Transactional
+    void setUp() {
+        entityManager.createQuery("DELETE FROM ReservationSeries").executeUpdate();
+        entityManager.createQuery("DELETE FROM Reservation").executeUpdate();
+        entityManager.createQuery("DELETE FROM Court").executeUpdate();
+        entityManager.createQuery("DELETE FROM SurfaceType").executeUpdate();
+        entityManager.createQuery("DELETE FROM User").executeUpdate();
+        entityManager.flush();
+    }
+
+    @Test
+    @Transactional
+    void create_seriesWithException_successfullyCreatedWithException() {
+        // Arrange
+        SurfaceType surfaceType = SurfaceTypeFactory.createSurfaceType();
+        entityManager.persist(surfaceType);
+
+        Court court = CourtFactory.createCourt(surfaceType);
+        entityManager.persist(court);
+
+        User user = UserFactory.createUser();
+        entityManager.persist(user);
+
+        ReservationSeries series = ReservationSeriesFactory.createReservationSeries(court, user);
+        series.getExceptions().add(LocalDate.of(2025, 1, 8));
+
+        // Act
+        reservationSeriesRepository.create(series);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Assert
+        ReservationSeries found = reservationSeriesRepository.find(series.getId());
+        assertThat(found.getUntil()).isEqualTo(series.getUntil());
+        assertThat(found.getExceptions()).containsExactly(LocalDate.of(2025, 1, 8));
+    }
+
+    @Test
+    @Transactional
+    void findActive_seriesAroundWindow_returnsOnlySeriesReachingIntoWindow() {
+        // Arrange
+        SurfaceType surfaceType = SurfaceTypeFactory.createSurfaceType();
+        entityManager.persist(surfaceType);
+
+        Court court = CourtFactory.createCourt(surfaceType);
+        entityManager.persist(court);
+
+        User user = UserFactory.createUser();
+        entityManager.persist(user);
+
+        ReservationSeries active = ReservationSeriesFactory.createReservationSeries(court, user);
+        entityManager.persist(active);
+
+        ReservationSeries ended = ReservationSeriesFactory.createReservationSeries(court, user);
+        ended.setUntil(LocalDate.of(2025, 1, 15));
+        entityManager.persist(ended);
+
+        ReservationSeries later = ReservationSeriesFactory.createReservationSeries(court, user);
+        later.setStartsAt(LocalDateTime.of(2025, 6, 4, 10, 0));
+        later.setEndsAt(LocalDateTime.of(2025, 6, 4, 11, 0));
+        later.setUntil(LocalDate.of(2025, 8, 27));
+        entityManager.persist(later);
+
+        ReservationSeries deleted = ReservationSeriesFactory.createReservationSeries(court, user);
+        deleted.setDeletedAt(LocalDateTime.now());
+        entityManager.persist(deleted);
+        entityManager.flush();
+
+        // Act
+        List<ReservationSeries> found = reservationSeriesRepository.findActive(List.of(court.getId()),
+                LocalDate.of(2025, 2, 1), LocalDateTime.of(2025, 3, 1, 0, 0));
+
+        // Assert
+        assertThat(found).extracting(ReservationSeries::getId).containsExactly(active.getId());
+    }
+}
@@ -0,0 +1,112 @@
+package cz.svonavec.tennis.repository;
+
+import cz.svonavec.tennis.factory.CourtFactory;
+import cz.svonavec.tennis.factory.SurfaceTypeFactory;
+import cz.svonavec.tennis.models.entities.Court;
+import cz.svonavec.tennis.models.entities.SurfaceType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Second-level cache is filled only by committed transactions, so these tests commit their data instead of rolling
+ * it back and remove it afterwards.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class SecondLevelCacheTests {
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CourtRepository courtRepository;
+
+    @Autowired
+    private SurfaceTypeRepository surfaceTypeRepository;
+
+    private SurfaceType surfaceType;
+
+    private Court court;
+
+    @BeforeEach
+    void setUp() {
+        surfaceType = SurfaceTypeFactory.createSurfaceType();
+        surfaceType.setName("Cached " + UUID.randomUUID());
+        surfaceTypeRepository.create(surfaceType);
+        court = courtRepository.create(CourtFactory.createCourt(surfaceType));
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM Court court WHERE court.id = :id")
+                    .setParameter("id", court.getId()).executeUpdate();
+            entityManager.createQuery("DELETE FROM SurfaceType surfaceType WHERE surfaceType.id = :id")
+                    .setParameter("id", surfaceType.getId()).executeUpdate();
+        });
+    }
+
+    @Test
+    void find_courtAndSurfaceLoaded_keptInSecondLevelCache() {
+        // Act
+        courtRepository.find(court.getId());
+        surfaceTypeRepository.find(surfaceType.getId());
+
+        // Assert
+        assertThat(entityManagerFactory.getCache().contains(Court.class, court.getId())).isTrue();
+        assertThat(entityManagerFactory.getCache().contains(SurfaceType.class, surfaceType.getId())).isTrue();
+    }
+
+    @Test
+    void delete_cachedCourtDeleted_findReturnsDeletedCourt() {
+        // Arrange
+        Court cached = courtRepository.find(court.getId());
+
+        // Act
+        courtRepository.delete(cached);
+
+        // Assert
+        assertThat(courtRepository.find(court.getId()).getDeletedAt()).isNotNull();
+    }
+
+    @Test
+    void delete_cachedSurfaceTypeDeleted_findReturnsDeletedSurfaceType() {
+        // Arrange
+        SurfaceType cached = surfaceTypeRepository.find(surfaceType.getId());
+
+        // Act
+        surfaceTypeRepository.delete(cached);
+
+        // Assert
+        assertThat(surfaceTypeRepository.find(surfaceType.getId()).getDeletedAt()).isNotNull();
+    }
+
+    @Test
+    void findAll_cachedQueryAfterCourtDeleted_doesNotReturnDeletedCourt() {
+        // Arrange
+        assertThat(courtRepository.findAll()).extracting(Court::getId).contains(court.getId());
+
+        // Act
+        courtRepository.delete(courtRepository.find(court.getId()));
+
+        // Assert
+        assertThat(courtRepository.findAll()).extracting(Court::getId).doesNotContain(court.getId());
+    }
+}
@@ -39,6 +39,7 @@ public class SurfaceTypeRepositoryTests {
         // Arrange
         SurfaceType surfaceType = SurfaceTypeFactory.createSurfaceType();
         entityManager.persist(surfaceType);
+        entityManager.flush();
         entityManager.detach(surfaceType);
 
         // Act
@@ -95,6 +96,7 @@ public class SurfaceTypeRepositoryTests {
         // Arrange
         SurfaceType surfaceType = SurfaceTypeFactory.createSurfaceType();
         entityManager.persist(surfaceType);
+        entityManager.flush();
         entityManager.detach(surfaceType);
 
         SurfaceType surfaceUpdate = new SurfaceType();
@@ -116,6 +118,7 @@ public class SurfaceTypeRepositoryTests {
         // Arrange
         SurfaceType surfaceType = SurfaceTypeFactory.createSurfaceType();
         entityManager.persist(surfaceType);
+        entityManager.flush();
         entityManager.detach(surfaceType);
 
         // Act
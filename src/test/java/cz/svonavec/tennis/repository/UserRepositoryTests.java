@@ -45,6 +45,7 @@ public class UserRepositoryTests {
         // Arrange
         User user = UserFactory.createUser();
         entityManager.persist(user);
+        entityManager.flush();
         entityManager.detach(user);
 
         // Act
@@ -71,6 +72,7 @@ public class UserRepositoryTests {
         // Arrange
         User user = UserFactory.createUser();
         entityManager.persist(user);
+        entityManager.flush();
         entityManager.detach(user);
 
         // Act
@@ -81,6 +83,29 @@ public class UserRepositoryTests {
         assertThat(user.getName()).isEqualTo("John Doe");
     }
 
+    @Test
+    @Transactional
+    void findByPhoneNumbers_twoOfThreeFound_successfullyReturnedUsers() {
+        // Arrange
+        User first = UserFactory.createUser();
+        entityManager.persist(first);
+        entityManager.flush();
+        entityManager.detach(first);
+        User second = UserFactory.createUser();
+        second.setPhoneNumber("+420908123456");
+        entityManager.persist(second);
+        entityManager.flush();
+        entityManager.detach(second);
+
+        // Act
+        List<User> users = userRepository.findByPhoneNumbers(List.of(first.getPhoneNumber(), second.getPhoneNumber(),
+                "+420000000000"));
+
+        // Assert
+        assertThat(users).extracting(User::getId).containsExactlyInAnyOrder(first.getId(), second.getId());
+        assertThat(users.getFirst().getRoles()).isNotEmpty();
+    }
+
     @Test
     @Transactional
     void findByPhone_userNotFound_successfullyReturnedNull() {
@@ -128,6 +153,7 @@ public class UserRepositoryTests {
         // Arrange
         User user = UserFactory.createUser();
         entityManager.persist(user);
+        entityManager.flush();
         entityManager.detach(user);
 
         User userUpdate = new User();
@@ -151,14 +177,17 @@ public class UserRepositoryTests {
 
         Court court = CourtFactory.createCourt(surfaceType);
         entityManager.persist(court);
+        entityManager.flush();
         entityManager.detach(court);
 
         User user = UserFactory.createUser();
         entityManager.persist(user);
+        entityManager.flush();
         entityManager.detach(user);
 
         Reservation reservation = ReservationFactory.createReservation(court, user);
         entityManager.persist(reservation);
+        entityManager.flush();
         entityManager.detach(reservation);
 
         // Act
@@ -7,8 +7,12 @@ import cz.svonavec.tennis.factory.UserFactory;
 import cz.svonavec.tennis.models.dtos.UserRegisterDTO;
 import cz.svonavec.tennis.models.entities.Role;
 import cz.svonavec.tennis.models.entities.User;
+import cz.svonavec.tennis.security.VerifiedTokenCache;
 import cz.svonavec.tennis.service.JwtService;
 import cz.svonavec.tennis.service.UserService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,7 +21,9 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
@@ -26,12 +32,15 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(AuthRestController.class)
 @Import(AuthTestSecurityConfig.class)
+@EnableMethodSecurity
 public class AuthRestControllerTests {
     private static final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -46,6 +55,9 @@ public class AuthRestControllerTests {
     @MockitoBean
     private UserService userService;
 
+    @MockitoBean
+    private VerifiedTokenCache verifiedTokenCache;
+
     @MockitoBean
     private UserFacade userFacade;
 
@@ -119,9 +131,14 @@ public class AuthRestControllerTests {
         // Arrange
         String refreshToken = "valid.refresh.token";
         String phoneNumber = "+420907123456";
-        when(jwtService.extractUsername(refreshToken)).thenReturn(phoneNumber);
-        when(jwtService.validateTokenPhone(refreshToken, phoneNumber, "refresh")).thenReturn(true);
-        when(jwtService.generateTokenFromPhone(phoneNumber)).thenReturn("new.access.token");
+        User user = UserFactory.createUser();
+        user.setPhoneNumber(phoneNumber);
+        Claims claims = Jwts.claims().setSubject(phoneNumber);
+        claims.put(JwtService.VERSION_CLAIM, 0);
+        when(jwtService.extractTokenClaims(refreshToken)).thenReturn(claims);
+        when(jwtService.validateClaims(claims, phoneNumber, "refresh")).thenReturn(true);
+        when(userService.findPrincipal(phoneNumber)).thenReturn(user);
+        when(jwtService.generateTokenForUser(user, "access")).thenReturn("new.access.token");
 
         // Assert
         mockMvc.perform(MockMvcRequestBuilders.post("/api/auth/refresh")
@@ -138,12 +155,81 @@ public class AuthRestControllerTests {
         // Arrange
         String invalidRefreshToken = "invalid.refresh.token";
         String phoneNumber = "+420907123456";
-        when(jwtService.extractUsername(invalidRefreshToken)).thenReturn(phoneNumber);
-        when(jwtService.validateTokenPhone(invalidRefreshToken, phoneNumber, "refresh")).thenReturn(false);
+        Claims claims = Jwts.claims().setSubject(phoneNumber);
+        when(jwtService.extractTokenClaims(invalidRefreshToken)).thenReturn(claims);
+        when(jwtService.validateClaims(claims, phoneNumber, "refresh")).thenReturn(false);
 
         // Assert
         mockMvc.perform(MockMvcRequestBuilders.post("/api/auth/refresh")
                         .param("refreshToken", invalidRefreshToken))
                 .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    void refresh_revokedRefreshToken_returnsUnauthorized() throws Exception {
+        // Arrange
+        String refreshToken = "revoked.refresh.token";
+        String phoneNumber = "+420907123456";
+        User user = UserFactory.createUser();
+        user.setPhoneNumber(phoneNumber);
+        user.setTokenVersion(1);
+        Claims claims = Jwts.claims().setSubject(phoneNumber);
+        claims.put(JwtService.VERSION_CLAIM, 0);
+        when(jwtService.extractTokenClaims(refreshToken)).thenReturn(claims);
+        when(jwtService.validateClaims(claims, phoneNumber, "refresh")).thenReturn(true);
+        when(userService.findPrincipal(phoneNumber)).thenReturn(user);
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/auth/refresh")
+                        .param("refreshToken", refreshToken))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void refresh_refreshTokenWithoutVersion_returnsUnauthorized() throws Exception {
+        // Arrange
+        String refreshToken = "unversioned.refresh.token";
+        String phoneNumber = "+420907123456";
+        User user = UserFactory.createUser();
+        user.setPhoneNumber(phoneNumber);
+        Claims claims = Jwts.claims().setSubject(phoneNumber);
+        when(jwtService.extractTokenClaims(refreshToken)).thenReturn(claims);
+        when(jwtService.validateClaims(claims, phoneNumber, "refresh")).thenReturn(true);
+        when(userService.findPrincipal(phoneNumber)).thenReturn(user);
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/auth/refresh")
+                        .param("refreshToken", refreshToken))
+                .andExpect(status().isUnauthorized());
+        verify(jwtService, never()).generateTokenForUser(any(), any());
+    }
+
+    @Test
+    void refresh_malformedRefreshToken_returnsUnauthorized() throws Exception {
+        // Arrange
+        when(jwtService.extractTokenClaims("malformed")).thenThrow(new MalformedJwtException("Malformed token"));
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/auth/refresh")
+                        .param("refreshToken", "malformed"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void rotateKeys_admin_rotatesSigningKey() throws Exception {
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/auth/keys/rotate"))
+                .andExpect(status().isNoContent());
+        verify(jwtService).reloadKeys();
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void rotateKeys_user_returnsForbidden() throws Exception {
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/auth/keys/rotate"))
+                .andExpect(status().isForbidden());
+        verify(jwtService, never()).reloadKeys();
+    }
 }
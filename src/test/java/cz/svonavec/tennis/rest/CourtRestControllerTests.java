@@ -1,38 +1,50 @@
 package cz.svonavec.tennis.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import cz.svonavec.tennis.exception.BadRequestException;
 import cz.svonavec.tennis.exception.ResourceNotFoundException;
 import cz.svonavec.tennis.facade.CourtFacade;
 import cz.svonavec.tennis.factory.CourtFactory;
+import cz.svonavec.tennis.models.dtos.CourtAvailabilityDTO;
 import cz.svonavec.tennis.models.dtos.CourtCreateDTO;
 import cz.svonavec.tennis.models.dtos.CourtDTO;
+import cz.svonavec.tennis.models.dtos.FreeSlotDTO;
 import cz.svonavec.tennis.security.AuthEntryPoint;
 import cz.svonavec.tennis.security.AuthTokenFilter;
 import cz.svonavec.tennis.security.CustomAccessDeniedHandler;
+import cz.svonavec.tennis.security.VerifiedTokenCache;
 import cz.svonavec.tennis.service.JwtService;
+import cz.svonavec.tennis.service.TableVersions;
 import cz.svonavec.tennis.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(CourtRestController.class)
-@Import({AuthTokenFilter.class, AuthEntryPoint.class, CustomAccessDeniedHandler.class})
+@Import({AuthTokenFilter.class, AuthEntryPoint.class, CustomAccessDeniedHandler.class, ListingResponses.class,
+        TableVersions.class})
 @EnableMethodSecurity(prePostEnabled = true)
 public class CourtRestControllerTests {
     private static final ObjectMapper objectMapper = new ObjectMapper();
@@ -49,6 +61,15 @@ public class CourtRestControllerTests {
     @MockitoBean
     private UserService userService;
 
+    @MockitoBean
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @MockitoBean
+    private ReservationStreamHub reservationStreamHub;
+
+    @Autowired
+    private TableVersions tableVersions;
+
     @BeforeEach
     void setup() {
         objectMapper.findAndRegisterModules();
@@ -103,6 +124,138 @@ public class CourtRestControllerTests {
                 .andExpect(jsonPath("$[0].description").value("Standard tennis court"));
     }
 
+    @Test
+    @WithMockUser(roles = "USER")
+    void findAll_courtsFound_returnsETagAndCacheControl() throws Exception {
+        // Arrange
+        when(courtFacade.findAll()).thenReturn(List.of(CourtFactory.createCourtDTORest()));
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/courts"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG,
+                        tableVersions.etag(TableVersions.COURTS, TableVersions.SURFACES)))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=0, must-revalidate, private"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void findAll_etagMatches_returnsNotModifiedWithoutLoadingCourts() throws Exception {
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/courts")
+                        .header(HttpHeaders.IF_NONE_MATCH,
+                                tableVersions.etag(TableVersions.COURTS, TableVersions.SURFACES)))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(courtFacade, never()).findAll();
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void findAll_surfacesChangedSinceETag_returnsCourts() throws Exception {
+        // Arrange
+        String etag = tableVersions.etag(TableVersions.COURTS, TableVersions.SURFACES);
+        tableVersions.bump(TableVersions.SURFACES);
+        when(courtFacade.findAll()).thenReturn(List.of(CourtFactory.createCourtDTORest()));
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/courts")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void streamReservations_courtFound_startsStream() throws Exception {
+        // Arrange
+        when(courtFacade.findById(1L)).thenReturn(CourtFactory.createCourtDTORest());
+        when(reservationStreamHub.subscribe(1L)).thenReturn(new SseEmitter());
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/courts/1/reservations/stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+        verify(reservationStreamHub).subscribe(1L);
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void streamReservations_courtNotFound_returnsNotFound() throws Exception {
+        // Arrange
+        when(courtFacade.findById(2L)).thenThrow(new ResourceNotFoundException("Court not found"));
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/courts/2/reservations/stream"))
+                .andExpect(status().isNotFound());
+        verify(reservationStreamHub, never()).subscribe(2L);
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void findAvailability_courtFound_returnsFreeSlots() throws Exception {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 8, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 1, 1, 20, 0);
+        CourtAvailabilityDTO availability = new CourtAvailabilityDTO(1L, from, to,
+                List.of(new FreeSlotDTO(from, from.plusHours(2))));
+        when(courtFacade.findAvailability(1L, from, to, 60L)).thenReturn(availability);
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/courts/1/availability")
+                        .param("from", "2025-01-01T08:00:00")
+                        .param("to", "2025-01-01T20:00:00")
+                        .param("minDuration", "60")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.courtId").value(1L))
+                .andExpect(jsonPath("$.freeSlots.length()").value(1))
+                .andExpect(jsonPath("$.freeSlots[0].start").value("2025-01-01T08:00:00"))
+                .andExpect(jsonPath("$.freeSlots[0].end").value("2025-01-01T10:00:00"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void findAvailability_severalCourts_returnsFreeSlotsOfEveryCourt() throws Exception {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 8, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 1, 1, 20, 0);
+        List<CourtAvailabilityDTO> availability = List.of(new CourtAvailabilityDTO(1L, from, to, List.of()),
+                new CourtAvailabilityDTO(2L, from, to, List.of(new FreeSlotDTO(from, to))));
+        when(courtFacade.findAvailability(Set.of(1L, 2L), from, to, 0L)).thenReturn(availability);
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/courts/availability")
+                        .param("courtIds", "1", "2")
+                        .param("from", "2025-01-01T08:00:00")
+                        .param("to", "2025-01-01T20:00:00")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].freeSlots.length()").value(0))
+                .andExpect(jsonPath("$[1].courtId").value(2L));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void findAvailability_invalidWindow_returnsBadRequest() throws Exception {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 20, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 1, 1, 8, 0);
+        when(courtFacade.findAvailability(1L, from, to, 0L))
+                .thenThrow(new BadRequestException("Start of the window must be before its end."));
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/courts/1/availability")
+                        .param("from", "2025-01-01T20:00:00")
+                        .param("to", "2025-01-01T08:00:00")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void create_validCourtData_returnsCreated() throws Exception {
@@ -0,0 +1,158 @@
+package cz.svonavec.tennis.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import cz.svonavec.tennis.exception.ResourceNotFoundException;
+import cz.svonavec.tennis.facade.PricingRuleFacade;
+import cz.svonavec.tennis.factory.PricingRuleFactory;
+import cz.svonavec.tennis.models.dtos.PricingRuleCreateDTO;
+import cz.svonavec.tennis.security.AuthEntryPoint;
+import cz.svonavec.tennis.security.AuthTokenFilter;
+import cz.svonavec.tennis.security.CustomAccessDeniedHandler;
+import cz.svonavec.tennis.security.VerifiedTokenCache;
+import cz.svonavec.tennis.service.JwtService;
+import cz.svonavec.tennis.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(PricingRuleRestController.class)
+@Import({AuthTokenFilter.class, AuthEntryPoint.class, CustomAccessDeniedHandler.class})
+@EnableMethodSecurity(prePostEnabled = true)
+public class PricingRuleRestControllerTests {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PricingRuleFacade pricingRuleFacade;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @MockitoBean
+    private UserService userService;
+
+    @MockitoBean
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setup() {
+        objectMapper.findAndRegisterModules();
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void findById_ruleFound_returnsRule() throws Exception {
+        // Arrange
+        when(pricingRuleFacade.findById(1L)).thenReturn(PricingRuleFactory.createPricingRuleDTORest());
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/pricing-rules/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1L))
+                .andExpect(jsonPath("$.surfaceId").value(1L))
+                .andExpect(jsonPath("$.fromDay").value("MONDAY"))
+                .andExpect(jsonPath("$.multiplier").value(1.5));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void findById_ruleNotFound_returnsNotFound() throws Exception {
+        // Arrange
+        when(pricingRuleFacade.findById(1L)).thenThrow(new ResourceNotFoundException("Couldn't find pricing rule with this id."));
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/pricing-rules/1"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void findAll_rulesFound_returnsListOfRules() throws Exception {
+        // Arrange
+        when(pricingRuleFacade.findAll()).thenReturn(List.of(PricingRuleFactory.createPricingRuleDTORest()));
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/pricing-rules"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].toDay").value("FRIDAY"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void create_adminCreatesRule_returnsCreatedRule() throws Exception {
+        // Arrange
+        PricingRuleCreateDTO createDTO = PricingRuleFactory.createPricingRuleCreateDTORest();
+        when(pricingRuleFacade.create(createDTO)).thenReturn(PricingRuleFactory.createPricingRuleDTORest());
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/pricing-rules")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createDTO)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(1L));
+        verify(pricingRuleFacade).create(createDTO);
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void create_userCreatesRule_returnsForbidden() throws Exception {
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/pricing-rules")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(PricingRuleFactory.createPricingRuleCreateDTORest())))
+                .andExpect(status().isForbidden());
+        verify(pricingRuleFacade, never()).create(any());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void update_adminUpdatesRule_returnsUpdatedRule() throws Exception {
+        // Arrange
+        PricingRuleCreateDTO createDTO = PricingRuleFactory.createPricingRuleCreateDTORest();
+        when(pricingRuleFacade.update(eq(1L), any(PricingRuleCreateDTO.class)))
+                .thenReturn(PricingRuleFactory.createPricingRuleDTORest());
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/pricing-rules/1")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createDTO)))
+                .andExpect(status().isOk());
+        verify(pricingRuleFacade).update(1L, createDTO);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void delete_adminDeletesRule_returnsDeletedRule() throws Exception {
+        // Arrange
+        when(pricingRuleFacade.delete(1L)).thenReturn(PricingRuleFactory.createPricingRuleDTORest());
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.delete("/api/pricing-rules/1")
+                        .with(csrf()))
+                .andExpect(status().isOk());
+    }
+}
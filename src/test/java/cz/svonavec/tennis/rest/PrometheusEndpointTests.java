@@ -0,0 +1,65 @@
+package cz.svonavec.tennis.rest;
+
+import cz.svonavec.tennis.facade.CourtFacade;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+public class PrometheusEndpointTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CourtFacade courtFacade;
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void prometheus_afterFacadeCall_exposesTimersToAdmin() throws Exception {
+        // Arrange
+        courtFacade.findAll();
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "tennis_facade_seconds_count{class=\"cz.svonavec.tennis.facade.CourtFacade\"")))
+                .andExpect(content().string(containsString("tennis_repository_seconds_count")))
+                .andExpect(content().string(containsString("cache=\"verifiedTokens\"")));
+    }
+
+    @Test
+    void prometheus_withoutAuthentication_returnsUnauthorized() throws Exception {
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void prometheus_user_returnsForbidden() throws Exception {
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/actuator/prometheus"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void health_withoutAuthentication_returnsOk() throws Exception {
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+}
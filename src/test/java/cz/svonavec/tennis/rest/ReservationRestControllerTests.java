@@ -1,15 +1,22 @@
 package cz.svonavec.tennis.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import cz.svonavec.tennis.exception.BadRequestException;
 import cz.svonavec.tennis.exception.ResourceNotFoundException;
 import cz.svonavec.tennis.facade.ReservationFacade;
 import cz.svonavec.tennis.factory.ReservationFactory;
+import cz.svonavec.tennis.models.dtos.ReservationBatchItemDTO;
+import cz.svonavec.tennis.models.dtos.ReservationBatchResultDTO;
 import cz.svonavec.tennis.models.dtos.ReservationCreateDTO;
 import cz.svonavec.tennis.models.dtos.ReservationDTO;
+import cz.svonavec.tennis.models.dtos.ReservationPageDTO;
+import cz.svonavec.tennis.models.dtos.ReservationQuoteDTO;
+import cz.svonavec.tennis.models.dtos.ReservationQuoteItemDTO;
 import cz.svonavec.tennis.models.dtos.ReservationUpdateDTO;
 import cz.svonavec.tennis.security.AuthEntryPoint;
 import cz.svonavec.tennis.security.AuthTokenFilter;
 import cz.svonavec.tennis.security.CustomAccessDeniedHandler;
+import cz.svonavec.tennis.security.VerifiedTokenCache;
 import cz.svonavec.tennis.service.JwtService;
 import cz.svonavec.tennis.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,14 +29,20 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(ReservationRestController.class)
@@ -50,6 +63,9 @@ public class ReservationRestControllerTests {
     @MockitoBean
     private UserService userService;
 
+    @MockitoBean
+    private VerifiedTokenCache verifiedTokenCache;
+
     @BeforeEach
     void setup() {
         objectMapper.findAndRegisterModules();
@@ -99,16 +115,109 @@ public class ReservationRestControllerTests {
     void findAll_reservationsFound_returnsListOfReservations() throws Exception {
         // Arrange
         List<ReservationDTO> reservations = List.of(ReservationFactory.createReservationDTORest());
-        when(reservationFacade.findAll()).thenReturn(reservations);
+        when(reservationFacade.findAll(null, 50)).thenReturn(new ReservationPageDTO(reservations, "next"));
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/reservations")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isArray())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(1L))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void findAll_nextPageRequested_passesCursorAndLimit() throws Exception {
+        // Arrange
+        List<ReservationDTO> reservations = List.of(ReservationFactory.createReservationDTORest());
+        when(reservationFacade.findAll("cursor", 10)).thenReturn(new ReservationPageDTO(reservations, null));
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/reservations")
+                        .param("after", "cursor")
+                        .param("limit", "10")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void findStartingBetween_windowAndCourtsGiven_returnsPage() throws Exception {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        List<ReservationDTO> reservations = List.of(ReservationFactory.createReservationDTORest());
+        when(reservationFacade.findStartingBetween(List.of(1L, 2L), from, from.plusDays(1), null, 50))
+                .thenReturn(new ReservationPageDTO(reservations, "next"));
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/reservations")
+                        .param("from", "2025-01-01T00:00:00")
+                        .param("to", "2025-01-02T00:00:00")
+                        .param("courtIds", "1,2")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void findAll_invalidCursor_returnsBadRequest() throws Exception {
+        // Arrange
+        when(reservationFacade.findAll("invalid", 50)).thenThrow(new BadRequestException("Invalid page cursor."));
 
         // Assert
         mockMvc.perform(MockMvcRequestBuilders.get("/api/reservations")
+                        .param("after", "invalid")
                         .with(csrf())
                         .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void export_reservationsFound_streamsOneReservationPerLine() throws Exception {
+        // Arrange
+        ReservationDTO second = ReservationFactory.createReservationDTORest();
+        second.setId(2L);
+        doAnswer(invocation -> {
+            Consumer<ReservationDTO> consumer = invocation.getArgument(0);
+            consumer.accept(ReservationFactory.createReservationDTORest());
+            consumer.accept(second);
+            return null;
+        }).when(reservationFacade).exportAll(any());
+
+        // Act
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/api/reservations/export")
+                        .with(csrf()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        String body = mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(1))
-                .andExpect(jsonPath("$[0].id").value(1L));
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines[0], ReservationDTO.class).getId()).isEqualTo(1L);
+        assertThat(objectMapper.readValue(lines[1], ReservationDTO.class).getId()).isEqualTo(2L);
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void export_userRole_returnsForbidden() throws Exception {
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/reservations/export")
+                        .with(csrf()))
+                .andExpect(status().isForbidden());
     }
 
     @Test
@@ -116,16 +225,16 @@ public class ReservationRestControllerTests {
     void findByCourt_reservationsFound_returnsReservationsForCourt() throws Exception {
         // Arrange
         List<ReservationDTO> reservations = List.of(ReservationFactory.createReservationDTORest());
-        when(reservationFacade.findByCourt(1L)).thenReturn(reservations);
+        when(reservationFacade.findByCourt(1L, null, 50)).thenReturn(new ReservationPageDTO(reservations, null));
 
         // Assert
         mockMvc.perform(MockMvcRequestBuilders.get("/api/reservations/court/1")
                         .with(csrf())
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(1))
-                .andExpect(jsonPath("$[0].court.id").value(1L));
+                .andExpect(jsonPath("$.items").isArray())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].court.id").value(1L));
     }
 
     @Test
@@ -133,7 +242,8 @@ public class ReservationRestControllerTests {
     void findByPhone_userAccessingOwnReservations_returnsReservations() throws Exception {
         // Arrange
         List<ReservationDTO> reservations = List.of(ReservationFactory.createReservationDTORest());
-        when(reservationFacade.findByPhone("+420907123456", true)).thenReturn(reservations);
+        when(reservationFacade.findByPhone("+420907123456", true, null, 50))
+                .thenReturn(new ReservationPageDTO(reservations, null));
 
         // Assert
         mockMvc.perform(MockMvcRequestBuilders.get("/api/reservations/user")
@@ -142,8 +252,8 @@ public class ReservationRestControllerTests {
                         .with(csrf())
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(1));
+                .andExpect(jsonPath("$.items").isArray())
+                .andExpect(jsonPath("$.items.length()").value(1));
     }
 
     @Test
@@ -173,6 +283,78 @@ public class ReservationRestControllerTests {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void createBatch_adminCreatingBatch_returnsResults() throws Exception {
+        // Arrange
+        ReservationBatchResultDTO result = new ReservationBatchResultDTO(1, 1, List.of(
+                new ReservationBatchItemDTO(0, true, 5L, new BigDecimal("60.00"), null),
+                new ReservationBatchItemDTO(1, false, null, null,
+                        "Reservation overlaps with another reservation of the batch.")));
+        when(reservationFacade.createBatch(any())).thenReturn(result);
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/reservations/batch")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(ReservationFactory.createReservationCreateDTO(),
+                                ReservationFactory.createReservationCreateDTO()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(5L))
+                .andExpect(jsonPath("$.items[1].created").value(false))
+                .andExpect(jsonPath("$.items[1].error").value("Reservation overlaps with another reservation of the batch."));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void createBatch_userRole_returnsForbidden() throws Exception {
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/reservations/batch")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(ReservationFactory.createReservationCreateDTO()))))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void quote_userQuotingCandidates_returnsCostsAndAvailability() throws Exception {
+        // Arrange
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0);
+        List<ReservationQuoteDTO> candidates = List.of(
+                new ReservationQuoteDTO(1L, start, start.plusHours(1), false),
+                new ReservationQuoteDTO(1L, start.plusHours(1), start.plusHours(2), true));
+        when(reservationFacade.quote(candidates)).thenReturn(List.of(
+                new ReservationQuoteItemDTO(0, true, new BigDecimal("60.00"), null),
+                new ReservationQuoteItemDTO(1, false, new BigDecimal("90.00"), null)));
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/reservations/quote")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(candidates)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].available").value(true))
+                .andExpect(jsonPath("$[1].available").value(false))
+                .andExpect(jsonPath("$[1].cost").value(90.0));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void quote_tooManyCandidates_returnsBadRequest() throws Exception {
+        // Arrange
+        when(reservationFacade.quote(any())).thenThrow(new BadRequestException("Quote must contain between 1 and 100 reservations."));
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/reservations/quote")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void update_validData_returnsUpdatedReservation() throws Exception {
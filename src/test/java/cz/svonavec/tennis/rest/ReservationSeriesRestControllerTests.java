@@ -0,0 +1,139 @@
+package cz.svonavec.tennis.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import cz.svonavec.tennis.exception.BadRequestException;
+import cz.svonavec.tennis.facade.ReservationSeriesFacade;
+import cz.svonavec.tennis.factory.ReservationSeriesFactory;
+import cz.svonavec.tennis.models.dtos.ReservationOccurrenceDTO;
+import cz.svonavec.tennis.models.dtos.ReservationSeriesCreateDTO;
+import cz.svonavec.tennis.security.AuthEntryPoint;
+import cz.svonavec.tennis.security.AuthTokenFilter;
+import cz.svonavec.tennis.security.CustomAccessDeniedHandler;
+import cz.svonavec.tennis.security.VerifiedTokenCache;
+import cz.svonavec.tennis.service.JwtService;
+import cz.svonavec.tennis.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ReservationSeriesRestController.class)
+@Import({AuthTokenFilter.class, AuthEntryPoint.class, CustomAccessDeniedHandler.class})
+@EnableMethodSecurity(prePostEnabled = true)
+public class ReservationSeriesRestControllerTests {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ReservationSeriesFacade reservationSeriesFacade;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @MockitoBean
+    private UserService userService;
+
+    @MockitoBean
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setup() {
+        objectMapper.findAndRegisterModules();
+    }
+
+    @Test
+    @WithMockUser(username = "+421123456789", roles = "USER")
+    void create_userCreatingOwnSeries_returnsCreated() throws Exception {
+        // Arrange
+        when(reservationSeriesFacade.create(any(ReservationSeriesCreateDTO.class)))
+                .thenReturn(ReservationSeriesFactory.createReservationSeriesDTORest());
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/reservation-series")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ReservationSeriesFactory.createReservationSeriesCreateDTO())))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(1L))
+                .andExpect(jsonPath("$.intervalWeeks").value(1))
+                .andExpect(jsonPath("$.cost").value(60.00));
+    }
+
+    @Test
+    @WithMockUser(username = "+421000000000", roles = "USER")
+    void create_userCreatingSeriesOfOtherUser_returnsForbidden() throws Exception {
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/reservation-series")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ReservationSeriesFactory.createReservationSeriesCreateDTO())))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void findOccurrences_occurrencesFound_returnsOccurrences() throws Exception {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 1, 15, 0, 0);
+        when(reservationSeriesFacade.findOccurrences(1L, from, to)).thenReturn(List.of(
+                new ReservationOccurrenceDTO(LocalDateTime.of(2025, 1, 1, 10, 0), LocalDateTime.of(2025, 1, 1, 11, 0),
+                        BigDecimal.valueOf(60.00)),
+                new ReservationOccurrenceDTO(LocalDateTime.of(2025, 1, 8, 10, 0), LocalDateTime.of(2025, 1, 8, 11, 0),
+                        BigDecimal.valueOf(60.00))));
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/reservation-series/1/occurrences")
+                        .param("from", "2025-01-01T00:00:00")
+                        .param("to", "2025-01-15T00:00:00")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].startsAt").value("2025-01-08T10:00:00"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void addException_noOccurrenceOnDate_returnsBadRequest() throws Exception {
+        // Arrange
+        when(reservationSeriesFacade.addException(1L, LocalDate.of(2025, 1, 9)))
+                .thenThrow(new BadRequestException("Reservation series has no occurrence on this date."));
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/reservation-series/1/exceptions")
+                        .param("date", "2025-01-09")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void delete_userRole_returnsForbidden() throws Exception {
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.delete("/api/reservation-series/1")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,63 @@
+package cz.svonavec.tennis.rest;
+
+import cz.svonavec.tennis.factory.CourtFactory;
+import cz.svonavec.tennis.factory.ReservationFactory;
+import cz.svonavec.tennis.factory.UserFactory;
+import cz.svonavec.tennis.mapper.CourtMapper;
+import cz.svonavec.tennis.mapper.ReservationMapper;
+import cz.svonavec.tennis.mapper.SurfaceTypeMapper;
+import cz.svonavec.tennis.models.entities.Court;
+import cz.svonavec.tennis.models.entities.Reservation;
+import cz.svonavec.tennis.models.events.ReservationChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReservationStreamHubTests {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ReservationStreamHub hub = new ReservationStreamHub(
+            new ReservationMapper(new CourtMapper(new SurfaceTypeMapper())), 2, Duration.ofMinutes(1), meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    void subscribe_twoSubscribersOfCourt_registersBoth() {
+        // Act
+        hub.subscribe(1L);
+        hub.subscribe(1L);
+        hub.subscribe(2L);
+
+        // Assert
+        assertThat(hub.subscriberCount(1L)).isEqualTo(2);
+        assertThat(hub.subscriberCount(2L)).isEqualTo(1);
+        assertThat(meterRegistry.get("tennis.reservation.stream.subscribers").gauge().value()).isEqualTo(3);
+    }
+
+    @Test
+    void onReservationChanged_noSubscribersOfCourt_changeDropped() {
+        // Arrange
+        hub.subscribe(1L);
+
+        // Act
+        hub.onReservationChanged(ReservationChangedEvent.of(ReservationChangedEvent.Change.CREATED, reservation(2L)));
+
+        // Assert
+        assertThat(hub.subscriberCount(1L)).isEqualTo(1);
+        assertThat(hub.subscriberCount(2L)).isEqualTo(0);
+        assertThat(meterRegistry.get("tennis.reservation.stream.evictions").counter().count()).isEqualTo(0);
+    }
+
+    private static Reservation reservation(long courtId) {
+        Court court = CourtFactory.createCourt();
+        court.setId(courtId);
+        return ReservationFactory.createReservation(court, UserFactory.createUser());
+    }
+}
@@ -0,0 +1,76 @@
+package cz.svonavec.tennis.rest;
+
+import cz.svonavec.tennis.facade.ScheduleFacade;
+import cz.svonavec.tennis.models.dtos.CourtScheduleDTO;
+import cz.svonavec.tennis.models.dtos.ScheduleDTO;
+import cz.svonavec.tennis.models.dtos.ScheduleEntryDTO;
+import cz.svonavec.tennis.security.AuthEntryPoint;
+import cz.svonavec.tennis.security.AuthTokenFilter;
+import cz.svonavec.tennis.security.CustomAccessDeniedHandler;
+import cz.svonavec.tennis.security.VerifiedTokenCache;
+import cz.svonavec.tennis.service.JwtService;
+import cz.svonavec.tennis.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ScheduleRestController.class)
+@Import({AuthTokenFilter.class, AuthEntryPoint.class, CustomAccessDeniedHandler.class})
+@EnableMethodSecurity(prePostEnabled = true)
+public class ScheduleRestControllerTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ScheduleFacade scheduleFacade;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @MockitoBean
+    private UserService userService;
+
+    @MockitoBean
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void findDay_validDate_returnsSchedule() throws Exception {
+        // Arrange
+        LocalDate date = LocalDate.of(2025, 1, 1);
+        ScheduleEntryDTO entry = new ScheduleEntryDTO(1L, date.atTime(10, 0), date.atTime(11, 0), false);
+        when(scheduleFacade.findDay(date))
+                .thenReturn(new ScheduleDTO(date, List.of(new CourtScheduleDTO(2L, List.of(entry)))));
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/schedule/2025-01-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.date").value("2025-01-01"))
+                .andExpect(jsonPath("$.courts[0].courtId").value(2L))
+                .andExpect(jsonPath("$.courts[0].reservations[0].reservationId").value(1L));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void findDay_invalidDate_returnsBadRequest() throws Exception {
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/schedule/2025-13-01"))
+                .andExpect(status().isBadRequest());
+        verify(scheduleFacade, never()).findDay(any());
+    }
+}
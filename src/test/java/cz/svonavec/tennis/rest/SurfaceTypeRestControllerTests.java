@@ -9,13 +9,16 @@ import cz.svonavec.tennis.models.dtos.SurfaceTypeDTO;
 import cz.svonavec.tennis.security.AuthEntryPoint;
 import cz.svonavec.tennis.security.AuthTokenFilter;
 import cz.svonavec.tennis.security.CustomAccessDeniedHandler;
+import cz.svonavec.tennis.security.VerifiedTokenCache;
 import cz.svonavec.tennis.service.JwtService;
+import cz.svonavec.tennis.service.TableVersions;
 import cz.svonavec.tennis.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -28,12 +31,15 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(SurfaceTypeRestController.class)
-@Import({AuthTokenFilter.class, AuthEntryPoint.class, CustomAccessDeniedHandler.class})
+@Import({AuthTokenFilter.class, AuthEntryPoint.class, CustomAccessDeniedHandler.class, ListingResponses.class,
+        TableVersions.class})
 @EnableMethodSecurity(prePostEnabled = true)
 public class SurfaceTypeRestControllerTests {
     private static final ObjectMapper objectMapper = new ObjectMapper();
@@ -50,6 +56,12 @@ public class SurfaceTypeRestControllerTests {
     @MockitoBean
     private UserService userService;
 
+    @MockitoBean
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Autowired
+    private TableVersions tableVersions;
+
     @BeforeEach
     void setup() {
         objectMapper.findAndRegisterModules();
@@ -95,6 +107,45 @@ public class SurfaceTypeRestControllerTests {
                 .andExpect(jsonPath("$[0].costPerMinute").value(BigDecimal.ONE));
     }
 
+    @Test
+    @WithMockUser(roles = "USER")
+    void findAll_surfacesFound_returnsETagAndCacheControl() throws Exception {
+        // Arrange
+        when(surfaceTypeFacade.findAll()).thenReturn(List.of(SurfaceTypeFactory.createSurfaceTypeDTORest()));
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/surfaces"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, tableVersions.etag(TableVersions.SURFACES)))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=0, must-revalidate, private"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void findAll_etagMatches_returnsNotModifiedWithoutLoadingSurfaces() throws Exception {
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/surfaces")
+                        .header(HttpHeaders.IF_NONE_MATCH, tableVersions.etag(TableVersions.SURFACES)))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(surfaceTypeFacade, never()).findAll();
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void findAll_surfacesChangedSinceETag_returnsSurfaces() throws Exception {
+        // Arrange
+        String etag = tableVersions.etag(TableVersions.SURFACES);
+        tableVersions.bump(TableVersions.SURFACES);
+        when(surfaceTypeFacade.findAll()).thenReturn(List.of(SurfaceTypeFactory.createSurfaceTypeDTORest()));
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/surfaces")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void create_validSurfaceData_returnsCreated() throws Exception {
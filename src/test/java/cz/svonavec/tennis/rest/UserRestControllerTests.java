@@ -9,6 +9,7 @@ import cz.svonavec.tennis.models.entities.Role;
 import cz.svonavec.tennis.security.AuthEntryPoint;
 import cz.svonavec.tennis.security.AuthTokenFilter;
 import cz.svonavec.tennis.security.CustomAccessDeniedHandler;
+import cz.svonavec.tennis.security.VerifiedTokenCache;
 import cz.svonavec.tennis.service.JwtService;
 import cz.svonavec.tennis.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
@@ -50,6 +51,9 @@ public class UserRestControllerTests {
     @MockitoBean
     private UserService userService;
 
+    @MockitoBean
+    private VerifiedTokenCache verifiedTokenCache;
+
     @BeforeEach
     void setup() {
         objectMapper.findAndRegisterModules();
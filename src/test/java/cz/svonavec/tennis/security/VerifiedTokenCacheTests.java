@@ -0,0 +1,153 @@
+package cz.svonavec.tennis.security;
+
+import cz.svonavec.tennis.service.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class VerifiedTokenCacheTests {
+    private static final String FIRST_SECRET = "7a99b411eb69e9e0d8d1f9467ca853f3dd2c2ac930d5471b2b8b9c44edb9517e";
+    private static final String SECOND_SECRET = "0b7c8d2e5f41a3960c7e2b8d4f6a1c3e5b7d9f1a2c4e6b8d0f2a4c6e8b0d2f4a";
+    private static final String THIRD_SECRET = "5d3f1b9e7c5a3e1d9b7f5c3a1e9d7b5f3c1a9e7d5b3f1c9a7e5d3b1f9c7a5e3d";
+
+    @Mock
+    private JwtService jwtService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        verifiedTokenCache = new VerifiedTokenCache(jwtService, 100, meterRegistry);
+    }
+
+    @Test
+    void verify_sameTokenTwice_verifiesSignatureOnce() {
+        // Arrange
+        Claims claims = Jwts.claims().setSubject("+420908123456")
+                .setExpiration(new Date(System.currentTimeMillis() + 60000));
+        when(jwtService.extractTokenClaims("token")).thenReturn(claims);
+
+        // Act
+        Claims first = verifiedTokenCache.verify("token");
+        Claims second = verifiedTokenCache.verify("token");
+
+        // Assert
+        assertThat(first).isSameAs(claims);
+        assertThat(second).isSameAs(claims);
+        verify(jwtService, times(1)).extractTokenClaims("token");
+        assertThat(verifiedTokenCache.stats().hitCount()).isEqualTo(1);
+        assertThat(verifiedTokenCache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void verify_sameTokenTwice_publishesVerificationTimeAndCacheMetrics() {
+        // Arrange
+        Claims claims = Jwts.claims().setSubject("+420908123456")
+                .setExpiration(new Date(System.currentTimeMillis() + 60000));
+        when(jwtService.extractTokenClaims("token")).thenReturn(claims);
+
+        // Act
+        verifiedTokenCache.verify("token");
+        verifiedTokenCache.verify("token");
+
+        // Assert
+        assertThat(meterRegistry.get("tennis.jwt.verify").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "verifiedTokens").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void verify_expiredEntry_verifiesSignatureAgain() {
+        // Arrange
+        Claims claims = Jwts.claims().setSubject("+420908123456")
+                .setExpiration(new Date(System.currentTimeMillis() - 1000));
+        when(jwtService.extractTokenClaims("token")).thenReturn(claims);
+
+        // Act
+        verifiedTokenCache.verify("token");
+        verifiedTokenCache.verify("token");
+
+        // Assert
+        verify(jwtService, times(2)).extractTokenClaims("token");
+    }
+
+    @Test
+    void verify_invalidToken_throwsAndIsNotCached() {
+        // Arrange
+        when(jwtService.extractTokenClaims("invalid")).thenThrow(new MalformedJwtException("Invalid token"));
+
+        // Act
+        assertThrows(MalformedJwtException.class, () -> verifiedTokenCache.verify("invalid"));
+        assertThrows(MalformedJwtException.class, () -> verifiedTokenCache.verify("invalid"));
+
+        // Assert
+        verify(jwtService, times(2)).extractTokenClaims("invalid");
+    }
+
+    @Test
+    void verify_cachedTokenSignedByKeyRemovedFromKeysFile_throwsSignatureException(@TempDir Path tempDir)
+            throws IOException {
+        // Arrange
+        Path keysFile = tempDir.resolve("jwt-keys");
+        Files.write(keysFile, List.of(FIRST_SECRET));
+        JwtService keys = new JwtService();
+        ReflectionTestUtils.setField(keys, "keysFile", keysFile.toString());
+        ReflectionTestUtils.setField(keys, "jwtExpiration", 1800000L);
+        keys.init();
+        VerifiedTokenCache cache = new VerifiedTokenCache(keys, 100, meterRegistry);
+        String token = keys.generateTokenFromPhone("+420908123456");
+        cache.verify(token);
+
+        // Act
+        Files.write(keysFile, List.of(SECOND_SECRET, FIRST_SECRET));
+        keys.reloadKeys();
+        Claims afterFirstRotation = cache.verify(token);
+        Files.write(keysFile, List.of(THIRD_SECRET, SECOND_SECRET));
+        keys.reloadKeys();
+
+        // Assert
+        assertThat(afterFirstRotation.getSubject()).isEqualTo("+420908123456");
+        assertThrows(SignatureException.class, () -> cache.verify(token));
+    }
+
+    @Test
+    void invalidateAll_cachedToken_verifiesSignatureAgain() {
+        // Arrange
+        Claims claims = Jwts.claims().setSubject("+420908123456")
+                .setExpiration(new Date(System.currentTimeMillis() + 60000));
+        when(jwtService.extractTokenClaims("token")).thenReturn(claims);
+        verifiedTokenCache.verify("token");
+
+        // Act
+        verifiedTokenCache.invalidateAll();
+        verifiedTokenCache.verify("token");
+
+        // Assert
+        verify(jwtService, times(2)).extractTokenClaims("token");
+    }
+}
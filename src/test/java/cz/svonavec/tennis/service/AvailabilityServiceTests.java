@@ -0,0 +1,213 @@
+package cz.svonavec.tennis.service;
+
+import cz.svonavec.tennis.exception.BadRequestException;
+import cz.svonavec.tennis.exception.ResourceNotFoundException;
+import cz.svonavec.tennis.factory.CourtFactory;
+import cz.svonavec.tennis.models.availability.FreeSlot;
+import cz.svonavec.tennis.models.entities.Court;
+import cz.svonavec.tennis.models.entities.Reservation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AvailabilityServiceTests {
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 8, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 1, 1, 20, 0);
+
+    @Mock
+    private ReservationService reservationService;
+
+    @Mock
+    private CourtService courtService;
+
+    @InjectMocks
+    private AvailabilityService availabilityService;
+
+    @Test
+    void findFreeSlots_reservationsInWindow_returnsGapsBetweenThem() {
+        // Arrange
+        Court court = court(1L);
+        when(courtService.findById(1L)).thenReturn(court);
+        when(reservationService.findInWindow(List.of(1L), FROM, TO)).thenReturn(Map.of(1L, List.of(
+                reservation(court, FROM.minusHours(1), FROM.plusHours(1)),
+                reservation(court, FROM.plusHours(2), FROM.plusHours(3)),
+                reservation(court, FROM.plusHours(3), FROM.plusHours(4)),
+                reservation(court, TO.minusHours(1), TO.plusHours(1)))));
+
+        // Act
+        List<FreeSlot> slots = availabilityService.findFreeSlots(1L, FROM, TO, Duration.ZERO);
+
+        // Assert
+        assertThat(slots).containsExactly(
+                new FreeSlot(FROM.plusHours(1), FROM.plusHours(2)),
+                new FreeSlot(FROM.plusHours(4), TO.minusHours(1)));
+    }
+
+    @Test
+    void findFreeSlots_noReservations_wholeWindowFree() {
+        // Arrange
+        when(courtService.findById(1L)).thenReturn(court(1L));
+        when(reservationService.findInWindow(List.of(1L), FROM, TO)).thenReturn(Map.of(1L, List.of()));
+
+        // Act
+        List<FreeSlot> slots = availabilityService.findFreeSlots(1L, FROM, TO, Duration.ZERO);
+
+        // Assert
+        assertThat(slots).containsExactly(new FreeSlot(FROM, TO));
+    }
+
+    @Test
+    void findFreeSlots_shortGaps_filteredByMinimalDuration() {
+        // Arrange
+        Court court = court(1L);
+        when(courtService.findById(1L)).thenReturn(court);
+        when(reservationService.findInWindow(List.of(1L), FROM, TO)).thenReturn(Map.of(1L, List.of(
+                reservation(court, FROM.plusMinutes(30), FROM.plusHours(1)),
+                reservation(court, FROM.plusHours(3), TO))));
+
+        // Act
+        List<FreeSlot> slots = availabilityService.findFreeSlots(1L, FROM, TO, Duration.ofHours(1));
+
+        // Assert
+        assertThat(slots).containsExactly(new FreeSlot(FROM.plusHours(1), FROM.plusHours(3)));
+    }
+
+    @Test
+    void findFreeSlots_severalCourts_returnsSlotsForEveryCourt() {
+        // Arrange
+        Court first = court(1L);
+        Court second = court(2L);
+        when(courtService.findAll()).thenReturn(List.of(first, second));
+        when(reservationService.findInWindow(List.of(2L, 1L), FROM, TO)).thenReturn(Map.of(
+                1L, List.of(reservation(first, FROM, FROM.plusHours(1))),
+                2L, List.of(reservation(second, FROM.plusHours(1), TO))));
+
+        // Act
+        Map<Long, List<FreeSlot>> slots = availabilityService.findFreeSlots(
+                new LinkedHashSet<>(List.of(2L, 1L)), FROM, TO, Duration.ZERO);
+
+        // Assert
+        assertThat(slots.keySet()).containsExactly(2L, 1L);
+        assertThat(slots.get(1L)).containsExactly(new FreeSlot(FROM.plusHours(1), TO));
+        assertThat(slots.get(2L)).containsExactly(new FreeSlot(FROM, FROM.plusHours(1)));
+    }
+
+    @Test
+    void findFreeSlots_noCourtIds_searchesAllCourts() {
+        // Arrange
+        when(courtService.findAll()).thenReturn(List.of(court(1L)));
+        when(reservationService.findInWindow(List.of(1L), FROM, TO)).thenReturn(Map.of(1L, List.of()));
+
+        // Act
+        Map<Long, List<FreeSlot>> slots = availabilityService.findFreeSlots((Set<Long>) null, FROM, TO, Duration.ZERO);
+
+        // Assert
+        assertThat(slots.get(1L)).containsExactly(new FreeSlot(FROM, TO));
+        verify(reservationService).findInWindow(List.of(1L), FROM, TO);
+    }
+
+    @Test
+    void findFreeSlots_noCourtIdsAndMoreCourtsThanLimit_searchesCourtsInPages() {
+        // Arrange
+        List<Court> courts = new ArrayList<>();
+        for (long id = 1; id <= AvailabilityService.MAX_COURTS + 1; id++) {
+            courts.add(court(id));
+        }
+        List<Long> firstPage = courts.subList(0, AvailabilityService.MAX_COURTS).stream().map(Court::getId).toList();
+        long lastCourtId = AvailabilityService.MAX_COURTS + 1;
+        when(courtService.findAll()).thenReturn(courts);
+        when(reservationService.findInWindow(anyList(), eq(FROM), eq(TO))).thenAnswer(invocation -> {
+            Map<Long, List<Reservation>> reservations = new HashMap<>();
+            for (Long courtId : invocation.<List<Long>>getArgument(0)) {
+                reservations.put(courtId, List.of());
+            }
+            return reservations;
+        });
+
+        // Act
+        Map<Long, List<FreeSlot>> slots = availabilityService.findFreeSlots((Set<Long>) null, FROM, TO, Duration.ZERO);
+
+        // Assert
+        assertThat(slots).hasSize(AvailabilityService.MAX_COURTS + 1);
+        assertThat(slots.get(lastCourtId)).containsExactly(new FreeSlot(FROM, TO));
+        verify(reservationService).findInWindow(firstPage, FROM, TO);
+        verify(reservationService).findInWindow(List.of(lastCourtId), FROM, TO);
+    }
+
+    @Test
+    void findFreeSlots_moreCourtIdsThanLimit_throwsBadRequestException() {
+        // Arrange
+        List<Court> courts = new ArrayList<>();
+        Set<Long> courtIds = new LinkedHashSet<>();
+        for (long id = 1; id <= AvailabilityService.MAX_COURTS + 1; id++) {
+            courts.add(court(id));
+            courtIds.add(id);
+        }
+        when(courtService.findAll()).thenReturn(courts);
+
+        // Act
+        assertThrows(BadRequestException.class,
+                () -> availabilityService.findFreeSlots(courtIds, FROM, TO, Duration.ZERO));
+    }
+
+    @Test
+    void findFreeSlots_unknownCourt_throwsResourceNotFoundException() {
+        // Arrange
+        when(courtService.findAll()).thenReturn(List.of(court(1L)));
+
+        // Act
+        assertThrows(ResourceNotFoundException.class,
+                () -> availabilityService.findFreeSlots(Set.of(1L, 2L), FROM, TO, Duration.ZERO));
+    }
+
+    @Test
+    void findFreeSlots_endBeforeStart_throwsBadRequestException() {
+        assertThrows(BadRequestException.class,
+                () -> availabilityService.findFreeSlots(1L, TO, FROM, Duration.ZERO));
+    }
+
+    @Test
+    void findFreeSlots_windowTooLong_throwsBadRequestException() {
+        assertThrows(BadRequestException.class, () -> availabilityService.findFreeSlots(1L, FROM,
+                FROM.plusDays(AvailabilityService.MAX_WINDOW_DAYS + 1), Duration.ZERO));
+    }
+
+    @Test
+    void findFreeSlots_negativeDuration_throwsBadRequestException() {
+        assertThrows(BadRequestException.class,
+                () -> availabilityService.findFreeSlots(1L, FROM, TO, Duration.ofMinutes(-1)));
+    }
+
+    private static Court court(long id) {
+        Court court = CourtFactory.createCourt();
+        court.setId(id);
+        return court;
+    }
+
+    private static Reservation reservation(Court court, LocalDateTime start, LocalDateTime end) {
+        Reservation reservation = new Reservation();
+        reservation.setCourt(court);
+        reservation.setStartsAt(start);
+        reservation.setEndsAt(end);
+        return reservation;
+    }
+}
@@ -6,12 +6,16 @@ import cz.svonavec.tennis.factory.CourtFactory;
 import cz.svonavec.tennis.factory.SurfaceTypeFactory;
 import cz.svonavec.tennis.models.entities.Court;
 import cz.svonavec.tennis.models.entities.SurfaceType;
+import cz.svonavec.tennis.models.events.ReservationChangedEvent;
+import cz.svonavec.tennis.models.projections.ReservationView;
 import cz.svonavec.tennis.repository.CourtRepository;
+import cz.svonavec.tennis.repository.ReservationRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -19,6 +23,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,6 +35,18 @@ public class CourtServiceTests {
     @Mock
     private SurfaceTypeService surfaceTypeService;
 
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private TableVersions tableVersions;
+
+    @Mock
+    private CourtLocks courtLocks;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CourtService courtService;
 
@@ -51,6 +68,49 @@ public class CourtServiceTests {
         assertThrows(ResourceNotFoundException.class, () -> courtService.findById(1));
     }
 
+    @Test
+    void findAllById_oneCourtDeletedOneMissing_returnsLiveCourtWithSurface() {
+        // Arrange
+        SurfaceType surface = SurfaceTypeFactory.createSurfaceType();
+        Court court = CourtFactory.createCourt();
+        Court deleted = CourtFactory.createCourt();
+        deleted.setDeletedAt(LocalDateTime.now());
+        when(courtRepository.find(1L)).thenReturn(court);
+        when(courtRepository.find(2L)).thenReturn(deleted);
+        when(surfaceTypeService.findById(0L)).thenReturn(surface);
+
+        // Act
+        List<Court> courts = courtService.findAllById(List.of(1L, 2L, 3L));
+
+        // Assert
+        assertThat(courts).containsExactly(court);
+        assertThat(courts.getFirst().getSurface()).isSameAs(surface);
+    }
+
+    @Test
+    void lockById_courtFound_returnsLockedCourt() {
+        // Arrange
+        when(courtRepository.lock(1L)).thenReturn(CourtFactory.createCourt());
+
+        // Act
+        Court court = courtService.lockById(1L);
+
+        // Assert
+        assertThat(court).isEqualTo(CourtFactory.createCourt());
+        verify(courtRepository).lock(1L);
+    }
+
+    @Test
+    void lockById_courtDeleted_throwsResourceNotFoundException() {
+        // Arrange
+        Court court = CourtFactory.createCourt();
+        court.setDeletedAt(LocalDateTime.now());
+        when(courtRepository.lock(1L)).thenReturn(court);
+
+        // Act
+        assertThrows(ResourceNotFoundException.class, () -> courtService.lockById(1L));
+    }
+
     @Test
     void findAll_twoCourtsFound_returnsCourts() {
         SurfaceType surfaceType = SurfaceTypeFactory.createSurfaceType();
@@ -86,6 +146,7 @@ public class CourtServiceTests {
         assertThat(court.getDescription()).isEqualTo("Standard tennis court");
         verify(courtRepository).create(court);
         verify(surfaceTypeService).findById(1L);
+        verify(tableVersions).bump(TableVersions.COURTS);
     }
 
     @Test
@@ -93,6 +154,7 @@ public class CourtServiceTests {
         Court court = CourtFactory.createCourt();
         court.setId(1L);
         assertThrows(BadRequestException.class, () -> courtService.create(court, 1L));
+        verify(tableVersions, never()).bump(TableVersions.COURTS);
     }
 
     @Test
@@ -137,7 +199,7 @@ public class CourtServiceTests {
         courtDeleted.setSurface(surfaceType);
 
 
-        when(courtRepository.find(1L)).thenReturn(CourtFactory.createCourt());
+        when(courtRepository.lock(1L)).thenReturn(CourtFactory.createCourt());
         when(courtRepository.delete(CourtFactory.createCourt())).thenReturn(courtDeleted);
 
         // Act
@@ -146,7 +208,26 @@ public class CourtServiceTests {
         // Assert
         assertThat(court.getDeletedAt()).isNotNull();
         assertThat(court.getId()).isEqualTo(1L);
-        verify(courtRepository).find(1L);
+        verify(courtLocks).lock(1L);
+        verify(courtRepository).lock(1L);
         verify(courtRepository).delete(CourtFactory.createCourt());
+        verify(tableVersions).bump(TableVersions.COURTS);
+    }
+
+    @Test
+    void delete_courtWithReservations_publishesDeletedReservations() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.of(2025, 4, 1, 10, 0);
+        ReservationView reservation = new ReservationView(7L, null, start.minusDays(1), true, start,
+                start.plusHours(1), BigDecimal.TEN, 1L, null, null, "Court", 1L, null, null, "Clay", BigDecimal.ONE, 2L);
+        when(courtRepository.lock(1L)).thenReturn(CourtFactory.createCourt());
+        when(reservationRepository.findViewsByCourt(1L)).thenReturn(List.of(reservation));
+
+        // Act
+        courtService.delete(1L);
+
+        // Assert
+        verify(eventPublisher).publishEvent(new ReservationChangedEvent(ReservationChangedEvent.Change.DELETED, 7L,
+                1L, true, start, start.plusHours(1), BigDecimal.TEN));
     }
 }
@@ -1,19 +1,30 @@
 package cz.svonavec.tennis.service;
 
+import cz.svonavec.tennis.exception.BadRequestException;
+import cz.svonavec.tennis.factory.UserFactory;
+import cz.svonavec.tennis.models.entities.Role;
+import cz.svonavec.tennis.models.entities.User;
 import io.jsonwebtoken.Claims;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
@@ -27,11 +38,20 @@ class JwtServiceTests {
     private JwtService jwtService;
     private final String testPhone = "+420908123456";
 
+    private static final String FIRST_SECRET = "0b7c8d2e5f41a3960c7e2b8d4f6a1c3e5b7d9f1a2c4e6b8d0f2a4c6e8b0d2f4a";
+    private static final String SECOND_SECRET = "5d3f1b9e7c5a3e1d9b7f5c3a1e9d7b5f3c1a9e7d5b3f1c9a7e5d3b1f9c7a5e3d";
+
+    @TempDir
+    private Path tempDir;
+
+    private Path keysFile;
+
     @BeforeEach
     void setUp() {
         ReflectionTestUtils.setField(jwtService, "secretKey", "7a99b411eb69e9e0d8d1f9467ca853f3dd2c2ac930d5471b2b8b9c44edb9517e");
         ReflectionTestUtils.setField(jwtService, "jwtExpiration", 1800000L);
         ReflectionTestUtils.setField(jwtService, "jwtRefreshExpiration", 60480000L);
+        jwtService.init();
     }
 
     @Test
@@ -211,4 +231,123 @@ class JwtServiceTests {
         // Assert
         assertFalse(result);
     }
+
+    @Test
+    void validateClaims_validClaims_returnsTrue() {
+        // Arrange
+        Claims claims = jwtService.extractTokenClaims(jwtService.generateTokenFromPhone(testPhone));
+
+        // Act
+        boolean result = jwtService.validateClaims(claims, testPhone, null);
+
+        // Assert
+        assertTrue(result);
+    }
+
+    @Test
+    void validateClaims_otherTypeOfToken_returnsFalse() {
+        // Arrange
+        Claims claims = jwtService.extractTokenClaims(jwtService.generateTokenFromPhone(testPhone, "refresh"));
+
+        // Act
+        boolean result = jwtService.validateClaims(claims, testPhone, "access");
+
+        // Assert
+        assertFalse(result);
+    }
+
+    @Test
+    void reloadKeys_previousKeyKeptInFile_tokenSignedByItStaysValid() throws IOException {
+        // Arrange
+        useKeysFile(FIRST_SECRET);
+        String oldToken = jwtService.generateTokenFromPhone(testPhone);
+        AtomicInteger rotations = new AtomicInteger();
+        jwtService.addRotationListener(rotations::incrementAndGet);
+
+        // Act
+        Files.write(keysFile, List.of(SECOND_SECRET, FIRST_SECRET));
+        jwtService.reloadKeys();
+        String newToken = jwtService.generateTokenFromPhone(testPhone);
+
+        // Assert
+        assertThat(rotations.get()).isEqualTo(1);
+        assertTrue(jwtService.validateTokenPhone(oldToken, testPhone, "access"));
+        assertTrue(jwtService.validateTokenPhone(newToken, testPhone, "access"));
+    }
+
+    @Test
+    void reloadKeys_keyRemovedFromFile_returnsFalse() throws IOException {
+        // Arrange
+        useKeysFile(FIRST_SECRET);
+        String oldToken = jwtService.generateTokenFromPhone(testPhone);
+
+        // Act
+        Files.write(keysFile, List.of(SECOND_SECRET));
+        jwtService.reloadKeys();
+
+        // Assert
+        assertFalse(jwtService.validateTokenPhone(oldToken, testPhone, "access"));
+    }
+
+    @Test
+    void init_keysFileOfOtherInstance_acceptsTokenSignedByIt() throws IOException {
+        // Arrange
+        useKeysFile(SECOND_SECRET);
+        String token = jwtService.generateTokenFromPhone(testPhone);
+        JwtService otherInstance = new JwtService();
+        ReflectionTestUtils.setField(otherInstance, "keysFile", keysFile.toString());
+
+        // Act
+        otherInstance.init();
+
+        // Assert
+        assertThat(otherInstance.extractTokenClaims(token).getSubject()).isEqualTo(testPhone);
+    }
+
+    @Test
+    void reloadKeys_noKeysFile_throwsBadRequestException() {
+        // Assert
+        assertThrows(BadRequestException.class, () -> jwtService.reloadKeys());
+    }
+
+    @Test
+    void init_previousSecretConfigured_acceptsTokenSignedByIt() {
+        // Arrange
+        String oldToken = jwtService.generateTokenFromPhone(testPhone);
+        String oldSecret = (String) ReflectionTestUtils.getField(jwtService, "secretKey");
+        ReflectionTestUtils.setField(jwtService, "secretKey", "0b7c8d2e5f41a3960c7e2b8d4f6a1c3e5b7d9f1a2c4e6b8d0f2a4c6e8b0d2f4a");
+        ReflectionTestUtils.setField(jwtService, "previousSecrets", new String[]{oldSecret});
+
+        // Act
+        jwtService.init();
+
+        // Assert
+        assertTrue(jwtService.validateTokenPhone(oldToken, testPhone, "access"));
+    }
+
+    @Test
+    void generateTokenForUser_userWithRoles_returnsTokenWithClaims() {
+        // Arrange
+        User user = UserFactory.createUser();
+        user.setId(5L);
+        user.setRoles(List.of(Role.USER, Role.ADMIN));
+        user.setTokenVersion(3);
+
+        // Act
+        String token = jwtService.generateTokenForUser(user, "access");
+
+        // Assert
+        Claims claims = jwtService.extractTokenClaims(token);
+        assertThat(claims.getSubject()).isEqualTo(user.getPhoneNumber());
+        assertThat(claims.get(JwtService.USER_ID_CLAIM, Long.class)).isEqualTo(5L);
+        assertThat(claims.get(JwtService.VERSION_CLAIM, Integer.class)).isEqualTo(3);
+        assertThat(claims.get(JwtService.ROLES_CLAIM, List.class)).isEqualTo(List.of("USER", "ADMIN"));
+    }
+
+    private void useKeysFile(String secret) throws IOException {
+        keysFile = tempDir.resolve("jwt-keys");
+        Files.write(keysFile, List.of(secret));
+        ReflectionTestUtils.setField(jwtService, "keysFile", keysFile.toString());
+        jwtService.init();
+    }
 }
@@ -0,0 +1,210 @@
+package cz.svonavec.tennis.service;
+
+import cz.svonavec.tennis.exception.BadRequestException;
+import cz.svonavec.tennis.exception.ResourceNotFoundException;
+import cz.svonavec.tennis.factory.CourtFactory;
+import cz.svonavec.tennis.factory.PricingRuleFactory;
+import cz.svonavec.tennis.factory.SurfaceTypeFactory;
+import cz.svonavec.tennis.models.entities.Court;
+import cz.svonavec.tennis.models.entities.PricingRule;
+import cz.svonavec.tennis.models.entities.SurfaceType;
+import cz.svonavec.tennis.repository.PricingRuleRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PricingRuleServiceTests {
+    @Mock
+    private PricingRuleRepository pricingRuleRepository;
+
+    @Mock
+    private CourtService courtService;
+
+    @Mock
+    private SurfaceTypeService surfaceTypeService;
+
+    @Mock
+    private PricingService pricingService;
+
+    @InjectMocks
+    private PricingRuleService pricingRuleService;
+
+    @Test
+    void afterSingletonsInstantiated_rulesFound_loadsRulesIntoPricing() {
+        // Arrange
+        List<PricingRule> rules = List.of(PricingRuleFactory.createPricingRule());
+        when(pricingRuleRepository.findAll()).thenReturn(rules);
+
+        // Act
+        pricingRuleService.afterSingletonsInstantiated();
+
+        // Assert
+        verify(pricingService).load(rules);
+    }
+
+    @Test
+    void findById_ruleNotFound_throwsResourceNotFoundException() {
+        assertThrows(ResourceNotFoundException.class, () -> pricingRuleService.findById(1));
+    }
+
+    @Test
+    void findById_ruleDeleted_throwsResourceNotFoundException() {
+        // Arrange
+        PricingRule rule = PricingRuleFactory.createPricingRule();
+        rule.setDeletedAt(LocalDateTime.now());
+        when(pricingRuleRepository.find(1)).thenReturn(rule);
+
+        // Assert
+        assertThrows(ResourceNotFoundException.class, () -> pricingRuleService.findById(1));
+    }
+
+    @Test
+    void create_ruleOfSurface_createsRuleAndPassesItToPricing() {
+        // Arrange
+        SurfaceType surface = SurfaceTypeFactory.createSurfaceType();
+        surface.setId(1);
+        PricingRule created = PricingRuleFactory.createPricingRule();
+        created.setId(1);
+        when(surfaceTypeService.findById(1)).thenReturn(surface);
+        when(pricingRuleRepository.create(any(PricingRule.class))).thenReturn(created);
+
+        // Act
+        PricingRule rule = pricingRuleService.create(PricingRuleFactory.createPricingRule(), null, 1L);
+
+        // Assert
+        assertThat(rule).isEqualTo(created);
+        verify(pricingRuleRepository).create(any(PricingRule.class));
+        verify(pricingService).ruleSaved(created);
+    }
+
+    @Test
+    void create_ruleWithSeconds_truncatesTimesToMinutes() {
+        // Arrange
+        PricingRule rule = PricingRuleFactory.createPricingRule();
+        rule.setStartTime(LocalTime.of(17, 0, 30));
+        rule.setEndTime(LocalTime.of(20, 59, 59));
+        when(courtService.findById(1)).thenReturn(CourtFactory.createCourt(SurfaceTypeFactory.createSurfaceType()));
+        when(pricingRuleRepository.create(rule)).thenReturn(rule);
+
+        // Act
+        PricingRule created = pricingRuleService.create(rule, 1L, null);
+
+        // Assert
+        assertThat(created.getStartTime()).isEqualTo(LocalTime.of(17, 0));
+        assertThat(created.getEndTime()).isEqualTo(LocalTime.of(20, 59));
+        assertThat(created.getSurface()).isNull();
+    }
+
+    @Test
+    void create_ruleWithSetId_throwsBadRequestException() {
+        // Arrange
+        PricingRule rule = PricingRuleFactory.createPricingRule();
+        rule.setId(1);
+
+        // Assert
+        assertThrows(BadRequestException.class, () -> pricingRuleService.create(rule, null, 1L));
+        verify(pricingService, never()).ruleSaved(any());
+    }
+
+    @Test
+    void create_ruleOfCourtAndSurface_throwsBadRequestException() {
+        assertThrows(BadRequestException.class, () ->
+                pricingRuleService.create(PricingRuleFactory.createPricingRule(), 1L, 1L));
+        assertThrows(BadRequestException.class, () ->
+                pricingRuleService.create(PricingRuleFactory.createPricingRule(), null, null));
+    }
+
+    @Test
+    void create_endBeforeStart_throwsBadRequestException() {
+        // Arrange
+        PricingRule rule = PricingRuleFactory.createPricingRule();
+        rule.setEndTime(LocalTime.of(8, 0));
+
+        // Assert
+        assertThrows(BadRequestException.class, () -> pricingRuleService.create(rule, null, 1L));
+    }
+
+    @Test
+    void create_endAtMidnight_createsRule() {
+        // Arrange
+        PricingRule rule = PricingRuleFactory.createPricingRule();
+        rule.setEndTime(LocalTime.MIDNIGHT);
+        when(surfaceTypeService.findById(1)).thenReturn(SurfaceTypeFactory.createSurfaceType());
+        when(pricingRuleRepository.create(rule)).thenReturn(rule);
+
+        // Act
+        PricingRule created = pricingRuleService.create(rule, null, 1L);
+
+        // Assert
+        assertThat(created.getEndTime()).isEqualTo(LocalTime.MIDNIGHT);
+    }
+
+    @Test
+    void create_invalidMultiplier_throwsBadRequestException() {
+        // Arrange
+        PricingRule negative = PricingRuleFactory.createPricingRule();
+        negative.setMultiplier(new BigDecimal("-1"));
+        PricingRule precise = PricingRuleFactory.createPricingRule();
+        precise.setMultiplier(new BigDecimal("1.00001"));
+
+        // Assert
+        assertThrows(BadRequestException.class, () -> pricingRuleService.create(negative, null, 1L));
+        assertThrows(BadRequestException.class, () -> pricingRuleService.create(precise, null, 1L));
+    }
+
+    @Test
+    void update_ruleFound_replacesDataAndPassesRuleToPricing() {
+        // Arrange
+        Court court = CourtFactory.createCourt(SurfaceTypeFactory.createSurfaceType());
+        PricingRule rule = PricingRuleFactory.createPricingRule();
+        rule.setId(1);
+        rule.setSurface(SurfaceTypeFactory.createSurfaceType());
+        PricingRule data = PricingRuleFactory.createPricingRule();
+        data.setMultiplier(new BigDecimal("2"));
+        data.setPriority(3);
+        when(pricingRuleRepository.find(1)).thenReturn(rule);
+        when(courtService.findById(1)).thenReturn(court);
+        when(pricingRuleRepository.update(rule)).thenReturn(rule);
+
+        // Act
+        PricingRule updated = pricingRuleService.update(1, data, 1L, null);
+
+        // Assert
+        assertThat(updated.getMultiplier()).isEqualTo(new BigDecimal("2"));
+        assertThat(updated.getPriority()).isEqualTo(3);
+        assertThat(updated.getCourt()).isEqualTo(court);
+        assertThat(updated.getSurface()).isNull();
+        verify(pricingService).ruleSaved(rule);
+    }
+
+    @Test
+    void delete_ruleFound_dropsRuleFromPricing() {
+        // Arrange
+        PricingRule rule = PricingRuleFactory.createPricingRule();
+        rule.setId(1);
+        when(pricingRuleRepository.find(1)).thenReturn(rule);
+        when(pricingRuleRepository.delete(rule)).thenReturn(rule);
+
+        // Act
+        pricingRuleService.delete(1);
+
+        // Assert
+        verify(pricingRuleRepository).delete(rule);
+        verify(pricingService).ruleDeleted(1);
+    }
+}
@@ -0,0 +1,324 @@
+package cz.svonavec.tennis.service;
+
+import cz.svonavec.tennis.factory.CourtFactory;
+import cz.svonavec.tennis.models.entities.Court;
+import cz.svonavec.tennis.models.entities.Reservation;
+import cz.svonavec.tennis.models.entities.SurfaceType;
+import cz.svonavec.tennis.models.entities.PricingRule;
+import cz.svonavec.tennis.models.pricing.PriceTable;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PricingServiceTests {
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    private final PricingService pricingService = new PricingService();
+
+    @Test
+    void cost_randomPricesAndLengths_sameAsCalculatedByReservation() {
+        // Fixed seed, so that a failing case can be reproduced
+        Random random = new Random(20250101L);
+        for (int i = 0; i < 100_000; i++) {
+            // Arrange
+            SurfaceType surface = surface(i + 1, BigDecimal.valueOf(random.nextLong(-1_000_000, 1_000_000),
+                    random.nextInt(-2, 7)));
+            Court court = court(i + 1, surface);
+            LocalDateTime start = START.plusSeconds(random.nextInt(0, 86_400)).plusNanos(random.nextInt(0, 1_000_000_000));
+            LocalDateTime end = start.plusNanos(random.nextLong(-86_400_000_000_000L, 7 * 86_400_000_000_000L));
+            boolean doubles = random.nextBoolean();
+
+            // Act
+            BigDecimal cost = pricingService.cost(court, doubles, start, end);
+
+            // Assert
+            assertThat(cost).as("%s per minute, %s to %s, doubles %s", surface.getCostPerMinute(), start, end, doubles)
+                    .isEqualTo(referenceCost(court, doubles, start, end));
+        }
+    }
+
+    @Test
+    void cost_halfCentResults_roundedHalfUpAwayFromZero() {
+        // Arrange
+        Court court = CourtFactory.createCourt(surface(1, new BigDecimal("0.01")));
+        Court negative = CourtFactory.createCourt(surface(2, new BigDecimal("-0.01")));
+
+        // Act, doubles minute costs 0.015
+        BigDecimal cost = pricingService.cost(court, true, START, START.plusMinutes(1));
+        BigDecimal negativeCost = pricingService.cost(negative, true, START, START.plusMinutes(1));
+
+        // Assert
+        assertThat(cost).isEqualTo(new BigDecimal("0.02"));
+        assertThat(negativeCost).isEqualTo(new BigDecimal("-0.02"));
+    }
+
+    @Test
+    void cost_reservationShorterThanMinute_chargesOneMinute() {
+        // Arrange
+        Court court = CourtFactory.createCourt(surface(1, new BigDecimal("2.50")));
+
+        // Act
+        BigDecimal cost = pricingService.cost(court, false, START, START.plusSeconds(30));
+
+        // Assert
+        assertThat(cost).isEqualTo(new BigDecimal("2.50"));
+    }
+
+    @Test
+    void cost_overflowingLongArithmetic_sameAsCalculatedByReservation() {
+        // Arrange
+        Court court = CourtFactory.createCourt(surface(1, new BigDecimal("9223372036854775.807")));
+        Court precise = CourtFactory.createCourt(surface(2, new BigDecimal("1.0000000000000000000001")));
+        LocalDateTime end = START.plusYears(500);
+
+        // Act
+        BigDecimal cost = pricingService.cost(court, true, START, end);
+        BigDecimal preciseCost = pricingService.cost(precise, false, START, START.plusHours(1));
+
+        // Assert
+        assertThat(cost).isEqualTo(referenceCost(court, true, START, end));
+        assertThat(preciseCost).isEqualTo(referenceCost(precise, false, START, START.plusHours(1)));
+    }
+
+    @Test
+    void cost_noCourt_returnsZero() {
+        // Act
+        BigDecimal cost = pricingService.cost(null, false, START, START.plusHours(1));
+
+        // Assert
+        assertThat(cost).isEqualTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void refresh_priceOfSurfaceChanged_replacesCompiledTable() {
+        // Arrange
+        SurfaceType surface = surface(1, new BigDecimal("1.00"));
+        Court court = court(1, surface);
+        PriceTable table = pricingService.table(court);
+        SurfaceType updated = surface(1, new BigDecimal("2.00"));
+
+        // Act
+        pricingService.refresh(updated);
+
+        // Assert
+        assertThat(pricingService.table(court(1, updated))).isNotSameAs(table);
+        assertThat(pricingService.cost(court(1, updated), false, START, START.plusHours(1)))
+                .isEqualTo(new BigDecimal("120.00"));
+    }
+
+    @Test
+    void cost_surfaceReadBeforeCostChanged_tableOfStaleCostIsNotKept() {
+        // Arrange, a stale copy of the surface was priced after the refresh of the updated surface
+        SurfaceType stale = surface(1, new BigDecimal("1.00"));
+        SurfaceType updated = surface(1, new BigDecimal("2.00"));
+        pricingService.refresh(updated);
+        BigDecimal staleCost = pricingService.cost(court(1, stale), false, START, START.plusHours(1));
+
+        // Act
+        BigDecimal cost = pricingService.cost(court(1, updated), false, START, START.plusHours(1));
+
+        // Assert
+        assertThat(staleCost).isEqualTo(new BigDecimal("60.00"));
+        assertThat(cost).isEqualTo(new BigDecimal("120.00"));
+    }
+
+    @Test
+    void evict_surfaceDeleted_dropsCompiledTable() {
+        // Arrange
+        SurfaceType surface = surface(1, new BigDecimal("1.00"));
+        Court court = court(1, surface);
+        PriceTable table = pricingService.table(court);
+
+        // Act
+        pricingService.evict(1);
+
+        // Assert
+        assertThat(pricingService.table(court)).isNotSameAs(table);
+    }
+
+    @Test
+    void cost_reservationOverlappingPeakHours_pricesEveryMinuteByItsRule() {
+        // Arrange, Wednesday 17:00 to 21:00 costs 1.5 times the price
+        SurfaceType surface = surface(1, new BigDecimal("1.00"));
+        Court court = court(1, surface);
+        pricingService.load(List.of(rule(1, null, surface, DayOfWeek.MONDAY, DayOfWeek.FRIDAY,
+                LocalTime.of(17, 0), LocalTime.of(21, 0), "1.5", 0)));
+        LocalDateTime wednesday = LocalDateTime.of(2025, 1, 1, 16, 0);
+
+        // Act
+        BigDecimal cost = pricingService.cost(court, false, wednesday, wednesday.plusHours(2));
+        BigDecimal doublesCost = pricingService.cost(court, true, wednesday, wednesday.plusHours(2));
+
+        // Assert, 60 minutes for 1.00 and 60 minutes for 1.50
+        assertThat(cost).isEqualTo(new BigDecimal("150.00"));
+        assertThat(doublesCost).isEqualTo(new BigDecimal("225.00"));
+    }
+
+    @Test
+    void cost_overlappingRules_higherPriorityAndCourtRuleWin() {
+        // Arrange
+        SurfaceType surface = surface(1, new BigDecimal("1.00"));
+        Court court = court(1, surface);
+        Court otherCourt = court(2, surface);
+        pricingService.load(List.of(
+                rule(1, null, surface, DayOfWeek.SATURDAY, DayOfWeek.SUNDAY, LocalTime.of(8, 0), LocalTime.MIDNIGHT, "2", 0),
+                rule(2, court, null, DayOfWeek.SATURDAY, DayOfWeek.SATURDAY, LocalTime.of(8, 0), LocalTime.of(10, 0), "3", 0),
+                rule(3, null, surface, DayOfWeek.SATURDAY, DayOfWeek.SATURDAY, LocalTime.of(9, 0), LocalTime.of(10, 0), "0.5", 1)));
+        LocalDateTime saturday = LocalDateTime.of(2025, 1, 4, 8, 0);
+
+        // Act
+        BigDecimal cost = pricingService.cost(court, false, saturday, saturday.plusHours(3));
+        BigDecimal otherCost = pricingService.cost(otherCourt, false, saturday, saturday.plusHours(3));
+
+        // Assert, court: 60 * 3 + 60 * 0.5 + 60 * 2, other court: 60 * 2 + 60 * 0.5 + 60 * 2
+        assertThat(cost).isEqualTo(new BigDecimal("330.00"));
+        assertThat(otherCost).isEqualTo(new BigDecimal("270.00"));
+    }
+
+    @Test
+    void cost_reservationOverEndOfWeek_continuesFromStartOfWeek() {
+        // Arrange, rule wraps from Sunday to Monday
+        SurfaceType surface = surface(1, new BigDecimal("1.00"));
+        Court court = court(1, surface);
+        pricingService.load(List.of(rule(1, null, surface, DayOfWeek.SUNDAY, DayOfWeek.MONDAY,
+                LocalTime.of(0, 0), LocalTime.of(1, 0), "2", 0)));
+        LocalDateTime sunday = LocalDateTime.of(2025, 1, 5, 23, 30);
+
+        // Act
+        BigDecimal cost = pricingService.cost(court, false, sunday, sunday.plusHours(1));
+        BigDecimal weeksCost = pricingService.cost(court, false, sunday, sunday.plusWeeks(2).plusHours(1));
+
+        // Assert, Sunday 23:30 - 24:00 for 1.00, Monday 00:00 - 00:30 for 2.00
+        assertThat(cost).isEqualTo(new BigDecimal("90.00"));
+        // Every week costs 10080 minutes for 1.00 and 120 more for the two hours for 2.00
+        assertThat(weeksCost).isEqualTo(new BigDecimal("20490.00"));
+    }
+
+    @Test
+    void ruleSaved_ruleChanged_recompilesTableOnNextCost() {
+        // Arrange
+        SurfaceType surface = surface(1, new BigDecimal("1.00"));
+        Court court = court(1, surface);
+        PricingRule rule = rule(1, null, surface, DayOfWeek.MONDAY, DayOfWeek.SUNDAY,
+                LocalTime.of(0, 0), LocalTime.MIDNIGHT, "2", 0);
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0);
+        BigDecimal before = pricingService.cost(court, false, start, start.plusHours(1));
+
+        // Act
+        pricingService.ruleSaved(rule);
+        BigDecimal saved = pricingService.cost(court, false, start, start.plusHours(1));
+        pricingService.ruleDeleted(1);
+        BigDecimal deleted = pricingService.cost(court, false, start, start.plusHours(1));
+
+        // Assert
+        assertThat(before).isEqualTo(new BigDecimal("60.00"));
+        assertThat(saved).isEqualTo(new BigDecimal("120.00"));
+        assertThat(deleted).isEqualTo(new BigDecimal("60.00"));
+    }
+
+    @Test
+    void ruleSaved_concurrentChanges_keepsEveryRule() throws Exception {
+        // Arrange, every rule doubles the price of its own hour of Monday
+        SurfaceType surface = surface(1, new BigDecimal("1.00"));
+        Court court = court(1, surface);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        List<Future<?>> saved = new ArrayList<>();
+        for (int hour = 0; hour < 24; hour++) {
+            PricingRule rule = rule(hour + 1, null, surface, DayOfWeek.MONDAY, DayOfWeek.MONDAY,
+                    LocalTime.of(hour, 0), hour == 23 ? LocalTime.MIDNIGHT : LocalTime.of(hour + 1, 0), "2", 0);
+            saved.add(executor.submit(() -> pricingService.ruleSaved(rule)));
+        }
+        for (Future<?> future : saved) {
+            future.get();
+        }
+        executor.shutdown();
+        LocalDateTime monday = LocalDateTime.of(2025, 1, 6, 0, 0);
+
+        // Assert
+        assertThat(pricingService.cost(court, false, monday, monday.plusDays(1))).isEqualTo(new BigDecimal("2880.00"));
+    }
+
+    @Test
+    void table_rulesOfOneWindow_mergesSegmentsWithSamePrice() {
+        // Arrange, two rules with the same price next to each other
+        SurfaceType surface = surface(1, new BigDecimal("1.00"));
+        Court court = court(1, surface);
+        pricingService.load(List.of(
+                rule(1, null, surface, DayOfWeek.MONDAY, DayOfWeek.MONDAY, LocalTime.of(8, 0), LocalTime.of(10, 0), "1.5", 0),
+                rule(2, null, surface, DayOfWeek.MONDAY, DayOfWeek.MONDAY, LocalTime.of(10, 0), LocalTime.of(12, 0), "1.50", 0)));
+
+        // Act
+        PriceTable table = pricingService.table(court);
+
+        // Assert
+        assertThat(table.getStarts()).containsExactly(0, 8 * 60, 12 * 60);
+    }
+
+    @Test
+    void minutes_randomTimes_sameAsDuration() {
+        Random random = new Random(20250102L);
+        for (int i = 0; i < 10_000; i++) {
+            // Arrange
+            LocalDateTime start = START.plusNanos(random.nextLong(0, 86_400_000_000_000L));
+            LocalDateTime end = start.plusNanos(random.nextLong(-86_400_000_000_000L, 86_400_000_000_000L));
+
+            // Assert
+            assertThat(PricingService.minutes(start, end)).isEqualTo(Duration.between(start, end).toMinutes());
+        }
+        assertThat(PricingService.minutes(START, START.plusYears(400)))
+                .isEqualTo(Duration.between(START, START.plusYears(400)).toMinutes());
+    }
+
+    private static Court court(long id, SurfaceType surface) {
+        Court court = CourtFactory.createCourt(surface);
+        court.setId(id);
+        return court;
+    }
+
+    private static PricingRule rule(long id, Court court, SurfaceType surface, DayOfWeek fromDay, DayOfWeek toDay,
+                                    LocalTime startTime, LocalTime endTime, String multiplier, int priority) {
+        PricingRule rule = new PricingRule();
+        rule.setId(id);
+        rule.setCourt(court);
+        rule.setSurface(surface);
+        rule.setFromDay(fromDay);
+        rule.setToDay(toDay);
+        rule.setStartTime(startTime);
+        rule.setEndTime(endTime);
+        rule.setMultiplier(new BigDecimal(multiplier));
+        rule.setPriority(priority);
+        return rule;
+    }
+
+    private static SurfaceType surface(long id, BigDecimal costPerMinute) {
+        SurfaceType surface = new SurfaceType();
+        surface.setId(id);
+        surface.setName("Clay");
+        surface.setCostPerMinute(costPerMinute);
+        return surface;
+    }
+
+    private static BigDecimal referenceCost(Court court, boolean doubles, LocalDateTime start, LocalDateTime end) {
+        Reservation reservation = new Reservation();
+        reservation.setCourt(court);
+        reservation.setDoubles(doubles);
+        reservation.setStartsAt(start);
+        reservation.setEndsAt(end);
+        reservation.calculateCost();
+        return reservation.getCost();
+    }
+}
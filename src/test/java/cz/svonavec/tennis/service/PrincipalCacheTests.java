@@ -0,0 +1,84 @@
+package cz.svonavec.tennis.service;
+
+import cz.svonavec.tennis.exception.ResourceNotFoundException;
+import cz.svonavec.tennis.factory.UserFactory;
+import cz.svonavec.tennis.models.entities.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PrincipalCacheTests {
+    private PrincipalCache principalCache;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(300, 100, new SimpleMeterRegistry());
+        loads.set(0);
+    }
+
+    private User load(String phoneNumber) {
+        loads.incrementAndGet();
+        User user = UserFactory.createUser();
+        user.setPhoneNumber(phoneNumber);
+        return user;
+    }
+
+    @Test
+    void get_sameUserTwice_loadsUserOnce() {
+        // Act
+        User first = principalCache.get("+421123456789", this::load);
+        User second = principalCache.get("+421123456789", this::load);
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(principalCache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void evict_cachedUser_loadsUserAgain() {
+        // Arrange
+        User user = principalCache.get("+421123456789", this::load);
+
+        // Act
+        principalCache.evict(user);
+        principalCache.get("+421123456789", this::load);
+
+        // Assert
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void get_userNotFound_throwsAndCachesNothing() {
+        // Act
+        assertThrows(ResourceNotFoundException.class, () -> principalCache.get("+421123456789", phone -> {
+            throw new ResourceNotFoundException("Couldn't find user with this id.");
+        }));
+        principalCache.get("+421123456789", this::load);
+
+        // Assert
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void tokenVersion_evictedUser_loadsVersionAgain() {
+        // Arrange
+        User user = UserFactory.createUser();
+        user.setId(1L);
+        principalCache.tokenVersion(1L, id -> 0);
+
+        // Act
+        principalCache.evict(user);
+        int version = principalCache.tokenVersion(1L, id -> 1);
+
+        // Assert
+        assertThat(version).isEqualTo(1);
+    }
+}
@@ -0,0 +1,100 @@
+package cz.svonavec.tennis.service;
+
+import cz.svonavec.tennis.exception.BadRequestException;
+import cz.svonavec.tennis.factory.CourtFactory;
+import cz.svonavec.tennis.factory.SurfaceTypeFactory;
+import cz.svonavec.tennis.factory.UserFactory;
+import cz.svonavec.tennis.models.entities.Court;
+import cz.svonavec.tennis.models.entities.Reservation;
+import cz.svonavec.tennis.models.entities.SurfaceType;
+import cz.svonavec.tennis.models.entities.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class ReservationConcurrencyTests {
+    private static final int BOOKINGS = 2000;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private CourtService courtService;
+
+    @Autowired
+    private SurfaceTypeService surfaceTypeService;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void create_concurrentOverlappingBookings_noConflictingReservationsCreated() throws Exception {
+        // Arrange
+        SurfaceType surfaceType = SurfaceTypeFactory.createSurfaceType();
+        surfaceType.setName("Stress " + UUID.randomUUID());
+        surfaceType = surfaceTypeService.create(surfaceType);
+        long courtId = courtService.create(CourtFactory.createCourt(), surfaceType.getId()).getId();
+
+        Random random = new Random(42);
+        User user = UserFactory.createUser();
+        user.setPhoneNumber("+420" + (100000000 + random.nextInt(900000000)));
+        String phoneNumber = userService.register(user, "Password123").getPhoneNumber();
+
+        LocalDateTime day = LocalDateTime.of(2030, 1, 1, 8, 0);
+        List<Callable<Boolean>> bookings = new ArrayList<>();
+        for (int i = 0; i < BOOKINGS; i++) {
+            LocalDateTime start = day.plusMinutes(15L * random.nextInt(48));
+            LocalDateTime end = start.plusMinutes(15L * (1 + random.nextInt(6)));
+            bookings.add(() -> {
+                Reservation reservation = new Reservation();
+                reservation.setStartsAt(start);
+                reservation.setEndsAt(end);
+                try {
+                    reservationService.create(reservation, phoneNumber, courtId);
+                    return true;
+                } catch (BadRequestException e) {
+                    return false;
+                }
+            });
+        }
+
+        // Act
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long created = 0;
+        try {
+            for (Future<Boolean> result : executor.invokeAll(bookings)) {
+                if (result.get()) {
+                    created++;
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Assert
+        List<Reservation> reservations = new ArrayList<>(reservationService.findByCourt(courtId));
+        reservations.sort(Comparator.comparing(Reservation::getStartsAt));
+        assertThat(created).isPositive();
+        assertThat(reservations).hasSize((int) created);
+        for (int i = 1; i < reservations.size(); i++) {
+            assertThat(reservations.get(i - 1).getEndsAt()).isBeforeOrEqualTo(reservations.get(i).getStartsAt());
+        }
+    }
+}
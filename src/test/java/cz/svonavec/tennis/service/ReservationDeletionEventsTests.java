@@ -0,0 +1,124 @@
+package cz.svonavec.tennis.service;
+
+import cz.svonavec.tennis.factory.CourtFactory;
+import cz.svonavec.tennis.factory.SurfaceTypeFactory;
+import cz.svonavec.tennis.factory.UserFactory;
+import cz.svonavec.tennis.models.entities.Reservation;
+import cz.svonavec.tennis.models.entities.SurfaceType;
+import cz.svonavec.tennis.models.entities.User;
+import cz.svonavec.tennis.models.events.ReservationChangedEvent;
+import cz.svonavec.tennis.models.schedule.ScheduleEntry;
+import cz.svonavec.tennis.rest.ReservationStreamHub;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class ReservationDeletionEventsTests {
+    private final Random random = new Random();
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private CourtService courtService;
+
+    @Autowired
+    private SurfaceTypeService surfaceTypeService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @MockitoSpyBean
+    private ReservationStreamHub reservationStreamHub;
+
+    @Test
+    void deleteCourt_reservationsOnSchedule_removesReservationsFromSchedule() {
+        // Arrange
+        LocalDate day = LocalDate.now().plusDays(1);
+        long courtId = createCourt();
+        String phoneNumber = registerUser();
+        long first = book(phoneNumber, courtId, day, 10);
+        long second = book(phoneNumber, courtId, day, 12);
+        assertThat(scheduleService.findDay(day).getCourts().get(courtId))
+                .extracting(ScheduleEntry::getReservationId).containsExactly(first, second);
+
+        // Act
+        courtService.delete(courtId);
+
+        // Assert
+        assertThat(scheduleService.findDay(day).getCourts()).doesNotContainKey(courtId);
+    }
+
+    @Test
+    void deleteCourt_reservationsOfCourt_streamsDeletedChanges() {
+        // Arrange
+        LocalDate day = LocalDate.now().plusDays(2);
+        long courtId = createCourt();
+        String phoneNumber = registerUser();
+        long first = book(phoneNumber, courtId, day, 10);
+        long second = book(phoneNumber, courtId, day, 12);
+
+        // Act
+        courtService.delete(courtId);
+
+        // Assert
+        verify(reservationStreamHub).onReservationChanged(argThat(event -> event.getReservationId() == first
+                && event.getChange() == ReservationChangedEvent.Change.DELETED));
+        verify(reservationStreamHub).onReservationChanged(argThat(event -> event.getReservationId() == second
+                && event.getChange() == ReservationChangedEvent.Change.DELETED));
+    }
+
+    @Test
+    void deleteUser_reservationsOnSchedule_removesOnlyReservationsOfUser() {
+        // Arrange
+        LocalDate day = LocalDate.now().plusDays(1);
+        long courtId = createCourt();
+        String deletedPhoneNumber = registerUser();
+        String otherPhoneNumber = registerUser();
+        book(deletedPhoneNumber, courtId, day, 10);
+        long kept = book(otherPhoneNumber, courtId, day, 12);
+
+        // Act
+        userService.delete(userService.findByPhoneNumber(deletedPhoneNumber).getId());
+
+        // Assert
+        assertThat(scheduleService.findDay(day).getCourts().get(courtId))
+                .extracting(ScheduleEntry::getReservationId).containsExactly(kept);
+    }
+
+    private long createCourt() {
+        SurfaceType surfaceType = SurfaceTypeFactory.createSurfaceType();
+        surfaceType.setName("Deleted " + UUID.randomUUID());
+        surfaceType = surfaceTypeService.create(surfaceType);
+        return courtService.create(CourtFactory.createCourt(), surfaceType.getId()).getId();
+    }
+
+    private String registerUser() {
+        User user = UserFactory.createUser();
+        user.setPhoneNumber("+420" + (100000000 + random.nextInt(900000000)));
+        return userService.register(user, "Password123").getPhoneNumber();
+    }
+
+    private long book(String phoneNumber, long courtId, LocalDate day, int hour) {
+        Reservation reservation = new Reservation();
+        reservation.setStartsAt(day.atTime(hour, 0));
+        reservation.setEndsAt(day.atTime(hour + 1, 0));
+        reservationService.create(reservation, phoneNumber, courtId);
+        return reservation.getId();
+    }
+}
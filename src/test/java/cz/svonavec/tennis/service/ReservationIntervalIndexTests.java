@@ -0,0 +1,103 @@
+package cz.svonavec.tennis.service;
+
+import cz.svonavec.tennis.models.events.ReservationChangedEvent;
+import cz.svonavec.tennis.models.projections.ReservationView;
+import cz.svonavec.tennis.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReservationIntervalIndexTests {
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReservationIntervalIndex intervalIndex;
+
+    @BeforeEach
+    void setUp() {
+        intervalIndex = new ReservationIntervalIndex(reservationRepository, transactionManager, true);
+    }
+
+    @Test
+    void isOverlapping_reservationsOfCourt_allowsTouchingAndReadsCourtOnce() {
+        // Arrange
+        when(reservationRepository.findViewsByCourt(1L)).thenReturn(List.of(
+                view(1L, START, START.plusHours(1)),
+                view(2L, START.plusHours(2), START.plusHours(3))));
+
+        // Act
+        boolean overlapping = intervalIndex.isOverlapping(1L, START.plusMinutes(30), START.plusMinutes(90), 0L);
+        boolean touching = intervalIndex.isOverlapping(1L, START.plusHours(1), START.plusHours(2), 0L);
+        boolean itself = intervalIndex.isOverlapping(1L, START.plusMinutes(150), START.plusMinutes(160), 2L);
+        boolean covering = intervalIndex.isOverlapping(1L, START.minusHours(1), START.plusHours(4), 1L);
+
+        // Assert
+        assertThat(overlapping).isTrue();
+        assertThat(touching).isFalse();
+        assertThat(itself).isFalse();
+        assertThat(covering).isTrue();
+        verify(reservationRepository, times(1)).findViewsByCourt(1L);
+    }
+
+    @Test
+    void onReservationChanged_reservationsCreatedMovedAndDeleted_followsChanges() {
+        // Arrange
+        when(reservationRepository.findViewsByCourt(1L)).thenReturn(List.of(view(1L, START, START.plusHours(1))));
+        intervalIndex.isOverlapping(1L, START, START.plusHours(1), 0L);
+
+        // Act
+        intervalIndex.onReservationChanged(event(ReservationChangedEvent.Change.CREATED, 2L,
+                START.plusHours(4), START.plusHours(5)));
+        intervalIndex.onReservationChanged(event(ReservationChangedEvent.Change.UPDATED, 1L,
+                START.plusHours(2), START.plusHours(3)));
+        intervalIndex.onReservationChanged(event(ReservationChangedEvent.Change.DELETED, 2L,
+                START.plusHours(4), START.plusHours(5)));
+
+        // Assert
+        assertThat(intervalIndex.isOverlapping(1L, START, START.plusHours(1), 0L)).isFalse();
+        assertThat(intervalIndex.isOverlapping(1L, START.plusHours(2), START.plusHours(3), 0L)).isTrue();
+        assertThat(intervalIndex.isOverlapping(1L, START.plusHours(4), START.plusHours(5), 0L)).isFalse();
+    }
+
+    @Test
+    void onReservationChanged_courtNotCheckedYet_readsChangeFromDatabaseLater() {
+        // Arrange
+        intervalIndex.onReservationChanged(event(ReservationChangedEvent.Change.CREATED, 1L,
+                START, START.plusHours(1)));
+        when(reservationRepository.findViewsByCourt(1L)).thenReturn(List.of(view(1L, START, START.plusHours(1))));
+
+        // Act
+        boolean overlapping = intervalIndex.isOverlapping(1L, START, START.plusHours(1), 0L);
+
+        // Assert
+        assertThat(overlapping).isTrue();
+    }
+
+    private static ReservationView view(long id, LocalDateTime startsAt, LocalDateTime endsAt) {
+        return new ReservationView(id, null, startsAt.minusDays(10), false, startsAt, endsAt,
+                BigDecimal.TEN, 1L, null, null, "Court", 1L, null, null, "Clay", BigDecimal.ONE, 1L);
+    }
+
+    private static ReservationChangedEvent event(ReservationChangedEvent.Change change, long id,
+                                                 LocalDateTime startsAt, LocalDateTime endsAt) {
+        return new ReservationChangedEvent(change, id, 1L, false, startsAt, endsAt, BigDecimal.TEN);
+    }
+}
@@ -0,0 +1,147 @@
+package cz.svonavec.tennis.service;
+
+import cz.svonavec.tennis.exception.BadRequestException;
+import cz.svonavec.tennis.exception.ResourceNotFoundException;
+import cz.svonavec.tennis.factory.CourtFactory;
+import cz.svonavec.tennis.factory.ReservationFactory;
+import cz.svonavec.tennis.factory.ReservationSeriesFactory;
+import cz.svonavec.tennis.factory.UserFactory;
+import cz.svonavec.tennis.models.entities.Reservation;
+import cz.svonavec.tennis.models.entities.ReservationSeries;
+import cz.svonavec.tennis.repository.ReservationSeriesRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReservationSeriesServiceTests {
+    private static final LocalDateTime SERIES_END = LocalDateTime.of(2025, 3, 28, 0, 0);
+
+    @Mock
+    private ReservationSeriesRepository reservationSeriesRepository;
+
+    @Mock
+    private ReservationService reservationService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private CourtService courtService;
+
+    @Mock
+    private CourtLocks courtLocks;
+
+    @Spy
+    private PricingService pricingService = new PricingService();
+
+    @InjectMocks
+    private ReservationSeriesService reservationSeriesService;
+
+    @Test
+    void findById_seriesNotFound_throwsResourceNotFoundException() {
+        assertThrows(ResourceNotFoundException.class, () -> reservationSeriesService.findById(1L));
+    }
+
+    @Test
+    void create_noConflicts_createsSeriesWithCostOfOccurrence() {
+        // Arrange
+        ReservationSeries series = newSeries();
+        Reservation other = ReservationFactory.createReservation();
+        other.setStartsAt(LocalDateTime.of(2025, 1, 8, 11, 0));
+        other.setEndsAt(LocalDateTime.of(2025, 1, 8, 12, 0));
+        when(courtService.lockById(1L)).thenReturn(CourtFactory.createCourt());
+        when(userService.findByPhoneNumber("+421123456789")).thenReturn(UserFactory.createUser());
+        when(reservationService.findInWindow(List.of(1L), series.getStartsAt(), SERIES_END))
+                .thenReturn(Map.of(1L, new ArrayList<>(List.of(other))));
+        when(reservationSeriesRepository.create(series)).thenReturn(series);
+
+        // Act
+        ReservationSeries created = reservationSeriesService.create(series, "+421123456789", 1L);
+
+        // Assert
+        assertThat(created.getCost()).isEqualTo(new BigDecimal("60.00"));
+        verify(courtLocks).lock(1L);
+        verify(reservationSeriesRepository).create(series);
+    }
+
+    @Test
+    void create_occurrenceOverlapsReservation_throwsBadRequestException() {
+        // Arrange
+        ReservationSeries series = newSeries();
+        Reservation other = ReservationFactory.createReservation();
+        other.setStartsAt(LocalDateTime.of(2025, 2, 5, 10, 30));
+        other.setEndsAt(LocalDateTime.of(2025, 2, 5, 12, 0));
+        when(courtService.lockById(1L)).thenReturn(CourtFactory.createCourt());
+        when(userService.findByPhoneNumber("+421123456789")).thenReturn(UserFactory.createUser());
+        when(reservationService.findInWindow(List.of(1L), series.getStartsAt(), SERIES_END))
+                .thenReturn(Map.of(1L, new ArrayList<>(List.of(other))));
+
+        // Act
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> reservationSeriesService.create(series, "+421123456789", 1L));
+
+        // Assert
+        assertThat(exception.getMessage()).contains("2025-02-05");
+        verify(reservationSeriesRepository, never()).create(any(ReservationSeries.class));
+    }
+
+    @Test
+    void create_tooManyOccurrences_throwsBadRequestException() {
+        // Arrange
+        ReservationSeries series = newSeries();
+        series.setUntil(LocalDate.of(2027, 1, 1));
+
+        // Act
+        assertThrows(BadRequestException.class, () -> reservationSeriesService.create(series, "+421123456789", 1L));
+    }
+
+    @Test
+    void addException_noOccurrenceOnDate_throwsBadRequestException() {
+        // Arrange
+        when(reservationSeriesRepository.find(1L)).thenReturn(ReservationSeriesFactory.createReservationSeries());
+
+        // Act
+        assertThrows(BadRequestException.class,
+                () -> reservationSeriesService.addException(1L, LocalDate.of(2025, 1, 9)));
+    }
+
+    @Test
+    void addException_occurrenceOnDate_addsException() {
+        // Arrange
+        ReservationSeries series = ReservationSeriesFactory.createReservationSeries();
+        when(reservationSeriesRepository.find(1L)).thenReturn(series);
+        when(reservationSeriesRepository.update(series)).thenReturn(series);
+
+        // Act
+        ReservationSeries updated = reservationSeriesService.addException(1L, LocalDate.of(2025, 1, 8));
+
+        // Assert
+        assertThat(updated.getExceptions()).containsExactly(LocalDate.of(2025, 1, 8));
+    }
+
+    private static ReservationSeries newSeries() {
+        ReservationSeries series = ReservationSeriesFactory.createReservationSeries(null, null);
+        series.setId(0L);
+        series.setCost(null);
+        series.setCreatedAt(null);
+        return series;
+    }
+}
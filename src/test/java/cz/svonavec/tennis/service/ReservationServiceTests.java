@@ -4,26 +4,40 @@ import cz.svonavec.tennis.exception.BadRequestException;
 import cz.svonavec.tennis.exception.ResourceNotFoundException;
 import cz.svonavec.tennis.factory.CourtFactory;
 import cz.svonavec.tennis.factory.ReservationFactory;
+import cz.svonavec.tennis.factory.ReservationSeriesFactory;
 import cz.svonavec.tennis.factory.SurfaceTypeFactory;
 import cz.svonavec.tennis.factory.UserFactory;
+import cz.svonavec.tennis.models.batch.BatchItem;
 import cz.svonavec.tennis.models.entities.Court;
 import cz.svonavec.tennis.models.entities.Reservation;
 import cz.svonavec.tennis.models.entities.SurfaceType;
 import cz.svonavec.tennis.models.entities.User;
+import cz.svonavec.tennis.models.events.ReservationChangedEvent;
+import cz.svonavec.tennis.models.projections.ReservationView;
+import cz.svonavec.tennis.models.quote.QuoteItem;
 import cz.svonavec.tennis.repository.ReservationRepository;
+import cz.svonavec.tennis.repository.ReservationSeriesRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -32,12 +46,27 @@ public class ReservationServiceTests {
     @Mock
     private ReservationRepository reservationRepository;
 
+    @Mock
+    private ReservationSeriesRepository reservationSeriesRepository;
+
     @Mock
     private CourtService courtService;
 
     @Mock
     private UserService userService;
 
+    @Mock
+    private CourtLocks courtLocks;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private PricingService pricingService = new PricingService();
+
+    @Mock
+    private ReservationIntervalIndex intervalIndex;
+
     @InjectMocks
     private ReservationService reservationService;
 
@@ -97,6 +126,50 @@ public class ReservationServiceTests {
         assertThat(reservationsFound.get(1).getCourt().getDescription()).isEqualTo("Other court");
     }
 
+    @Test
+    void findByCourtPage_validLimit_returnsPage() {
+        // Arrange
+        List<ReservationView> reservations = List.of(ReservationFactory.createReservationView(1L),
+                ReservationFactory.createReservationView(2L));
+        when(reservationRepository.findByCourtPage(1L, null, 1)).thenReturn(reservations);
+
+        // Act
+        List<ReservationView> reservationsFound = reservationService.findByCourtPage(1L, null, 1);
+
+        // Assert
+        assertThat(reservationsFound.size()).isEqualTo(2);
+        verify(reservationRepository).findByCourtPage(1L, null, 1);
+    }
+
+    @Test
+    void findStartingBetweenPage_validWindow_returnsPage() {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        List<ReservationView> reservations = List.of(ReservationFactory.createReservationView(1L));
+        when(reservationRepository.findStartingBetweenPage(List.of(1L), from, from.plusDays(1), null, 10))
+                .thenReturn(reservations);
+
+        // Act
+        List<ReservationView> reservationsFound = reservationService.findStartingBetweenPage(List.of(1L), from,
+                from.plusDays(1), null, 10);
+
+        // Assert
+        assertThat(reservationsFound).isEqualTo(reservations);
+    }
+
+    @Test
+    void findStartingBetweenPage_endBeforeStart_throwsBadRequestException() {
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        assertThrows(BadRequestException.class,
+                () -> reservationService.findStartingBetweenPage(null, from, from.minusHours(1), null, 10));
+    }
+
+    @Test
+    void findAllPage_limitTooLarge_throwsBadRequestException() {
+        assertThrows(BadRequestException.class,
+                () -> reservationService.findAllPage(null, ReservationService.MAX_PAGE_SIZE + 1));
+    }
+
     @Test
     void findByCourt_twoReservationsFound_returnsReservations() {
         User user = UserFactory.createUser();
@@ -127,9 +200,9 @@ public class ReservationServiceTests {
         reservation.setCourt(null);
         reservation.setUser(null);
         when(reservationRepository.create(reservation)).thenReturn(ReservationFactory.createReservation());
-        when(courtService.findById(1L)).thenReturn(CourtFactory.createCourt());
+        when(courtService.lockById(1L)).thenReturn(CourtFactory.createCourt());
         when(userService.findByPhoneNumber("+421123456789")).thenReturn(UserFactory.createUser());
-        when(reservationRepository.findByCourt(1L)).thenReturn(List.of());
+        when(reservationRepository.existsOverlapping(1L, reservation.getStartsAt(), reservation.getEndsAt(), 0L)).thenReturn(false);
 
         // Act
         BigDecimal cost = reservationService.create(reservation, "+421123456789", 1L);
@@ -137,8 +210,11 @@ public class ReservationServiceTests {
         // Assert
         assertThat(cost).isEqualTo(BigDecimal.valueOf(60.00));
         verify(reservationRepository).create(reservation);
-        verify(courtService).findById(1L);
-        verify(reservationRepository).findByCourt(1L);
+        verify(courtLocks).lock(1L);
+        verify(courtService).lockById(1L);
+        verify(reservationRepository).existsOverlapping(1L, reservation.getStartsAt(), reservation.getEndsAt(), 0L);
+        verify(eventPublisher).publishEvent(ReservationChangedEvent.of(ReservationChangedEvent.Change.CREATED,
+                ReservationFactory.createReservation()));
     }
 
     @Test
@@ -149,12 +225,44 @@ public class ReservationServiceTests {
         reservation.setCost(BigDecimal.ZERO);
         reservation.setCourt(null);
         reservation.setUser(null);
-        Reservation conflict = ReservationFactory.createReservation();
-        conflict.setId(1L);
-        when(reservationRepository.findByCourt(1L)).thenReturn(List.of(conflict));
+        when(reservationRepository.existsOverlapping(1L, reservation.getStartsAt(), reservation.getEndsAt(), 0L)).thenReturn(true);
 
         // Act
         assertThrows(BadRequestException.class, () -> reservationService.create(reservation, "+421908123456", 1L));
+        verify(eventPublisher, never()).publishEvent(any(ReservationChangedEvent.class));
+    }
+
+    @Test
+    void isOverlapping_indexEnabled_checksIndexInsteadOfDatabase() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0);
+        when(intervalIndex.isEnabled()).thenReturn(true);
+        when(intervalIndex.isOverlapping(1L, start, start.plusHours(1), 0L)).thenReturn(true);
+
+        // Act
+        boolean overlapping = reservationService.isOverlapping(start, start.plusHours(1), 1L, 0L);
+
+        // Assert
+        assertThat(overlapping).isTrue();
+        verify(reservationRepository, never()).existsOverlapping(anyLong(), any(), any(), anyLong());
+    }
+
+    @Test
+    void create_seriesOccurrenceOverlapping_throwsBadRequestException() {
+        // Arrange
+        Reservation reservation = ReservationFactory.createReservation();
+        reservation.setId(0L);
+        reservation.setStartsAt(LocalDateTime.of(2025, 1, 8, 10, 30));
+        reservation.setEndsAt(LocalDateTime.of(2025, 1, 8, 12, 0));
+        when(reservationRepository.existsOverlapping(1L, reservation.getStartsAt(), reservation.getEndsAt(), 0L)).thenReturn(false);
+        when(reservationSeriesRepository.findActive(List.of(1L), LocalDate.of(2025, 1, 7), reservation.getEndsAt()))
+                .thenReturn(List.of(ReservationSeriesFactory.createReservationSeries()));
+
+        // Act
+        assertThrows(BadRequestException.class, () -> reservationService.create(reservation, "+421123456789", 1L));
+
+        // Assert
+        verify(reservationRepository, never()).create(any(Reservation.class));
     }
 
     @Test
@@ -171,10 +279,205 @@ public class ReservationServiceTests {
         assertThrows(BadRequestException.class, () -> reservationService.create(reservation, "+421908123456", 1L));
     }
 
+    @Test
+    void findInWindow_previousReservationReachesIntoWindow_returnsItFirst() {
+        // Arrange
+        Court court = CourtFactory.createCourt();
+        court.setId(1L);
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 10, 0);
+        LocalDateTime to = from.plusHours(4);
+        Reservation previous = batchReservation(from.minusHours(1), from.plusHours(1));
+        previous.setCourt(court);
+        Reservation inWindow = batchReservation(from.plusHours(2), from.plusHours(3));
+        inWindow.setCourt(court);
+        when(reservationRepository.findRunningAt(List.of(1L), from)).thenReturn(List.of(previous));
+        when(reservationRepository.findStartingBetween(List.of(1L), from, to)).thenReturn(List.of(inWindow));
+
+        // Act
+        Map<Long, List<Reservation>> reservations = reservationService.findInWindow(List.of(1L), from, to);
+
+        // Assert
+        assertThat(reservations.get(1L)).containsExactly(previous, inWindow);
+    }
+
+    @Test
+    void findInWindow_severalCourts_readsRunningReservationsOnce() {
+        // Arrange
+        Court court = CourtFactory.createCourt();
+        court.setId(2L);
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 10, 0);
+        LocalDateTime to = from.plusHours(4);
+        Reservation running = batchReservation(from.minusHours(1), from.plusHours(1));
+        running.setCourt(court);
+        List<Long> courtIds = List.of(1L, 2L, 3L);
+        when(reservationRepository.findRunningAt(courtIds, from)).thenReturn(List.of(running));
+
+        // Act
+        Map<Long, List<Reservation>> reservations = reservationService.findInWindow(courtIds, from, to);
+
+        // Assert
+        assertThat(reservations.get(1L)).isEmpty();
+        assertThat(reservations.get(2L)).containsExactly(running);
+        assertThat(reservations.get(3L)).isEmpty();
+        verify(reservationRepository).findRunningAt(courtIds, from);
+    }
+
+    @Test
+    void createBatch_overlappingItems_createsValidItemsAndRejectsOthers() {
+        // Arrange
+        Court court = CourtFactory.createCourt();
+        court.setId(1L);
+        User user = UserFactory.createUser();
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0);
+        Reservation existing = batchReservation(start.plusHours(3), start.plusHours(4));
+        existing.setCourt(court);
+        List<BatchItem> items = List.of(
+                new BatchItem(0, batchReservation(start.plusHours(1), start.plusHours(2)), user.getPhoneNumber(), 1L),
+                new BatchItem(1, batchReservation(start, start.plusHours(1)), user.getPhoneNumber(), 1L),
+                new BatchItem(2, batchReservation(start.plusMinutes(90), start.plusHours(3)), user.getPhoneNumber(), 1L),
+                new BatchItem(3, batchReservation(start.plusMinutes(210), start.plusHours(5)), user.getPhoneNumber(), 1L),
+                new BatchItem(4, batchReservation(start.plusHours(1), start), user.getPhoneNumber(), 1L));
+        when(courtService.lockAllById(any())).thenReturn(List.of(court));
+        when(userService.findByPhoneNumbers(any())).thenReturn(List.of(user));
+        when(reservationRepository.findStartingBetween(any(), any(), any())).thenReturn(List.of(existing));
+
+        // Act
+        List<BatchItem> results = reservationService.createBatch(items);
+
+        // Assert
+        assertThat(results).extracting(BatchItem::isRejected).containsExactly(false, false, true, true, true);
+        assertThat(results.get(2).getError()).isEqualTo("Reservation overlaps with another reservation of the batch.");
+        assertThat(results.get(3).getError())
+                .isEqualTo("There already exists a reservation for this court overlapping with this reservation.");
+        assertThat(results.get(0).getReservation().getCost()).isEqualTo(new BigDecimal("60.00"));
+        verify(courtLocks).lock(any(Collection.class));
+        verify(reservationRepository).createAll(List.of(items.get(1).getReservation(), items.get(0).getReservation()));
+    }
+
+    @Test
+    void createBatch_unknownCourtAndUser_rejectsItems() {
+        // Arrange
+        Court court = CourtFactory.createCourt();
+        court.setId(1L);
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0);
+        List<BatchItem> items = List.of(
+                new BatchItem(0, batchReservation(start, start.plusHours(1)), "+421123456789", 2L),
+                new BatchItem(1, batchReservation(start, start.plusHours(1)), "+421000000000", 1L));
+        when(courtService.lockAllById(any())).thenReturn(List.of(court));
+        when(userService.findByPhoneNumbers(any())).thenReturn(List.of(UserFactory.createUser()));
+
+        // Act
+        List<BatchItem> results = reservationService.createBatch(items);
+
+        // Assert
+        assertThat(results.get(0).getError()).isEqualTo("Couldn't find court with this id.");
+        assertThat(results.get(1).getError()).isEqualTo("Couldn't find user with this phone number.");
+        verify(reservationRepository, never()).createAll(any());
+    }
+
+    @Test
+    void createBatch_emptyBatch_throwsBadRequestException() {
+        assertThrows(BadRequestException.class, () -> reservationService.createBatch(List.of()));
+    }
+
+    @Test
+    void quote_candidatesOverlappingEachOther_quotesCostAndAvailabilityWithoutCreating() {
+        // Arrange
+        Court court = CourtFactory.createCourt();
+        court.setId(1L);
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0);
+        Reservation existing = batchReservation(start.plusHours(3), start.plusHours(4));
+        existing.setCourt(court);
+        List<QuoteItem> items = List.of(
+                new QuoteItem(0, 1L, start.plusHours(2), start.plusHours(3), false),
+                new QuoteItem(1, 1L, start, start.plusHours(1), true),
+                new QuoteItem(2, 1L, start.plusMinutes(30), start.plusMinutes(210), false),
+                new QuoteItem(3, 1L, start.plusHours(4), start.plusHours(5), false));
+        when(courtService.findAllById(any())).thenReturn(List.of(court));
+        when(reservationRepository.findStartingBetween(any(), any(), any())).thenReturn(List.of(existing));
+
+        // Act
+        List<QuoteItem> results = reservationService.quote(items);
+
+        // Assert
+        assertThat(results).extracting(QuoteItem::isAvailable).containsExactly(true, true, false, true);
+        assertThat(results).extracting(QuoteItem::getCost).containsExactly(new BigDecimal("60.00"),
+                new BigDecimal("90.00"), new BigDecimal("180.00"), new BigDecimal("60.00"));
+        verify(reservationRepository).findStartingBetween(Set.of(1L), start, start.plusHours(5));
+        verify(reservationRepository, never()).create(any());
+        verify(courtLocks, never()).lock(any(Collection.class));
+    }
+
+    @Test
+    void quote_reservationRunningAtStartOnOneOfCourts_readsRunningReservationsOfAllCourtsOnce() {
+        // Arrange
+        Court first = CourtFactory.createCourt();
+        first.setId(1L);
+        Court second = CourtFactory.createCourt();
+        second.setId(2L);
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0);
+        Reservation running = batchReservation(start.minusHours(1), start.plusHours(1));
+        running.setCourt(second);
+        List<QuoteItem> items = List.of(
+                new QuoteItem(0, 1L, start, start.plusHours(1), false),
+                new QuoteItem(1, 2L, start.plusMinutes(30), start.plusHours(2), false),
+                new QuoteItem(2, 2L, start.plusHours(1), start.plusHours(2), false));
+        when(courtService.findAllById(any())).thenReturn(List.of(first, second));
+        when(reservationRepository.findRunningAt(Set.of(1L, 2L), start)).thenReturn(List.of(running));
+
+        // Act
+        List<QuoteItem> results = reservationService.quote(items);
+
+        // Assert
+        assertThat(results).extracting(QuoteItem::isAvailable).containsExactly(true, false, true);
+        verify(reservationRepository).findRunningAt(Set.of(1L, 2L), start);
+        verify(reservationRepository).findStartingBetween(Set.of(1L, 2L), start, start.plusHours(2));
+    }
+
+    @Test
+    void quote_unknownCourtAndInvalidTimes_rejectsItems() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0);
+        List<QuoteItem> items = List.of(
+                new QuoteItem(0, 2L, start, start.plusHours(1), false),
+                new QuoteItem(1, 1L, start.plusHours(1), start, false),
+                new QuoteItem(2, null, start, start.plusHours(1), false));
+        when(courtService.findAllById(any())).thenReturn(List.of());
+
+        // Act
+        List<QuoteItem> results = reservationService.quote(items);
+
+        // Assert
+        assertThat(results.get(0).getError()).isEqualTo("Couldn't find court with this id.");
+        assertThat(results.get(1).getError()).isEqualTo("Reservation start date must be before end date.");
+        assertThat(results.get(2).getError()).isEqualTo("Court of the reservation must be set.");
+        assertThat(results.get(0).getCost()).isNull();
+        verify(reservationRepository, never()).findStartingBetween(any(), any(), any());
+    }
+
+    @Test
+    void quote_candidatesTooFarApart_throwsBadRequestException() {
+        // Arrange
+        Court court = CourtFactory.createCourt();
+        court.setId(1L);
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0);
+        List<QuoteItem> items = List.of(
+                new QuoteItem(0, 1L, start, start.plusHours(1), false),
+                new QuoteItem(1, 1L, start.plusDays(40), start.plusDays(40).plusHours(1), false));
+        when(courtService.findAllById(any())).thenReturn(List.of(court));
+
+        // Assert
+        assertThrows(BadRequestException.class, () -> reservationService.quote(items));
+    }
+
+    @Test
+    void quote_emptyQuote_throwsBadRequestException() {
+        assertThrows(BadRequestException.class, () -> reservationService.quote(List.of()));
+    }
+
     @Test
     void update_reservationUpdated_returnsCourt() {
         // Arrange
-        when(reservationRepository.findByCourt(0L)).thenReturn(List.of());
         Reservation foundReservation = ReservationFactory.createReservation();
         foundReservation.setId(1L);
         Reservation update = ReservationFactory.createReservation();
@@ -185,6 +488,7 @@ public class ReservationServiceTests {
         update.setEndsAt(end);
         update.setDoubles(true);
         update.setCost(BigDecimal.ONE);
+        when(reservationRepository.existsOverlapping(0L, start, end, 1L)).thenReturn(false);
         when(reservationRepository.find(1L)).thenReturn(foundReservation);
         when(reservationRepository.update(any(Reservation.class))).thenReturn(update);
 
@@ -223,5 +527,14 @@ public class ReservationServiceTests {
         assertThat(reservation.getId()).isEqualTo(1L);
         verify(reservationRepository).find(1L);
         verify(reservationRepository).delete(ReservationFactory.createReservation());
+        verify(eventPublisher).publishEvent(ReservationChangedEvent.of(ReservationChangedEvent.Change.DELETED,
+                reservationDeleted));
+    }
+
+    private static Reservation batchReservation(LocalDateTime start, LocalDateTime end) {
+        Reservation reservation = new Reservation();
+        reservation.setStartsAt(start);
+        reservation.setEndsAt(end);
+        return reservation;
     }
 }
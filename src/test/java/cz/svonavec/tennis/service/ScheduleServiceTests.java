@@ -0,0 +1,165 @@
+package cz.svonavec.tennis.service;
+
+import cz.svonavec.tennis.models.events.ReservationChangedEvent;
+import cz.svonavec.tennis.models.projections.ReservationView;
+import cz.svonavec.tennis.models.schedule.DaySchedule;
+import cz.svonavec.tennis.models.schedule.ScheduleEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ScheduleServiceTests {
+    private static final LocalDate TODAY = LocalDate.of(2025, 4, 1);
+
+    @Mock
+    private ReservationService reservationService;
+
+    private ScheduleService scheduleService;
+
+    @BeforeEach
+    void setUp() {
+        scheduleService = new ScheduleService(reservationService, 1, 1);
+    }
+
+    @Test
+    void rebuild_reservationsAroundToday_loadsOneRangeIntoSchedules() {
+        // Arrange
+        scan(TODAY.minusDays(1), TODAY.plusDays(2), List.of(
+                view(1L, 1L, TODAY.atTime(10, 0)),
+                view(2L, 2L, TODAY.atTime(9, 0)),
+                view(3L, 1L, TODAY.atTime(8, 0))));
+
+        // Act
+        scheduleService.rebuild(TODAY);
+        DaySchedule schedule = scheduleService.findDay(TODAY);
+
+        // Assert
+        assertThat(schedule.getCourts().keySet()).containsExactly(1L, 2L);
+        assertThat(schedule.getCourts().get(1L)).extracting(ScheduleEntry::getReservationId).containsExactly(3L, 1L);
+        assertThat(scheduleService.findDay(TODAY.plusDays(1)).isEmpty()).isTrue();
+        verify(reservationService, times(1)).scanStartingBetween(any(), any(), any());
+    }
+
+    @Test
+    void onReservationChanged_reservationMovedToOtherDay_movesReservationBetweenSchedules() {
+        // Arrange
+        scan(TODAY.minusDays(1), TODAY.plusDays(2), List.of(view(1L, 1L, TODAY.atTime(10, 0))));
+        scheduleService.rebuild(TODAY);
+
+        // Act
+        scheduleService.onReservationChanged(new ReservationChangedEvent(ReservationChangedEvent.Change.UPDATED, 1L,
+                1L, false, TODAY.plusDays(1).atTime(10, 0), TODAY.plusDays(1).atTime(11, 0), BigDecimal.TEN));
+
+        // Assert
+        assertThat(scheduleService.findDay(TODAY).isEmpty()).isTrue();
+        assertThat(scheduleService.findDay(TODAY.plusDays(1)).getCourts().get(1L))
+                .extracting(ScheduleEntry::getStartsAt).containsExactly(TODAY.plusDays(1).atTime(10, 0));
+    }
+
+    @Test
+    void onReservationChanged_reservationCreatedAndDeleted_updatesSchedule() {
+        // Arrange
+        scan(TODAY.minusDays(1), TODAY.plusDays(2), List.of(view(1L, 1L, TODAY.atTime(10, 0))));
+        scheduleService.rebuild(TODAY);
+
+        // Act
+        scheduleService.onReservationChanged(new ReservationChangedEvent(ReservationChangedEvent.Change.CREATED, 2L,
+                1L, true, TODAY.atTime(8, 0), TODAY.atTime(9, 0), BigDecimal.TEN));
+        scheduleService.onReservationChanged(new ReservationChangedEvent(ReservationChangedEvent.Change.DELETED, 1L,
+                1L, false, TODAY.atTime(10, 0), TODAY.atTime(11, 0), BigDecimal.TEN));
+
+        // Assert
+        assertThat(scheduleService.findDay(TODAY).getCourts().get(1L))
+                .extracting(ScheduleEntry::getReservationId).containsExactly(2L);
+    }
+
+    @Test
+    void findDay_dayNotLoaded_readsDayFromDatabase() {
+        // Arrange
+        LocalDate day = TODAY.plusDays(30);
+        scan(TODAY.minusDays(1), TODAY.plusDays(2), List.of());
+        scan(day, day.plusDays(1), List.of(view(5L, 3L, day.atTime(18, 0))));
+        scheduleService.rebuild(TODAY);
+
+        // Act
+        DaySchedule schedule = scheduleService.findDay(day);
+
+        // Assert
+        assertThat(schedule.getCourts().get(3L)).extracting(ScheduleEntry::getReservationId).containsExactly(5L);
+    }
+
+    @Test
+    void roll_nextDay_dropsExpiredDayAndLoadsOnlyNewDay() {
+        // Arrange
+        scan(TODAY.minusDays(1), TODAY.plusDays(2), List.of(
+                view(1L, 1L, TODAY.minusDays(1).atTime(10, 0)),
+                view(2L, 1L, TODAY.atTime(10, 0))));
+        scan(TODAY.plusDays(2), TODAY.plusDays(3), List.of(view(3L, 2L, TODAY.plusDays(2).atTime(9, 0))));
+        scan(TODAY.minusDays(1), TODAY, List.of());
+        scheduleService.rebuild(TODAY);
+
+        // Act
+        scheduleService.roll(TODAY.plusDays(1));
+
+        // Assert
+        assertThat(scheduleService.findDay(TODAY).getCourts().get(1L))
+                .extracting(ScheduleEntry::getReservationId).containsExactly(2L);
+        assertThat(scheduleService.findDay(TODAY.plusDays(2)).getCourts().get(2L))
+                .extracting(ScheduleEntry::getReservationId).containsExactly(3L);
+        assertThat(scheduleService.findDay(TODAY.minusDays(1)).isEmpty()).isTrue();
+        verify(reservationService).scanStartingBetween(eq(TODAY.minusDays(1).atStartOfDay()),
+                eq(TODAY.atStartOfDay()), any());
+    }
+
+    @Test
+    void rebuild_reservationChangedDuringScan_keepsCommittedChange() {
+        // Arrange
+        ReservationChangedEvent deleted = new ReservationChangedEvent(ReservationChangedEvent.Change.DELETED, 1L,
+                1L, false, TODAY.atTime(10, 0), TODAY.atTime(11, 0), BigDecimal.TEN);
+        doAnswer(invocation -> {
+            Consumer<ReservationView> consumer = invocation.getArgument(2);
+            consumer.accept(view(1L, 1L, TODAY.atTime(10, 0)));
+            scheduleService.onReservationChanged(deleted);
+            consumer.accept(view(2L, 1L, TODAY.atTime(12, 0)));
+            return null;
+        }).when(reservationService).scanStartingBetween(eq(TODAY.minusDays(1).atStartOfDay()),
+                eq(TODAY.plusDays(2).atStartOfDay()), any());
+
+        // Act
+        scheduleService.rebuild(TODAY);
+
+        // Assert
+        assertThat(scheduleService.findDay(TODAY).getCourts().get(1L))
+                .extracting(ScheduleEntry::getReservationId).containsExactly(2L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void scan(LocalDate from, LocalDate to, List<ReservationView> reservations) {
+        doAnswer(invocation -> {
+            Consumer<ReservationView> consumer = invocation.getArgument(2);
+            reservations.forEach(consumer);
+            return null;
+        }).when(reservationService).scanStartingBetween(eq(from.atStartOfDay()), eq(to.atStartOfDay()), any());
+    }
+
+    private static ReservationView view(long id, long courtId, LocalDateTime startsAt) {
+        return new ReservationView(id, null, startsAt.minusDays(10), false, startsAt, startsAt.plusHours(1),
+                BigDecimal.TEN, courtId, null, null, "Court", 1L, null, null, "Clay", BigDecimal.ONE, 1L);
+    }
+}
@@ -16,6 +16,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,6 +24,12 @@ public class SurfaceTypeServiceTests {
     @Mock
     private SurfaceTypeRepository surfaceTypeRepository;
 
+    @Mock
+    private TableVersions tableVersions;
+
+    @Mock
+    private PricingService pricingService;
+
     @InjectMocks
     private SurfaceTypeService surfaceTypeService;
 
@@ -73,6 +80,7 @@ public class SurfaceTypeServiceTests {
         // Assert
         assertThat(surfaceType).isEqualTo(SurfaceTypeFactory.createSurfaceType());
         assertThat(surfaceType.getId()).isEqualTo(1);
+        verify(pricingService).refresh(surfaceTypeCreate);
     }
 
     @Test
@@ -99,6 +107,8 @@ public class SurfaceTypeServiceTests {
         // Assert
         assertThat(surfaceType).isEqualTo(surfaceTypeUpdate);
         assertThat(surfaceType.getName()).isEqualTo("NewName");
+        verify(tableVersions).bump(TableVersions.SURFACES);
+        verify(pricingService).refresh(surfaceTypeUpdate);
     }
 
     @Test
@@ -124,5 +134,6 @@ public class SurfaceTypeServiceTests {
 
         // Assert
         assertThat(surfaceType.getDeletedAt()).isNotNull();
+        verify(pricingService).evict(1);
     }
 }
@@ -0,0 +1,49 @@
+package cz.svonavec.tennis.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TableVersionsTests {
+    private final TableVersions tableVersions = new TableVersions();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void bump_outsideOfTransaction_changesETagRightAway() {
+        // Arrange
+        String etag = tableVersions.etag(TableVersions.COURTS, TableVersions.SURFACES);
+
+        // Act
+        tableVersions.bump(TableVersions.SURFACES);
+
+        // Assert
+        assertThat(tableVersions.version(TableVersions.SURFACES)).isEqualTo(1);
+        assertThat(tableVersions.etag(TableVersions.COURTS, TableVersions.SURFACES)).isNotEqualTo(etag);
+    }
+
+    @Test
+    void bump_insideOfTransaction_changesVersionOnlyAfterCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        tableVersions.bump(TableVersions.COURTS);
+        long beforeCommit = tableVersions.version(TableVersions.COURTS);
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+
+        // Assert
+        assertThat(beforeCommit).isEqualTo(0);
+        assertThat(tableVersions.version(TableVersions.COURTS)).isEqualTo(1);
+    }
+}
@@ -9,22 +9,29 @@ import cz.svonavec.tennis.models.entities.Court;
 import cz.svonavec.tennis.models.entities.Role;
 import cz.svonavec.tennis.models.entities.SurfaceType;
 import cz.svonavec.tennis.models.entities.User;
+import cz.svonavec.tennis.models.events.ReservationChangedEvent;
+import cz.svonavec.tennis.models.projections.ReservationView;
+import cz.svonavec.tennis.repository.ReservationRepository;
 import cz.svonavec.tennis.repository.UserRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -36,6 +43,15 @@ public class UserServiceTests {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -73,6 +89,43 @@ public class UserServiceTests {
         assertThrows(ResourceNotFoundException.class, () -> userService.findByPhoneNumber("+421123456789"));
     }
 
+    @Test
+    void findPrincipal_userCached_returnsCachedUser() {
+        // Arrange
+        when(principalCache.get(eq("+421123456789"), any())).thenReturn(UserFactory.createUser());
+
+        // Act
+        User user = userService.findPrincipal("+421123456789");
+
+        // Assert
+        assertThat(user).isEqualTo(UserFactory.createUser());
+        verify(principalCache).get(eq("+421123456789"), any());
+    }
+
+    @Test
+    void isTokenVersionCurrent_currentVersion_returnsTrue() {
+        // Arrange
+        when(principalCache.tokenVersion(eq(1L), any())).thenReturn(2);
+
+        // Act
+        boolean result = userService.isTokenVersionCurrent(1L, 2);
+
+        // Assert
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    void isTokenVersionCurrent_revokedVersion_returnsFalse() {
+        // Arrange
+        when(principalCache.tokenVersion(eq(1L), any())).thenReturn(3);
+
+        // Act
+        boolean result = userService.isTokenVersionCurrent(1L, 2);
+
+        // Assert
+        assertThat(result).isFalse();
+    }
+
     @Test
     void loadUserByUsername_userFound_returnsUser() {
         // Arrange
@@ -166,16 +219,19 @@ public class UserServiceTests {
         userUpdate.setId(1L);
 
         when(userRepository.find(1L)).thenReturn(UserFactory.createUser());
-        when(userRepository.update(userUpdate)).thenReturn(userUpdate);
+        when(userRepository.update(any(User.class))).thenReturn(userUpdate);
+        ArgumentCaptor<User> updated = ArgumentCaptor.forClass(User.class);
 
         // Act
         User user = userService.update(userUpdate);
 
         // Assert
         assertThat(user).isEqualTo(userUpdate);
-        assertThat(user.getName()).isEqualTo("Pokemon");
-        assertThat(user.getRoles()).isEqualTo(List.of(Role.USER, Role.ADMIN));
-        verify(userRepository).update(userUpdate);
+        verify(userRepository).update(updated.capture());
+        assertThat(updated.getValue().getName()).isEqualTo("Pokemon");
+        assertThat(updated.getValue().getRoles()).isEqualTo(List.of(Role.USER, Role.ADMIN));
+        assertThat(updated.getValue().getTokenVersion()).isEqualTo(1);
+        verify(principalCache).evict(any(User.class));
     }
 
     @Test
@@ -209,5 +265,23 @@ public class UserServiceTests {
         assertThat(user.getDeletedAt()).isNotNull();
         assertThat(user.getId()).isEqualTo(1L);
         verify(userRepository).find(1L);
+        verify(principalCache).evict(any(User.class));
+    }
+
+    @Test
+    void delete_userWithReservations_publishesDeletedReservations() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.of(2025, 4, 1, 10, 0);
+        ReservationView reservation = new ReservationView(7L, null, start.minusDays(1), false, start,
+                start.plusHours(1), BigDecimal.TEN, 3L, null, null, "Court", 1L, null, null, "Clay", BigDecimal.ONE, 1L);
+        when(userRepository.find(1L)).thenReturn(UserFactory.createUser());
+        when(reservationRepository.findViewsByUser(1L)).thenReturn(List.of(reservation));
+
+        // Act
+        userService.delete(1L);
+
+        // Assert
+        verify(eventPublisher).publishEvent(new ReservationChangedEvent(ReservationChangedEvent.Change.DELETED, 7L,
+                3L, false, start, start.plusHours(1), BigDecimal.TEN));
     }
 }